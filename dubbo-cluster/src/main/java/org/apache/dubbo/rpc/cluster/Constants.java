@@ -78,6 +78,13 @@ public interface Constants {
 
     String RUNTIME_KEY = "runtime";
 
+    /**
+     * whether the router chain routes on the bitmaps of the invokers precomputed per routing key
+     */
+    String ROUTER_CACHE_KEY = "router.cache";
+
+    boolean DEFAULT_ROUTER_CACHE = true;
+
     String WARMUP_KEY = "warmup";
 
     int DEFAULT_WARMUP = 10 * 60 * 1000;
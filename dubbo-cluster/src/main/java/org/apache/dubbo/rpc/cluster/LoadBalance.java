@@ -47,4 +47,15 @@ public interface LoadBalance {
     @Adaptive("loadbalance")
     <T> Invoker<T> select(List<Invoker<T>> invokers, URL url, Invocation invocation) throws RpcException;
 
+    /**
+     * Notify the invokers of a service changed, for the state kept about the invokers removed to be released
+     * right away rather than expire.
+     *
+     * @param url     refer url
+     * @param added   the invokers added since the last notification
+     * @param removed the invokers removed since the last notification
+     */
+    default <T> void notify(URL url, List<Invoker<T>> added, List<Invoker<T>> removed) {
+    }
+
 }
\ No newline at end of file
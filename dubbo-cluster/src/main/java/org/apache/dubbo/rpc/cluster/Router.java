@@ -65,6 +65,19 @@ public interface Router extends Comparable<Router> {
 
     }
 
+    /**
+     * Notify the router the invoker list along with the invokers changed since the last notification, for the router
+     * to update what it prepared rather than prepare again.
+     *
+     * @param invokers invoker list
+     * @param added    the invokers added since the last notification
+     * @param removed  the invokers removed since the last notification
+     * @param <T>      invoker's type
+     */
+    default <T> void notify(List<Invoker<T>> invokers, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        notify(invokers);
+    }
+
     /**
      * To decide whether this router need to execute every time an RPC comes or should only execute when addresses or
      * rule change.
@@ -21,12 +21,22 @@ import org.apache.dubbo.common.extension.ExtensionLoader;
 import org.apache.dubbo.common.utils.CollectionUtils;
 import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
+import static org.apache.dubbo.rpc.cluster.Constants.DEFAULT_ROUTER_CACHE;
+import static org.apache.dubbo.rpc.cluster.Constants.ROUTER_CACHE_KEY;
+
 /**
  * Router chain
  */
@@ -42,11 +52,28 @@ public class RouterChain<T> {
     // instance will never delete or recreate.
     private List<Router> builtinRouters = Collections.emptyList();
 
+    /**
+     * whether the leading {@link BitmapRouter}s route on the bitmaps of their {@link RouterCache}s
+     */
+    private final boolean cacheEnabled;
+
+    // the route caches of the routers, by the index of the router
+    @SuppressWarnings("unchecked")
+    private volatile RouterCache<T>[] routerCaches = new RouterCache[0];
+
+    // the invoker lists of the bitmaps routed to most often, for the current invokers
+    private volatile RoutedInvokers<T> routedInvokers = new RoutedInvokers<>(Collections.emptyList());
+
+    // the refer url the calls are routed with, the routes are precomputed for once the invokers change
+    private volatile URL routeUrl;
+
     public static <T> RouterChain<T> buildChain(URL url) {
         return new RouterChain<>(url);
     }
 
     private RouterChain(URL url) {
+        this.cacheEnabled = url.getParameter(ROUTER_CACHE_KEY, DEFAULT_ROUTER_CACHE);
+
         List<RouterFactory> extensionFactories = ExtensionLoader.getExtensionLoader(RouterFactory.class)
                 .getActivateExtension(url, "router");
 
@@ -88,6 +115,8 @@ public class RouterChain<T> {
     }
 
     /**
+     * The leading {@link BitmapRouter}s route on the bitmaps of the invokers, and the invokers are only listed for
+     * the routers after them.
      *
      * @param url
      * @param invocation
@@ -95,8 +124,29 @@ public class RouterChain<T> {
      */
     public List<Invoker<T>> route(URL url, Invocation invocation) {
         List<Invoker<T>> finalInvokers = invokers;
-        for (Router router : routers) {
-            finalInvokers = router.route(finalInvokers, url, invocation);
+        List<Router> routers = this.routers;
+        int i = 0;
+        if (cacheEnabled && !finalInvokers.isEmpty()) {
+            if (routeUrl != url) {
+                routeUrl = url;
+            }
+            RouterCache<T>[] caches = getRouterCaches(routers.size());
+            BitSet bitmap = null;
+            for (; i < routers.size() && routers.get(i) instanceof BitmapRouter; i++) {
+                BitmapRouter router = (BitmapRouter) routers.get(i);
+                RouterCache<T> cache = getRouterCache(caches, i, router, finalInvokers, url);
+                bitmap = router.route(bitmap == null ? cache.getAll() : bitmap, cache, url, invocation);
+            }
+            if (bitmap != null && bitmap.cardinality() != finalInvokers.size()) {
+                finalInvokers = toInvokers(finalInvokers, bitmap);
+                if (i < routers.size()) {
+                    // the routers to come may change it, and it is shared
+                    finalInvokers = new ArrayList<>(finalInvokers);
+                }
+            }
+        }
+        for (; i < routers.size(); i++) {
+            finalInvokers = routers.get(i).route(finalInvokers, url, invocation);
         }
         return finalInvokers;
     }
@@ -108,5 +158,154 @@ public class RouterChain<T> {
     public void setInvokers(List<Invoker<T>> invokers) {
         this.invokers = (invokers == null ? Collections.emptyList() : invokers);
         routers.forEach(router -> router.notify(this.invokers));
+        precompute(routeUrl);
+    }
+
+    /**
+     * Notify router chain of the addresses changed in registry, the routes computed for the addresses unchanged being
+     * carried over.
+     *
+     * @param url      the refer url the calls are routed with, as it is at the time of the notification
+     * @param invokers the addresses, those notified before less the removed ones, in order, followed by the added ones
+     * @param added    the addresses added since the last notification
+     * @param removed  the addresses removed since the last notification
+     */
+    public void setInvokers(URL url, List<Invoker<T>> invokers, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        if (url != null) {
+            routeUrl = url;
+        } else {
+            url = routeUrl;
+        }
+        List<Invoker<T>> oldInvokers = this.invokers;
+        this.invokers = (invokers == null ? Collections.emptyList() : invokers);
+        routers.forEach(router -> router.notify(this.invokers, added, removed));
+        if (oldInvokers != this.invokers && !updateRouterCaches(oldInvokers, added, removed, url)) {
+            precompute(url);
+        }
+    }
+
+    private boolean updateRouterCaches(List<Invoker<T>> oldInvokers, List<Invoker<T>> added, List<Invoker<T>> removed,
+                                       URL url) {
+        if (!cacheEnabled || url == null || oldInvokers.isEmpty() || invokers.isEmpty()) {
+            return false;
+        }
+        int[] indexes = getIndexes(oldInvokers, added, removed);
+        if (indexes == null) {
+            return false;
+        }
+        List<Router> routers = this.routers;
+        RouterCache<T>[] caches = getRouterCaches(routers.size());
+        for (int i = 0; i < routers.size() && routers.get(i) instanceof BitmapRouter; i++) {
+            RouterCache<T> cache = caches[i];
+            if (cache != null && cache.getInvokers() == oldInvokers && cache.isValid(routers.get(i), url)) {
+                caches[i] = cache.update(invokers, indexes);
+            } else {
+                getRouterCache(caches, i, (BitmapRouter) routers.get(i), invokers, url);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the indexes in the current invokers of the old ones, -1 for the removed ones, or null if the current
+     * invokers are not the old ones less the removed ones followed by the added ones.
+     */
+    private int[] getIndexes(List<Invoker<T>> oldInvokers, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        if (invokers.size() != oldInvokers.size() - removed.size() + added.size()) {
+            return null;
+        }
+        Set<Invoker<T>> removedInvokers = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedInvokers.addAll(removed);
+        int[] indexes = new int[oldInvokers.size()];
+        int index = 0;
+        for (int i = 0; i < oldInvokers.size(); i++) {
+            Invoker<T> invoker = oldInvokers.get(i);
+            if (removedInvokers.contains(invoker)) {
+                indexes[i] = -1;
+            } else if (index < invokers.size() && invokers.get(index) == invoker) {
+                indexes[i] = index++;
+            } else {
+                return null;
+            }
+        }
+        for (Invoker<T> invoker : added) {
+            if (index >= invokers.size() || invokers.get(index++) != invoker) {
+                return null;
+            }
+        }
+        return index == invokers.size() ? indexes : null;
+    }
+
+    private void precompute(URL url) {
+        if (!cacheEnabled || url == null || invokers.isEmpty()) {
+            return;
+        }
+        List<Router> routers = this.routers;
+        RouterCache<T>[] caches = getRouterCaches(routers.size());
+        for (int i = 0; i < routers.size() && routers.get(i) instanceof BitmapRouter; i++) {
+            getRouterCache(caches, i, (BitmapRouter) routers.get(i), invokers, url);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RouterCache<T>[] getRouterCaches(int size) {
+        RouterCache<T>[] caches = routerCaches;
+        if (caches.length != size) {
+            caches = new RouterCache[size];
+            routerCaches = caches;
+        }
+        return caches;
+    }
+
+    private RouterCache<T> getRouterCache(RouterCache<T>[] caches, int index, BitmapRouter router,
+                                          List<Invoker<T>> invokers, URL url) {
+        RouterCache<T> cache = caches[index];
+        if (cache == null || !cache.isValid(router, invokers, url)) {
+            // the invokers, the url or the rule changed, the racing calls computing the same routes at worst
+            cache = new RouterCache<>(router, invokers, url);
+            router.precompute(cache);
+            caches[index] = cache;
+        }
+        return cache;
+    }
+
+    private List<Invoker<T>> toInvokers(List<Invoker<T>> invokers, BitSet bitmap) {
+        RoutedInvokers<T> routed = routedInvokers;
+        if (routed.invokers != invokers) {
+            routed = new RoutedInvokers<>(invokers);
+            routedInvokers = routed;
+        }
+        return routed.get(bitmap);
+    }
+
+    /**
+     * The invoker lists of the routed bitmaps, so that the calls routed the same share one.
+     */
+    private static final class RoutedInvokers<T> {
+
+        private static final int MAX_LISTS = 64;
+
+        private final List<Invoker<T>> invokers;
+
+        private final ConcurrentMap<BitSet, List<Invoker<T>>> lists = new ConcurrentHashMap<>();
+
+        private RoutedInvokers(List<Invoker<T>> invokers) {
+            this.invokers = invokers;
+        }
+
+        private List<Invoker<T>> get(BitSet bitmap) {
+            List<Invoker<T>> list = lists.get(bitmap);
+            if (list == null) {
+                List<Invoker<T>> result = new ArrayList<>(bitmap.cardinality());
+                for (int i = bitmap.nextSetBit(0); i >= 0; i = bitmap.nextSetBit(i + 1)) {
+                    result.add(invokers.get(i));
+                }
+                list = Collections.unmodifiableList(result);
+                if (lists.size() < MAX_LISTS) {
+                    lists.putIfAbsent(bitmap, list);
+                }
+            }
+            return list;
+        }
     }
 }
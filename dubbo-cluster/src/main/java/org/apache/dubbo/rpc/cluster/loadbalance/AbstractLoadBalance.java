@@ -96,4 +96,20 @@ public abstract class AbstractLoadBalance implements LoadBalance {
         }
         return Math.max(weight, 0);
     }
+
+    /**
+     * Whether the weight of the invoker is still reduced for the warmup, at the given time
+     *
+     * @param invoker the invoker
+     * @param now     the time in milliseconds
+     * @return whether the invoker is warming up
+     */
+    boolean isWarmingUp(Invoker<?> invoker, long now) {
+        URL url = invoker.getUrl();
+        if (REGISTRY_SERVICE_REFERENCE_PATH.equals(url.getServiceInterface())) {
+            return false;
+        }
+        long timestamp = url.getParameter(TIMESTAMP_KEY, 0L);
+        return timestamp > 0L && now - timestamp < url.getParameter(WARMUP_KEY, DEFAULT_WARMUP);
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class select one provider from multiple providers randomly by their weights, as {@link RandomLoadBalance}
+ * does, but in constant time: the weights of an invoker list are turned once into an alias table (Vose's alias
+ * method), which then gives an invoker from one random index and one random coin.
+ * <p>
+ * The tables are kept by invoker list and method, and are built again when the invoker list changes. While an
+ * invoker warms up, the table of its list is built again every {@link #WARMUP_REFRESH_PERIOD} milliseconds for the
+ * weight to follow its uptime.
+ */
+public class AliasRandomLoadBalance extends AbstractLoadBalance {
+
+    public static final String NAME = "aliasrandom";
+
+    /**
+     * the invoker lists of a method whose tables are kept at once, as with the lists routed by tag
+     */
+    private static final int TABLES = 8;
+
+    private static final int WARMUP_REFRESH_PERIOD = 1000;
+
+    /**
+     * the alias tables by service key and method name, in slots picked by the identity of the invoker list
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicReferenceArray<AliasTable>>> serviceTables = new ConcurrentHashMap<>();
+
+    @Override
+    protected <T> Invoker<T> doSelect(List<Invoker<T>> invokers, URL url, Invocation invocation) {
+        AtomicReferenceArray<AliasTable> tables = getTables(invokers.get(0).getUrl().getServiceKey(),
+                invocation.getMethodName() == null ? "" : invocation.getMethodName());
+        int slot = System.identityHashCode(invokers) & (TABLES - 1);
+        AliasTable table = tables.get(slot);
+        if (table == null || table.invokers != invokers
+                || (table.expireAt != Long.MAX_VALUE && System.currentTimeMillis() >= table.expireAt)) {
+            table = buildTable(invokers, invocation);
+            tables.set(slot, table);
+        }
+        return invokers.get(table.select(ThreadLocalRandom.current()));
+    }
+
+    @Override
+    public <T> void notify(URL url, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        // the invoker lists change, the tables of the lists before are only released, for each service key as a
+        // directory merging several groups notifies the invokers of all of them at once
+        removed.forEach(invoker -> serviceTables.remove(invoker.getUrl().getServiceKey()));
+        added.forEach(invoker -> serviceTables.remove(invoker.getUrl().getServiceKey()));
+    }
+
+    private AtomicReferenceArray<AliasTable> getTables(String serviceKey, String methodName) {
+        ConcurrentMap<String, AtomicReferenceArray<AliasTable>> methodTables = serviceTables.get(serviceKey);
+        if (methodTables == null) {
+            methodTables = serviceTables.computeIfAbsent(serviceKey, k -> new ConcurrentHashMap<>());
+        }
+        AtomicReferenceArray<AliasTable> tables = methodTables.get(methodName);
+        if (tables == null) {
+            tables = methodTables.computeIfAbsent(methodName, k -> new AtomicReferenceArray<>(TABLES));
+        }
+        return tables;
+    }
+
+    private <T> AliasTable buildTable(List<Invoker<T>> invokers, Invocation invocation) {
+        long now = System.currentTimeMillis();
+        int length = invokers.size();
+        int[] weights = new int[length];
+        long totalWeight = 0;
+        boolean sameWeight = true;
+        boolean warmingUp = false;
+        for (int i = 0; i < length; i++) {
+            Invoker<T> invoker = invokers.get(i);
+            weights[i] = getWeight(invoker, invocation);
+            totalWeight += weights[i];
+            sameWeight = sameWeight && weights[i] == weights[0];
+            warmingUp = warmingUp || isWarmingUp(invoker, now);
+        }
+        long expireAt = warmingUp ? now + WARMUP_REFRESH_PERIOD : Long.MAX_VALUE;
+        if (totalWeight <= 0 || sameWeight) {
+            return new AliasTable(invokers, null, null, expireAt);
+        }
+
+        // Vose's alias method: every index keeps its own weight up to the average, and the rest of its column is
+        // filled with an index above the average
+        double[] scaled = new double[length];
+        int[] small = new int[length];
+        int[] large = new int[length];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < length; i++) {
+            scaled[i] = (double) weights[i] * length / totalWeight;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        double[] probabilities = new double[length];
+        int[] aliases = new int[length];
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // what is left is at the average, but for the rounding errors
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1.0;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1.0;
+        }
+        return new AliasTable(invokers, probabilities, aliases, expireAt);
+    }
+
+    private static final class AliasTable {
+
+        private final List<?> invokers;
+
+        /**
+         * the probability of every index to be selected rather than its alias, null if the weights are all the same
+         */
+        private final double[] probabilities;
+
+        private final int[] aliases;
+
+        /**
+         * the time the table is built again at, for the invokers warming up
+         */
+        private final long expireAt;
+
+        private AliasTable(List<?> invokers, double[] probabilities, int[] aliases, long expireAt) {
+            this.invokers = invokers;
+            this.probabilities = probabilities;
+            this.aliases = aliases;
+            this.expireAt = expireAt;
+        }
+
+        private int select(ThreadLocalRandom random) {
+            int index = random.nextInt(invokers.size());
+            if (probabilities == null || random.nextDouble() < probabilities[index]) {
+                return index;
+            }
+            return aliases[index];
+        }
+    }
+}
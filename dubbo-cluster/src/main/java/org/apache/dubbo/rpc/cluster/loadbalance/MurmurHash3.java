@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+/**
+ * The mixing steps of MurmurHash3 (x86, 32 bits), over 32 bits blocks fed one at a time so that values are hashed
+ * with no byte array: start with a seed, {@link #update} the blocks, then {@link #finish} with the length in bytes.
+ */
+final class MurmurHash3 {
+
+    private static final int C1 = 0xcc9e2d51;
+
+    private static final int C2 = 0x1b873593;
+
+    private MurmurHash3() {
+    }
+
+    static int update(int hash, int block) {
+        int k = block * C1;
+        k = Integer.rotateLeft(k, 15);
+        k *= C2;
+        hash ^= k;
+        hash = Integer.rotateLeft(hash, 13);
+        return hash * 5 + 0xe6546b64;
+    }
+
+    /**
+     * Feed the chars of the sequence, two by block.
+     */
+    static int update(int hash, CharSequence chars) {
+        int length = chars.length();
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            hash = update(hash, chars.charAt(i) | (chars.charAt(i + 1) << 16));
+        }
+        if (i < length) {
+            hash = update(hash, chars.charAt(i));
+        }
+        return hash;
+    }
+
+    static int update(int hash, long value) {
+        return update(update(hash, (int) value), (int) (value >>> 32));
+    }
+
+    static int finish(int hash, int length) {
+        hash ^= length;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static int hash(CharSequence chars, int seed) {
+        return finish(update(seed, chars), chars.length() * 2);
+    }
+
+    /**
+     * The 64 bits finalizer, to spread a hash over a long.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.support.RpcUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.apache.dubbo.common.constants.CommonConstants.COMMA_SPLIT_PATTERN;
+import static org.apache.dubbo.rpc.cluster.loadbalance.ConsistentHashLoadBalance.HASH_ARGUMENTS;
+import static org.apache.dubbo.rpc.cluster.loadbalance.ConsistentHashLoadBalance.HASH_NODES;
+
+/**
+ * MurmurHashLoadBalance
+ * </p>
+ * Select the invoker of the hash of the arguments, as {@link ConsistentHashLoadBalance} does, hashing with MurmurHash3
+ * rather than MD5 and selecting with no allocation:
+ * <ul>
+ * <li>the strings are hashed by their chars and the integers by their value, other arguments by their
+ * <code>toString()</code></li>
+ * <li><b>ring</b>, by default: the hash ring of <code>hash.nodes</code> virtual nodes by invoker, searched in a sorted
+ * array</li>
+ * <li><b>jump</b>: the jump consistent hash of Lamping and Veach, on the invokers sorted by address, with no memory
+ * but moving the keys of all the invokers after the one added or removed</li>
+ * <li><b>maglev</b>: the lookup table of Maglev, of at least 100 entries by invoker, even and mostly stable</li>
+ * </ul>
+ * A selector is kept by the set of invokers rather than by the list, so that the lists routed with the same invokers
+ * share it, and those of a few sets are kept by method at once, for the lists routed apart not to rebuild them in turn.
+ */
+public class MurmurHashLoadBalance extends AbstractLoadBalance {
+
+    public static final String NAME = "murmurhash";
+
+    /**
+     * Hash algorithm name: ring, jump or maglev
+     */
+    public static final String HASH_ALGORITHM = "hash.algorithm";
+
+    public static final String RING = "ring";
+
+    public static final String JUMP = "jump";
+
+    public static final String MAGLEV = "maglev";
+
+    private static final int DEFAULT_REPLICA_NUMBER = 160;
+
+    private static final int MIN_MAGLEV_TABLE_SIZE = 65537;
+
+    /**
+     * the invoker sets of a method whose selectors are kept at once, as with the lists routed by tag
+     */
+    private static final int SELECTORS = 8;
+
+    /**
+     * the selectors by service key and method name, in slots picked by the hash of the invoker set
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicReferenceArray<Selector<?>>>> selectors = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected <T> Invoker<T> doSelect(List<Invoker<T>> invokers, URL url, Invocation invocation) {
+        String methodName = RpcUtils.getMethodName(invocation);
+        AtomicReferenceArray<Selector<?>> methodSelectors = getSelectors(invokers.get(0).getUrl().getServiceKey(),
+                methodName);
+        // the lists selected from last are found by identity, the others by the hash of their invokers
+        for (int i = 0; i < SELECTORS; i++) {
+            Selector<T> selector = (Selector<T>) methodSelectors.get(i);
+            if (selector != null && selector.list == invokers) {
+                return selector.select(invocation.getArguments());
+            }
+        }
+        int membersHash = membersHash(invokers);
+        int slot = (membersHash ^ (membersHash >>> 16)) & (SELECTORS - 1);
+        Selector<T> selector = (Selector<T>) methodSelectors.get(slot);
+        if (selector == null || !selector.isFor(invokers, membersHash)) {
+            selector = newSelector(invokers, methodName);
+            methodSelectors.set(slot, selector);
+        }
+        return selector.select(invocation.getArguments());
+    }
+
+    @Override
+    public <T> void notify(URL url, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        // the selectors of the invokers before are only released, for each service key as a directory merging
+        // several groups notifies the invokers of all of them at once
+        removed.forEach(invoker -> selectors.remove(invoker.getUrl().getServiceKey()));
+        added.forEach(invoker -> selectors.remove(invoker.getUrl().getServiceKey()));
+    }
+
+    private AtomicReferenceArray<Selector<?>> getSelectors(String serviceKey, String methodName) {
+        ConcurrentMap<String, AtomicReferenceArray<Selector<?>>> methodSelectors = selectors.get(serviceKey);
+        if (methodSelectors == null) {
+            methodSelectors = selectors.computeIfAbsent(serviceKey, k -> new ConcurrentHashMap<>());
+        }
+        AtomicReferenceArray<Selector<?>> slots = methodSelectors.get(methodName);
+        if (slots == null) {
+            slots = methodSelectors.computeIfAbsent(methodName, k -> new AtomicReferenceArray<>(SELECTORS));
+        }
+        return slots;
+    }
+
+    /**
+     * Get a hash of the invokers whatever their order.
+     */
+    private static int membersHash(List<? extends Invoker<?>> invokers) {
+        int hash = 0;
+        for (Invoker<?> invoker : invokers) {
+            hash += System.identityHashCode(invoker);
+        }
+        return hash;
+    }
+
+    private static <T> Selector<T> newSelector(List<Invoker<T>> invokers, String methodName) {
+        URL url = invokers.get(0).getUrl();
+        String[] index = COMMA_SPLIT_PATTERN.split(url.getMethodParameter(methodName, HASH_ARGUMENTS, "0"));
+        int[] argumentIndex = new int[index.length];
+        for (int i = 0; i < index.length; i++) {
+            argumentIndex[i] = Integer.parseInt(index[i]);
+        }
+        String algorithm = url.getMethodParameter(methodName, HASH_ALGORITHM, RING);
+        if (JUMP.equals(algorithm)) {
+            return new JumpSelector<>(invokers, argumentIndex);
+        } else if (MAGLEV.equals(algorithm)) {
+            return new MaglevSelector<>(invokers, argumentIndex);
+        }
+        return new RingSelector<>(invokers, argumentIndex,
+                url.getMethodParameter(methodName, HASH_NODES, DEFAULT_REPLICA_NUMBER));
+    }
+
+    private abstract static class Selector<T> {
+
+        /**
+         * the invokers by address, for the selection not to depend on the order of the list
+         */
+        final Invoker<T>[] invokers;
+
+        private final Set<Invoker<T>> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private final int membersHash;
+
+        private final int[] argumentIndex;
+
+        // the last list of the invokers selected from
+        private volatile List<Invoker<T>> list;
+
+        @SuppressWarnings("unchecked")
+        Selector(List<Invoker<T>> invokers, int[] argumentIndex) {
+            this.invokers = invokers.toArray(new Invoker[0]);
+            Arrays.sort(this.invokers, Comparator.comparing((Invoker<T> invoker) -> invoker.getUrl().getAddress())
+                    .thenComparing(invoker -> invoker.getUrl().toIdentityString()));
+            this.members.addAll(invokers);
+            this.membersHash = membersHash(invokers);
+            this.argumentIndex = argumentIndex;
+            this.list = invokers;
+        }
+
+        boolean isFor(List<Invoker<T>> invokers, int membersHash) {
+            if (list == invokers) {
+                return true;
+            }
+            if (membersHash != this.membersHash || invokers.size() != this.invokers.length) {
+                return false;
+            }
+            for (Invoker<T> invoker : invokers) {
+                if (!members.contains(invoker)) {
+                    return false;
+                }
+            }
+            list = invokers;
+            return true;
+        }
+
+        Invoker<T> select(Object[] args) {
+            int hash = 0;
+            int length = 0;
+            for (int i : argumentIndex) {
+                if (args != null && i >= 0 && i < args.length) {
+                    Object arg = args[i];
+                    if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+                        hash = MurmurHash3.update(hash, ((Number) arg).longValue());
+                        length += 8;
+                    } else {
+                        CharSequence chars = arg instanceof CharSequence ? (CharSequence) arg : String.valueOf(arg);
+                        hash = MurmurHash3.update(hash, chars);
+                        length += chars.length() * 2;
+                    }
+                }
+            }
+            return invokers[index(MurmurHash3.finish(hash, length))];
+        }
+
+        /**
+         * Get the index of the invoker of the hash.
+         */
+        abstract int index(int hash);
+    }
+
+    private static final class RingSelector<T> extends Selector<T> {
+
+        /**
+         * the virtual nodes in order, their positions on the ring in the 32 high bits and their invokers in the low ones
+         */
+        private final long[] ring;
+
+        RingSelector(List<Invoker<T>> invokers, int[] argumentIndex, int replicaNumber) {
+            super(invokers, argumentIndex);
+            this.ring = new long[this.invokers.length * replicaNumber];
+            int node = 0;
+            for (int i = 0; i < this.invokers.length; i++) {
+                String address = this.invokers[i].getUrl().getAddress();
+                for (int replica = 0; replica < replicaNumber; replica++) {
+                    ring[node++] = (MurmurHash3.hash(address, replica) & 0xFFFFFFFFL) << 32 | i;
+                }
+            }
+            Arrays.sort(ring);
+        }
+
+        @Override
+        int index(int hash) {
+            int node = Arrays.binarySearch(ring, (hash & 0xFFFFFFFFL) << 32);
+            if (node < 0) {
+                node = -node - 1;
+            }
+            return (int) ring[node == ring.length ? 0 : node];
+        }
+    }
+
+    private static final class JumpSelector<T> extends Selector<T> {
+
+        JumpSelector(List<Invoker<T>> invokers, int[] argumentIndex) {
+            super(invokers, argumentIndex);
+        }
+
+        @Override
+        int index(int hash) {
+            long key = MurmurHash3.mix(hash);
+            long bucket = -1;
+            long next = 0;
+            while (next < invokers.length) {
+                bucket = next;
+                key = key * 2862933555777941757L + 1;
+                next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+            }
+            return (int) bucket;
+        }
+    }
+
+    private static final class MaglevSelector<T> extends Selector<T> {
+
+        private final int[] table;
+
+        MaglevSelector(List<Invoker<T>> invokers, int[] argumentIndex) {
+            super(invokers, argumentIndex);
+            int size = tableSize(this.invokers.length);
+            int[] offsets = new int[this.invokers.length];
+            int[] skips = new int[this.invokers.length];
+            for (int i = 0; i < this.invokers.length; i++) {
+                String address = this.invokers[i].getUrl().getAddress();
+                offsets[i] = Integer.remainderUnsigned(MurmurHash3.hash(address, 0x9e3779b9), size);
+                skips[i] = Integer.remainderUnsigned(MurmurHash3.hash(address, 0x7f4a7c15), size - 1) + 1;
+            }
+            // every invoker takes in turn the next free entry of its own permutation of the table
+            this.table = new int[size];
+            Arrays.fill(table, -1);
+            int[] next = new int[this.invokers.length];
+            int filled = 0;
+            while (filled < size) {
+                for (int i = 0; i < this.invokers.length && filled < size; i++) {
+                    int entry;
+                    do {
+                        entry = (int) ((offsets[i] + (long) next[i]++ * skips[i]) % size);
+                    } while (table[entry] >= 0);
+                    table[entry] = i;
+                    filled++;
+                }
+            }
+        }
+
+        @Override
+        int index(int hash) {
+            return table[Integer.remainderUnsigned(hash, table.length)];
+        }
+
+        private static int tableSize(int invokers) {
+            int size = Math.max(MIN_MAGLEV_TABLE_SIZE, invokers * 100);
+            while (!isPrime(size)) {
+                size++;
+            }
+            return size;
+        }
+
+        private static boolean isPrime(int value) {
+            if (value % 2 == 0) {
+                return value == 2;
+            }
+            for (int i = 3; (long) i * i <= value; i += 2) {
+                if (value % i == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcLoad;
+import org.apache.dubbo.rpc.RpcStatus;
+import org.apache.dubbo.rpc.protocol.InvokerWrapper;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * P2CLoadBalance
+ * </p>
+ * Select the less loaded of two invokers picked randomly (the power of two choices), whatever the number of invokers.
+ * The load of an invoker is the moving average of the latency of its recent calls times its calls in flight, over
+ * its weight. An invoker with no call completed yet is given the latency of the other one.
+ * <p>
+ * The load is held by the invokers the registry directory gives, see {@link InvokerWrapper#getLoad()}; other invokers
+ * fall back to their {@link RpcStatus}, which is only counted with the <code>actives</code> filter.
+ */
+public class P2CLoadBalance extends AbstractLoadBalance {
+
+    public static final String NAME = "p2c";
+
+    @Override
+    protected <T> Invoker<T> doSelect(List<Invoker<T>> invokers, URL url, Invocation invocation) {
+        int length = invokers.size();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(length);
+        int secondIndex = random.nextInt(length - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        Invoker<T> first = invokers.get(firstIndex);
+        Invoker<T> second = invokers.get(secondIndex);
+
+        RpcLoad firstLoad = getLoad(first);
+        RpcLoad secondLoad = getLoad(second);
+        double firstLatency;
+        double secondLatency;
+        int firstActive;
+        int secondActive;
+        if (firstLoad != null && secondLoad != null) {
+            firstLatency = firstLoad.getLatency();
+            secondLatency = secondLoad.getLatency();
+            firstActive = firstLoad.getActive();
+            secondActive = secondLoad.getActive();
+        } else {
+            RpcStatus firstStatus = RpcStatus.getStatus(first.getUrl(), invocation.getMethodName());
+            RpcStatus secondStatus = RpcStatus.getStatus(second.getUrl(), invocation.getMethodName());
+            firstLatency = firstStatus.getSucceededAverageElapsed();
+            secondLatency = secondStatus.getSucceededAverageElapsed();
+            firstActive = firstStatus.getActive();
+            secondActive = secondStatus.getActive();
+        }
+        if (firstLatency == 0) {
+            firstLatency = secondLatency;
+        }
+        if (secondLatency == 0) {
+            secondLatency = firstLatency;
+        }
+        double firstCost = getCost(firstLatency, firstActive, getWeight(first, invocation));
+        double secondCost = getCost(secondLatency, secondActive, getWeight(second, invocation));
+        return secondCost < firstCost ? second : first;
+    }
+
+    private static RpcLoad getLoad(Invoker<?> invoker) {
+        return invoker instanceof InvokerWrapper ? ((InvokerWrapper<?>) invoker).getLoad() : null;
+    }
+
+    private static double getCost(double latency, int active, int weight) {
+        if (weight <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        // neither invoker completed a call yet, only the calls in flight count
+        return Math.max(latency, 1) * (active + 1) / weight;
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Round robin load balance.
@@ -86,6 +87,22 @@ public class RoundRobinLoadBalance extends AbstractLoadBalance {
         return null;
     }
 
+    @Override
+    public <T> void notify(URL url, List<Invoker<T>> added, List<Invoker<T>> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        // a directory merging several groups notifies the invokers of different service keys together
+        Map<String, List<String>> removedByPrefix = removed.stream()
+                .collect(Collectors.groupingBy(invoker -> invoker.getUrl().getServiceKey() + ".",
+                        Collectors.mapping(invoker -> invoker.getUrl().toIdentityString(), Collectors.toList())));
+        methodWeightMap.forEach((key, map) -> removedByPrefix.forEach((prefix, identities) -> {
+            if (key.startsWith(prefix)) {
+                identities.forEach(map::remove);
+            }
+        }));
+    }
+
     @Override
     protected <T> Invoker<T> doSelect(List<Invoker<T>> invokers, URL url, Invocation invocation) {
         String key = invokers.get(0).getUrl().getServiceKey() + "." + invocation.getMethodName();
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.router;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.cluster.Router;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A router which also routes on the bitmaps of the invokers, picking the invokers matching every routing key of the
+ * call, as the tag or the method, from the bitmaps a {@link RouterCache} computes once per invokers and rule.
+ *
+ * @see org.apache.dubbo.rpc.cluster.RouterChain#route(URL, Invocation)
+ */
+public interface BitmapRouter extends Router {
+
+    /**
+     * Get the rule the routes are computed from, the routes cached for another rule are dropped.
+     *
+     * @return the current rule, or null if the router has none which changes
+     */
+    default Object getRouteRule() {
+        return null;
+    }
+
+    /**
+     * Computes the bitmaps of the routing keys known ahead, as the tags of the invokers, which would otherwise be
+     * computed on the first call needing them.
+     *
+     * @param cache the routes of the invokers
+     */
+    default <T> void precompute(RouterCache<T> cache) {
+
+    }
+
+    /**
+     * Filter invokers the same way as {@link #route(List, URL, Invocation)}, the invokers being the bits set at their
+     * indexes in {@link RouterCache#getInvokers()}.
+     *
+     * @param invokers   the bitmap of the invokers, which is never modified
+     * @param cache      the routes of the invokers, computed for the {@link #getRouteRule() rule} and the url
+     * @param url        refer url
+     * @param invocation invocation
+     * @return the bitmap of the routed invokers, either the given one, one of the cache, or a new one
+     * @throws RpcException
+     */
+    <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) throws RpcException;
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.router;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.cluster.Router;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The routes of a {@link BitmapRouter} on the invokers of a router chain: for every routing key, the bitmap of the
+ * indexes of the invokers matching it, computed once for the invokers, the refer url and the rule of the router.
+ */
+public class RouterCache<T> {
+
+    /**
+     * the keys cached at most, against the keys coming from the calls, as the tags
+     */
+    private static final int MAX_KEYS = 1024;
+
+    private final Router router;
+
+    private final List<Invoker<T>> invokers;
+
+    private volatile URL url;
+
+    private final Object rule;
+
+    private final BitSet all;
+
+    private final ConcurrentMap<String, Route<T>> routes = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Boolean> conditions = new ConcurrentHashMap<>();
+
+    public RouterCache(BitmapRouter router, List<Invoker<T>> invokers, URL url) {
+        this(router, invokers, url, router.getRouteRule());
+    }
+
+    private RouterCache(Router router, List<Invoker<T>> invokers, URL url, Object rule) {
+        this.router = router;
+        this.invokers = invokers;
+        this.url = url;
+        this.rule = rule;
+        this.all = new BitSet(invokers.size());
+        all.set(0, invokers.size());
+    }
+
+    /**
+     * Whether the routes are of the current invokers and rule of the router, and of the url.
+     */
+    public boolean isValid(Router router, List<Invoker<T>> invokers, URL url) {
+        return this.invokers == invokers && isValid(router, url);
+    }
+
+    /**
+     * Whether the routes are of the current rule of the router, and of the url, whatever the invokers.
+     */
+    public boolean isValid(Router router, URL url) {
+        return this.router == router && isOf(url) && rule == ((BitmapRouter) router).getRouteRule();
+    }
+
+    /**
+     * Whether the routes are of the url. A directory builds its refer url again on every notification, so an equal
+     * url is adopted, for the next calls to compare it by identity only.
+     */
+    private boolean isOf(URL url) {
+        URL current = this.url;
+        if (current == url) {
+            return true;
+        }
+        if (current == null || !current.equals(url)) {
+            return false;
+        }
+        this.url = url;
+        return true;
+    }
+
+    /**
+     * Carries the routes over to the invokers changed since, testing only the invokers added.
+     *
+     * @param invokers the current invokers, those of this cache less the removed ones, followed by the added ones
+     * @param indexes  the indexes in the current invokers of those of this cache, -1 for the removed ones
+     */
+    public RouterCache<T> update(List<Invoker<T>> invokers, int[] indexes) {
+        RouterCache<T> cache = new RouterCache<>(router, invokers, url, rule);
+        cache.conditions.putAll(conditions);
+        int kept = 0;
+        for (int index : indexes) {
+            if (index >= 0) {
+                kept++;
+            }
+        }
+        int from = kept;
+        routes.forEach((key, route) -> {
+            BitSet bitmap = new BitSet(invokers.size());
+            for (int i = route.bitmap.nextSetBit(0); i >= 0; i = route.bitmap.nextSetBit(i + 1)) {
+                if (indexes[i] >= 0) {
+                    bitmap.set(indexes[i]);
+                }
+            }
+            for (int i = from; i < invokers.size(); i++) {
+                if (route.predicate.test(invokers.get(i))) {
+                    bitmap.set(i);
+                }
+            }
+            cache.routes.put(key, new Route<>(bitmap, route.predicate));
+        });
+        return cache;
+    }
+
+    public List<Invoker<T>> getInvokers() {
+        return invokers;
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    /**
+     * Get the rule of the router the routes are computed from, which the router should route with rather than its
+     * current one.
+     */
+    public Object getRule() {
+        return rule;
+    }
+
+    /**
+     * Get the bitmap of all the invokers, which must not be modified.
+     */
+    public BitSet getAll() {
+        return all;
+    }
+
+    /**
+     * Get the bitmap of the invokers matching the key, which must not be modified.
+     *
+     * @param key       the routing key, as the tag
+     * @param predicate the invokers matching the key, tested only the first time the key is asked
+     */
+    public BitSet getBitmap(String key, Predicate<Invoker<T>> predicate) {
+        Route<T> route = routes.get(key);
+        if (route != null) {
+            return route.bitmap;
+        }
+        BitSet bitmap = new BitSet(invokers.size());
+        for (int i = 0; i < invokers.size(); i++) {
+            if (predicate.test(invokers.get(i))) {
+                bitmap.set(i);
+            }
+        }
+        if (routes.size() < MAX_KEYS) {
+            routes.putIfAbsent(key, new Route<>(bitmap, predicate));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Get whether a condition of the key holds, as whether the rule applies to a method.
+     *
+     * @param key       the routing key, as the method
+     * @param condition the condition, tested only the first time the key is asked
+     */
+    public boolean test(String key, BooleanSupplier condition) {
+        Boolean result = conditions.get(key);
+        if (result == null) {
+            result = condition.getAsBoolean();
+            if (conditions.size() < MAX_KEYS) {
+                conditions.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the invokers in both.
+     */
+    public static BitSet and(BitSet invokers, BitSet bitmap) {
+        BitSet result = (BitSet) invokers.clone();
+        result.and(bitmap);
+        return result;
+    }
+
+    private static final class Route<T> {
+
+        private final BitSet bitmap;
+
+        /**
+         * the invokers matching the key, which only the invokers added are tested against once the invokers change
+         */
+        private final Predicate<Invoker<T>> predicate;
+
+        private Route(BitSet bitmap, Predicate<Invoker<T>> predicate) {
+            this.bitmap = bitmap;
+            this.predicate = predicate;
+        }
+    }
+}
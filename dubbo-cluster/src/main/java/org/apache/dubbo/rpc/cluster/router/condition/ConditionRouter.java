@@ -27,9 +27,12 @@ import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,7 +55,7 @@ import static org.apache.dubbo.rpc.cluster.Constants.RUNTIME_KEY;
  * ConditionRouter
  *
  */
-public class ConditionRouter extends AbstractRouter {
+public class ConditionRouter extends AbstractRouter implements BitmapRouter {
     public static final String NAME = "condition";
 
     private static final Logger logger = LoggerFactory.getLogger(ConditionRouter.class);
@@ -201,6 +204,54 @@ public class ConditionRouter extends AbstractRouter {
         return invokers;
     }
 
+    @Override
+    public Object getRouteRule() {
+        // every rule gets a when condition of its own
+        return whenCondition;
+    }
+
+    @Override
+    public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation)
+            throws RpcException {
+        return route(invokers, cache, "", url, invocation);
+    }
+
+    /**
+     * Routes the same as {@link #route(BitSet, RouterCache, URL, Invocation)}, with the routes cached under the keys
+     * starting with the prefix, so that several condition routers share a cache.
+     */
+    public <T> BitSet route(BitSet invokers, RouterCache<T> cache, String keyPrefix, URL url, Invocation invocation)
+            throws RpcException {
+        if (!enabled) {
+            return invokers;
+        }
+
+        if (invokers.isEmpty()) {
+            return invokers;
+        }
+        try {
+            // the when condition only sees the refer url, which the cache is computed for, and the method
+            if (!cache.test(keyPrefix + "when:" + invocation.getMethodName(), () -> matchWhen(url, invocation))) {
+                return invokers;
+            }
+            if (thenCondition == null) {
+                logger.warn("The current consumer in the service blacklist. consumer: " + NetUtils.getLocalHost() + ", service: " + url.getServiceKey());
+                return new BitSet();
+            }
+            BitSet result = RouterCache.and(invokers,
+                    cache.getBitmap(keyPrefix + "then", invoker -> matchThen(invoker.getUrl(), url)));
+            if (!result.isEmpty()) {
+                return result;
+            } else if (force) {
+                logger.warn("The route result is empty and force execute. consumer: " + NetUtils.getLocalHost() + ", service: " + url.getServiceKey() + ", router: " + url.getParameterAndDecoded(RULE_KEY));
+                return result;
+            }
+        } catch (Throwable t) {
+            logger.error("Failed to execute condition router rule: " + getUrl() + ", invokers: " + invokers + ", cause: " + t.getMessage(), t);
+        }
+        return invokers;
+    }
+
     @Override
     public boolean isRuntime() {
         // We always return true for previously defined Router, that is, old Router doesn't support cache anymore.
@@ -30,10 +30,13 @@ import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.cluster.Router;
 import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 import org.apache.dubbo.rpc.cluster.router.condition.ConditionRouter;
 import org.apache.dubbo.rpc.cluster.router.condition.config.model.ConditionRouterRule;
 import org.apache.dubbo.rpc.cluster.router.condition.config.model.ConditionRuleParser;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -41,7 +44,7 @@ import java.util.stream.Collectors;
 /**
  * Abstract router which listens to dynamic configuration
  */
-public abstract class ListenableRouter extends AbstractRouter implements ConfigurationListener {
+public abstract class ListenableRouter extends AbstractRouter implements ConfigurationListener, BitmapRouter {
     public static final String NAME = "LISTENABLE_ROUTER";
     private static final String RULE_SUFFIX = ".condition-router";
 
@@ -90,6 +93,27 @@ public abstract class ListenableRouter extends AbstractRouter implements Configu
         return invokers;
     }
 
+    @Override
+    public Object getRouteRule() {
+        return conditionRouters;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) throws RpcException {
+        List<ConditionRouter> routers = (List<ConditionRouter>) cache.getRule();
+        if (invokers.isEmpty() || routers.size() == 0) {
+            return invokers;
+        }
+
+        // We will check enabled status inside each router.
+        for (int i = 0; i < routers.size(); i++) {
+            invokers = routers.get(i).route(invokers, cache, i + ":", url, invocation);
+        }
+
+        return invokers;
+    }
+
     @Override
     public int getPriority() {
         return priority;
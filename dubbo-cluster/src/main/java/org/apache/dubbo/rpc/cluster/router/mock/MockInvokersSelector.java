@@ -22,8 +22,11 @@ import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import static org.apache.dubbo.rpc.cluster.Constants.INVOCATION_NEED_MOCK;
@@ -33,7 +36,7 @@ import static org.apache.dubbo.rpc.cluster.Constants.MOCK_PROTOCOL;
  * A specific Router designed to realize mock feature.
  * If a request is configured to use mock, then this router guarantees that only the invokers with protocol MOCK appear in final the invoker list, all other invokers will be excluded.
  */
-public class MockInvokersSelector extends AbstractRouter {
+public class MockInvokersSelector extends AbstractRouter implements BitmapRouter {
 
     public static final String NAME = "MOCK_ROUTER";
     private static final int MOCK_INVOKERS_DEFAULT_PRIORITY = -100;
@@ -62,6 +65,24 @@ public class MockInvokersSelector extends AbstractRouter {
         return invokers;
     }
 
+    @Override
+    public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) throws RpcException {
+        if (invokers.isEmpty()) {
+            return invokers;
+        }
+
+        String value = invocation.getObjectAttachments() == null ? null :
+                (String) invocation.getObjectAttachments().get(INVOCATION_NEED_MOCK);
+        if (value == null) {
+            return RouterCache.and(invokers, cache.getBitmap("normal",
+                    invoker -> !invoker.getUrl().getProtocol().equals(MOCK_PROTOCOL)));
+        } else if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+            return RouterCache.and(invokers, cache.getBitmap("mock",
+                    invoker -> invoker.getUrl().getProtocol().equals(MOCK_PROTOCOL)));
+        }
+        return invokers;
+    }
+
     private <T> List<Invoker<T>> getMockedInvokers(final List<Invoker<T>> invokers) {
         if (!hasMockProviders(invokers)) {
             return null;
@@ -31,10 +31,13 @@ import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 import org.apache.dubbo.rpc.cluster.router.tag.model.TagRouterRule;
 import org.apache.dubbo.rpc.cluster.router.tag.model.TagRuleParser;
 
 import java.net.UnknownHostException;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -46,7 +49,7 @@ import static org.apache.dubbo.rpc.Constants.FORCE_USE_TAG;
 /**
  * TagRouter, "application.tag-router"
  */
-public class TagRouter extends AbstractRouter implements ConfigurationListener {
+public class TagRouter extends AbstractRouter implements ConfigurationListener, BitmapRouter {
     public static final String NAME = "TAG_ROUTER";
     private static final int TAG_ROUTER_DEFAULT_PRIORITY = 100;
     private static final Logger logger = LoggerFactory.getLogger(TagRouter.class);
@@ -177,6 +180,106 @@ public class TagRouter extends AbstractRouter implements ConfigurationListener {
         return result;
     }
 
+    @Override
+    public Object getRouteRule() {
+        return tagRouterRule;
+    }
+
+    @Override
+    public <T> void precompute(RouterCache<T> cache) {
+        TagRouterRule rule = (TagRouterRule) cache.getRule();
+        if (rule == null || !rule.isValid() || !rule.isEnabled()) {
+            cache.getInvokers().stream()
+                    .map(invoker -> invoker.getUrl().getParameter(TAG_KEY))
+                    .filter(StringUtils::isNotEmpty)
+                    .forEach(tag -> getTagged(cache, tag));
+            getUntagged(cache);
+            return;
+        }
+        rule.getTagNames().forEach(tag -> {
+            getTagged(cache, tag);
+            getAddressed(cache, rule, tag);
+        });
+        getUnaddressed(cache, rule);
+        getUntaggedByRule(cache, rule);
+    }
+
+    @Override
+    public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) throws RpcException {
+        if (invokers.isEmpty()) {
+            return invokers;
+        }
+
+        // the same rule as the routes of the cache were computed for, the current one may have changed since.
+        final TagRouterRule tagRouterRuleCopy = (TagRouterRule) cache.getRule();
+        String tag = StringUtils.isEmpty(invocation.getAttachment(TAG_KEY)) ? url.getParameter(TAG_KEY) :
+                invocation.getAttachment(TAG_KEY);
+        if (tagRouterRuleCopy == null || !tagRouterRuleCopy.isValid() || !tagRouterRuleCopy.isEnabled()) {
+            if (StringUtils.isEmpty(tag)) {
+                return RouterCache.and(invokers, getUntagged(cache));
+            }
+            BitSet result = RouterCache.and(invokers, getTagged(cache, tag));
+            if (result.isEmpty() && !isForceUseTag(invocation)) {
+                result = RouterCache.and(invokers, getUntagged(cache));
+            }
+            return result;
+        }
+
+        BitSet result;
+        if (StringUtils.isNotEmpty(tag)) {
+            // filter by dynamic tag group first
+            if (CollectionUtils.isNotEmpty(tagRouterRuleCopy.getTagnameToAddresses().get(tag))) {
+                result = RouterCache.and(invokers, getAddressed(cache, tagRouterRuleCopy, tag));
+                if (!result.isEmpty() || tagRouterRuleCopy.isForce()) {
+                    return result;
+                }
+            } else {
+                result = RouterCache.and(invokers, getTagged(cache, tag));
+            }
+            if (!result.isEmpty() || isForceUseTag(invocation)) {
+                return result;
+            }
+            // FAILOVER: return all Providers without any tags.
+            result = RouterCache.and(invokers, getUnaddressed(cache, tagRouterRuleCopy));
+            result.and(getUntagged(cache));
+            return result;
+        }
+
+        result = invokers;
+        // the same as the addresses of the rule being not empty, without listing them
+        if (!tagRouterRuleCopy.getAddressToTagnames().isEmpty()) {
+            result = RouterCache.and(invokers, getUnaddressed(cache, tagRouterRuleCopy));
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return RouterCache.and(result, getUntaggedByRule(cache, tagRouterRuleCopy));
+    }
+
+    private <T> BitSet getTagged(RouterCache<T> cache, String tag) {
+        return cache.getBitmap("tag:" + tag, invoker -> tag.equals(invoker.getUrl().getParameter(TAG_KEY)));
+    }
+
+    private <T> BitSet getUntagged(RouterCache<T> cache) {
+        return cache.getBitmap("untagged", invoker -> StringUtils.isEmpty(invoker.getUrl().getParameter(TAG_KEY)));
+    }
+
+    private <T> BitSet getAddressed(RouterCache<T> cache, TagRouterRule rule, String tag) {
+        List<String> addresses = rule.getTagnameToAddresses().get(tag);
+        return cache.getBitmap("address:" + tag, invoker -> addressMatches(invoker.getUrl(), addresses));
+    }
+
+    private <T> BitSet getUnaddressed(RouterCache<T> cache, TagRouterRule rule) {
+        return cache.getBitmap("unaddressed", invoker -> addressNotMatches(invoker.getUrl(), rule.getAddresses()));
+    }
+
+    private <T> BitSet getUntaggedByRule(RouterCache<T> cache, TagRouterRule rule) {
+        return cache.getBitmap("untagged-by-rule", invoker -> {
+            String localTag = invoker.getUrl().getParameter(TAG_KEY);
+            return StringUtils.isEmpty(localTag) || !rule.getTagNames().contains(localTag);
+        });
+    }
+
     @Override
     public boolean isRuntime() {
         return tagRouterRule != null && tagRouterRule.isRuntime();
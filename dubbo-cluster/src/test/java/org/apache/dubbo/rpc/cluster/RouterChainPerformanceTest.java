@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.cluster.router.MockInvoker;
+import org.apache.dubbo.rpc.cluster.router.condition.ConditionRouter;
+import org.apache.dubbo.rpc.cluster.router.mock.MockInvokersSelector;
+import org.apache.dubbo.rpc.cluster.router.tag.TagRouter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.dubbo.common.constants.CommonConstants.TAG_KEY;
+import static org.apache.dubbo.rpc.cluster.Constants.RULE_KEY;
+
+/**
+ * Measures the calls routed per second through a mock, a tag and a condition router, with and without the route
+ * cache, at 100, 1000 and 5000 invokers. Run with <code>-Drouter.performance=true</code>.
+ */
+public class RouterChainPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouterChainPerformanceTest.class);
+
+    private static final URL CONSUMER_URL = URL.valueOf("consumer://10.20.3.3:20880/com.foo.BarService?application=consumer");
+
+    @Test
+    public void testRoute() {
+        if (!Boolean.getBoolean("router.performance")) {
+            logger.warn("Please set -Drouter.performance=true");
+            return;
+        }
+        int runs = Integer.getInteger("router.runs", 20000);
+        for (int size : new int[]{100, 1000, 5000}) {
+            List<Invoker<RouterChainPerformanceTest>> invokers = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                String tag = i % 10 == 0 ? "&dubbo.tag=gray" : "";
+                invokers.add(new MockInvoker<>(URL.valueOf("dubbo://10.20." + (i / 250) + "." + (i % 250)
+                        + ":20880/com.foo.BarService?remote.application=provider" + tag)));
+            }
+            List<Router> routers = Arrays.asList(new MockInvokersSelector(), new TagRouter(CONSUMER_URL),
+                    new ConditionRouter(URL.valueOf("condition://0.0.0.0/com.foo.BarService")
+                            .addParameterAndEncoded(RULE_KEY, "method = getName => host = 10.20.0.*")));
+            for (int round = 0; round < 3; round++) {
+                report("listed", size, runs, newChain(CONSUMER_URL.addParameter("router.cache", false), routers, invokers));
+                report("cached", size, runs, newChain(CONSUMER_URL, routers, invokers));
+            }
+        }
+    }
+
+    private static RouterChain<RouterChainPerformanceTest> newChain(URL url, List<Router> routers,
+                                                                    List<Invoker<RouterChainPerformanceTest>> invokers) {
+        RouterChain<RouterChainPerformanceTest> chain = RouterChain.buildChain(url);
+        chain.initWithRouters(routers);
+        chain.setInvokers(invokers);
+        return chain;
+    }
+
+    private static void report(String name, int size, int runs, RouterChain<RouterChainPerformanceTest> chain) {
+        RpcInvocation[] invocations = new RpcInvocation[4];
+        for (int i = 0; i < invocations.length; i++) {
+            invocations[i] = new RpcInvocation();
+            invocations[i].setMethodName(i % 2 == 0 ? "getName" : "sayHello");
+            if (i >= 2) {
+                invocations[i].setAttachment(TAG_KEY, "gray");
+            }
+        }
+        long routed = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            routed += chain.route(CONSUMER_URL, invocations[i % invocations.length]).size();
+        }
+        long elapsed = System.nanoTime() - begin;
+        logger.info(name + ": " + size + " invokers, " + (runs * 1000000000L / elapsed) + " routes/s, "
+                + routed / runs + " invokers routed on average");
+    }
+}
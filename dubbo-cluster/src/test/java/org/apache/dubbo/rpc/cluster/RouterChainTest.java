@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.config.configcenter.ConfigChangedEvent;
+import org.apache.dubbo.common.config.configcenter.DynamicConfiguration;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.MockInvoker;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
+import org.apache.dubbo.rpc.cluster.router.condition.ConditionRouter;
+import org.apache.dubbo.rpc.cluster.router.mock.MockInvokersSelector;
+import org.apache.dubbo.rpc.cluster.router.tag.TagRouter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.common.constants.CommonConstants.TAG_KEY;
+import static org.apache.dubbo.rpc.Constants.FORCE_USE_TAG;
+import static org.apache.dubbo.rpc.cluster.Constants.INVOCATION_NEED_MOCK;
+import static org.apache.dubbo.rpc.cluster.Constants.RULE_KEY;
+
+public class RouterChainTest {
+
+    private static final URL CONSUMER_URL = URL.valueOf("consumer://10.20.3.3:20880/com.foo.BarService?application=consumer");
+
+    private final TagRouter tagRouter = new TagRouter(CONSUMER_URL);
+
+    private List<Router> routers;
+
+    private List<Invoker<RouterChainTest>> invokers;
+
+    @BeforeEach
+    public void setup() {
+        ConditionRouter conditionRouter = new ConditionRouter(URL.valueOf("condition://0.0.0.0/com.foo.BarService")
+                .addParameterAndEncoded(RULE_KEY, "method = getName => host = 10.20.1.1,10.20.1.2,10.20.1.3"));
+        routers = Arrays.asList(new MockInvokersSelector(), tagRouter, conditionRouter);
+
+        invokers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String tag = i < 2 ? "&dubbo.tag=gray" : i < 3 ? "&dubbo.tag=blue" : "";
+            invokers.add(new MockInvoker<>(URL.valueOf("dubbo://10.20.1." + i + ":20880/com.foo.BarService"
+                    + "?remote.application=provider" + tag)));
+        }
+        invokers.add(new MockInvoker<>(URL.valueOf("mock://10.20.1.10:20880/com.foo.BarService"
+                + "?remote.application=provider")));
+    }
+
+    @Test
+    public void testCachedRoutesAreTheListRoutes() {
+        RouterChain<RouterChainTest> cached = newChain(CONSUMER_URL);
+        RouterChain<RouterChainTest> listed = newChain(CONSUMER_URL.addParameter("router.cache", false));
+        assertSameRoutes(cached, listed);
+
+        // a dynamic tag rule puts 10.20.1.4 in the gray group
+        tagRouter.process(new ConfigChangedEvent("provider.tag-router", DynamicConfiguration.DEFAULT_GROUP,
+                "---\nforce: false\nruntime: true\nenabled: true\nkey: provider\ntags:\n"
+                        + "  - name: gray\n    addresses: [\"10.20.1.4:20880\"]\n"
+                        + "  - name: red\n    addresses: [\"10.20.1.5:20880\"]\n..."));
+        assertSameRoutes(cached, listed);
+        Assertions.assertEquals(1, cached.route(CONSUMER_URL, invocation("sayHello", "gray", null)).size());
+    }
+
+    @Test
+    public void testRoutesFollowTheInvokers() {
+        RouterChain<RouterChainTest> chain = newChain(CONSUMER_URL);
+        Assertions.assertEquals(hosts(3), hosts(chain.route(CONSUMER_URL, invocation("getName", null, null))));
+        Assertions.assertEquals(hosts(1), hosts(chain.route(CONSUMER_URL, invocation("getName", "gray", null))));
+
+        // no gray invoker is left, so the untagged ones are routed to unless the tag is forced
+        chain.setInvokers(new ArrayList<>(invokers.subList(2, 10)));
+        Assertions.assertEquals(hosts(3), hosts(chain.route(CONSUMER_URL, invocation("getName", "gray", null))));
+        Assertions.assertTrue(chain.route(CONSUMER_URL, invocation("getName", "gray", "true")).isEmpty());
+        Assertions.assertEquals(hosts(2), hosts(chain.route(CONSUMER_URL, invocation("getName", "blue", null))));
+    }
+
+    @Test
+    public void testRoutesFollowTheChangedInvokers() {
+        RouterChain<RouterChainTest> cached = newChain(CONSUMER_URL);
+        RouterChain<RouterChainTest> listed = newChain(CONSUMER_URL.addParameter("router.cache", false));
+        assertSameRoutes(cached, listed);
+
+        List<Invoker<RouterChainTest>> removed = Arrays.asList(invokers.get(0), invokers.get(4));
+        List<Invoker<RouterChainTest>> added = Arrays.asList(
+                new MockInvoker<>(URL.valueOf("dubbo://10.20.1.11:20880/com.foo.BarService?remote.application=provider&dubbo.tag=gray")),
+                new MockInvoker<>(URL.valueOf("dubbo://10.20.1.2:20881/com.foo.BarService?remote.application=provider")));
+        List<Invoker<RouterChainTest>> changed = new ArrayList<>(invokers);
+        changed.removeAll(removed);
+        changed.addAll(added);
+        cached.setInvokers(CONSUMER_URL, changed, added, removed);
+        listed.setInvokers(CONSUMER_URL, changed, added, removed);
+        assertSameRoutes(cached, listed);
+        Assertions.assertEquals(hosts(1, 11), hosts(cached.route(CONSUMER_URL, invocation("sayHello", "gray", null))));
+        Assertions.assertEquals(2, cached.route(CONSUMER_URL, invocation("getName", null, null)).size());
+
+        // the invokers are not the ones notified less the removed ones followed by the added ones
+        List<Invoker<RouterChainTest>> reordered = new ArrayList<>(changed);
+        reordered.add(0, reordered.remove(reordered.size() - 1));
+        cached.setInvokers(CONSUMER_URL, reordered, Collections.emptyList(), Collections.emptyList());
+        listed.setInvokers(CONSUMER_URL, reordered, Collections.emptyList(), Collections.emptyList());
+        assertSameRoutes(cached, listed);
+    }
+
+    @Test
+    public void testRoutesPrecomputedForTheNotifiedUrl() {
+        CountingRouter router = new CountingRouter();
+        RouterChain<RouterChainTest> chain = RouterChain.buildChain(CONSUMER_URL);
+        chain.initWithRouters(Collections.singletonList(router));
+        chain.setInvokers(invokers);
+        chain.route(CONSUMER_URL, invocation("sayHello", null, null));
+        Assertions.assertEquals(1, router.precomputed.get());
+
+        // the refer url changes with the invokers, the routes are precomputed for the new one rather than the last
+        URL changedUrl = CONSUMER_URL.addParameter("timeout", 1000);
+        List<Invoker<RouterChainTest>> reordered = new ArrayList<>(invokers);
+        reordered.add(0, reordered.remove(reordered.size() - 1));
+        chain.setInvokers(changedUrl, reordered, Collections.emptyList(), Collections.emptyList());
+        Assertions.assertEquals(2, router.precomputed.get());
+        chain.route(changedUrl, invocation("sayHello", null, null));
+        Assertions.assertEquals(2, router.precomputed.get());
+    }
+
+    @Test
+    public void testRoutedListsAreShared() {
+        RouterChain<RouterChainTest> chain = newChain(CONSUMER_URL);
+        List<Invoker<RouterChainTest>> first = chain.route(CONSUMER_URL, invocation("sayHello", "gray", null));
+        Assertions.assertEquals(hosts(0, 1), hosts(first));
+        Assertions.assertSame(first, chain.route(CONSUMER_URL, invocation("sayHello", "gray", null)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+
+    private RouterChain<RouterChainTest> newChain(URL url) {
+        RouterChain<RouterChainTest> chain = RouterChain.buildChain(url);
+        chain.initWithRouters(routers);
+        chain.setInvokers(invokers);
+        return chain;
+    }
+
+    private void assertSameRoutes(RouterChain<RouterChainTest> cached, RouterChain<RouterChainTest> listed) {
+        for (String method : new String[]{"sayHello", "getName"}) {
+            for (String tag : new String[]{null, "gray", "blue", "red", "green"}) {
+                for (String force : new String[]{null, "true"}) {
+                    for (String mock : new String[]{null, "true", "false"}) {
+                        RpcInvocation invocation = invocation(method, tag, force);
+                        if (mock != null) {
+                            invocation.setAttachment(INVOCATION_NEED_MOCK, mock);
+                        }
+                        List<Invoker<RouterChainTest>> expected = listed.route(CONSUMER_URL, invocation);
+                        List<Invoker<RouterChainTest>> actual = cached.route(CONSUMER_URL, invocation);
+                        String message = method + ", tag " + tag + ", force " + force + ", mock " + mock;
+                        if (expected == null) {
+                            Assertions.assertTrue(actual.isEmpty(), message);
+                        } else {
+                            Assertions.assertEquals(expected, actual, message);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static class CountingRouter extends AbstractRouter implements BitmapRouter {
+
+        private final AtomicInteger precomputed = new AtomicInteger();
+
+        @Override
+        public <T> List<Invoker<T>> route(List<Invoker<T>> invokers, URL url, Invocation invocation) {
+            return invokers;
+        }
+
+        @Override
+        public <T> void precompute(RouterCache<T> cache) {
+            precomputed.incrementAndGet();
+        }
+
+        @Override
+        public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) {
+            return invokers;
+        }
+    }
+
+    private static RpcInvocation invocation(String method, String tag, String force) {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName(method);
+        if (tag != null) {
+            invocation.setAttachment(TAG_KEY, tag);
+        }
+        if (force != null) {
+            invocation.setAttachment(FORCE_USE_TAG, force);
+        }
+        return invocation;
+    }
+
+    private static HashSet<String> hosts(int... indexes) {
+        HashSet<String> hosts = new HashSet<>();
+        for (int index : indexes) {
+            hosts.add("10.20.1." + index);
+        }
+        return hosts;
+    }
+
+    private static HashSet<String> hosts(List<Invoker<RouterChainTest>> invokers) {
+        HashSet<String> hosts = new HashSet<>();
+        invokers.forEach(invoker -> hosts.add(invoker.getUrl().getHost()));
+        return hosts;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.rpc.Invoker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AliasRandomLoadBalance Test
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class AliasRandomLoadBalanceTest extends LoadBalanceBaseTest {
+
+    @Test
+    public void testAliasRandomLoadBalanceSelect() {
+        int runs = 1000;
+        Map<Invoker, AtomicLong> counter = getInvokeCounter(runs, AliasRandomLoadBalance.NAME);
+        for (Map.Entry<Invoker, AtomicLong> entry : counter.entrySet()) {
+            Long count = entry.getValue().get();
+            Assertions.assertTrue(Math.abs(count - runs / (0f + invokers.size())) < runs / (0f + invokers.size()), "abs diff should < avg");
+        }
+    }
+
+    @Test
+    public void testSelectByWeight() {
+        int loop = 16000;
+        Map<Invoker, InvokeResult> resultMap = getWeightedInvokeResult(loop, AliasRandomLoadBalance.NAME);
+        for (InvokeResult invokeResult : resultMap.values()) {
+            // 1 : 9 : 6
+            Assertions.assertEquals(invokeResult.getExpected(loop), invokeResult.getCount().get(), loop * 0.02);
+        }
+    }
+
+    @Test
+    public void testZeroWeightIsNotSelected() {
+        Invoker<LoadBalanceBaseTest> zeroWeight = newInvoker("test0://127.0.0.1:10/DemoService?weight=0");
+        List<Invoker<LoadBalanceBaseTest>> list = new ArrayList<>(weightInvokers);
+        list.add(1, zeroWeight);
+
+        AliasRandomLoadBalance lb = new AliasRandomLoadBalance();
+        for (int i = 0; i < 10000; i++) {
+            Assertions.assertNotSame(zeroWeight, lb.select(list, null, weightTestInvocation));
+        }
+    }
+
+    @Test
+    public void testTableFollowsTheInvokers() {
+        AliasRandomLoadBalance lb = new AliasRandomLoadBalance();
+        for (int i = 0; i < 100; i++) {
+            lb.select(weightInvokers, null, weightTestInvocation);
+        }
+
+        // the same invokers in another list, one of them left
+        List<Invoker<LoadBalanceBaseTest>> list = new ArrayList<>(weightInvokers);
+        Invoker<LoadBalanceBaseTest> removed = list.remove(1);
+        lb.notify(null, Collections.emptyList(), Collections.singletonList(removed));
+        for (int i = 0; i < 1000; i++) {
+            Invoker selected = lb.select(list, null, weightTestInvocation);
+            Assertions.assertTrue(list.contains(selected));
+        }
+    }
+
+    @Test
+    public void testTablesOfSeveralGroupsReleased() throws Exception {
+        AliasRandomLoadBalance lb = new AliasRandomLoadBalance();
+        List<Invoker<LoadBalanceBaseTest>> group1 = Arrays.asList(
+                newInvoker("test://127.0.0.1:21/DemoService?group=group1"),
+                newInvoker("test://127.0.0.1:22/DemoService?group=group1"));
+        List<Invoker<LoadBalanceBaseTest>> group2 = Arrays.asList(
+                newInvoker("test://127.0.0.1:23/DemoService?group=group2"),
+                newInvoker("test://127.0.0.1:24/DemoService?group=group2"));
+        lb.select(group1, null, weightTestInvocation);
+        lb.select(group2, null, weightTestInvocation);
+
+        Field serviceTablesField = AliasRandomLoadBalance.class.getDeclaredField("serviceTables");
+        serviceTablesField.setAccessible(true);
+        Map<String, ?> serviceTables = (Map<String, ?>) serviceTablesField.get(lb);
+        Assertions.assertEquals(2, serviceTables.size());
+
+        lb.notify(null, Collections.emptyList(), Arrays.asList(group1.get(1), group2.get(1)));
+        Assertions.assertTrue(serviceTables.isEmpty());
+    }
+
+    @Test
+    public void testWarmingUpInvokerIsSelectedLess() {
+        String timestamp = String.valueOf(System.currentTimeMillis() - 1000);
+        Invoker<LoadBalanceBaseTest> warmingUp = newInvoker("test0://127.0.0.1:10/DemoService?weight=100&warmup=100000&timestamp=" + timestamp);
+        Invoker<LoadBalanceBaseTest> warm = newInvoker("test1://127.0.0.1:11/DemoService?weight=100");
+        List<Invoker<LoadBalanceBaseTest>> list = new ArrayList<>();
+        list.add(warmingUp);
+        list.add(warm);
+
+        AliasRandomLoadBalance lb = new AliasRandomLoadBalance();
+        int selected = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (lb.select(list, null, weightTestInvocation) == warmingUp) {
+                selected++;
+            }
+        }
+        // a weight of 1 against 100 for the first second of the warmup
+        Assertions.assertTrue(selected < 500, "selected " + selected);
+    }
+}
@@ -136,6 +136,14 @@ public class LoadBalanceBaseTest {
         return (AbstractLoadBalance) ExtensionLoader.getExtensionLoader(LoadBalance.class).getExtension(loadbalanceName);
     }
 
+    protected static Invoker<LoadBalanceBaseTest> newInvoker(String url) {
+        Invoker<LoadBalanceBaseTest> invoker = mock(Invoker.class, Mockito.withSettings().stubOnly());
+        given(invoker.isAvailable()).willReturn(true);
+        given(invoker.getInterface()).willReturn(LoadBalanceBaseTest.class);
+        given(invoker.getUrl()).willReturn(URL.valueOf(url));
+        return invoker;
+    }
+
     @Test
     public void testLoadBalanceWarmup() {
         Assertions.assertEquals(1, calculateDefaultWarmupWeight(0));
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class MurmurHashLoadBalanceTest extends LoadBalanceBaseTest {
+
+    private static final int KEYS = 10000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ring", "jump", "maglev"})
+    public void testSameArgumentsSameInvoker(String algorithm) {
+        List<Invoker<LoadBalanceBaseTest>> list = newInvokers(algorithm, 5);
+        MurmurHashLoadBalance lb = new MurmurHashLoadBalance();
+        Invoker selected = lb.select(list, null, invocation("key", 42));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertSame(selected, lb.select(list, null, invocation("key", 42)));
+            Assertions.assertSame(selected, lb.select(list, null, invocation(new StringBuilder("key"), 42L)));
+        }
+
+        // another list of the same invokers
+        List<Invoker<LoadBalanceBaseTest>> reversed = new ArrayList<>(list);
+        Collections.reverse(reversed);
+        Assertions.assertSame(selected, lb.select(reversed, null, invocation("key", 42)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ring", "jump", "maglev"})
+    public void testKeysAreSpread(String algorithm) {
+        List<Invoker<LoadBalanceBaseTest>> list = newInvokers(algorithm, 5);
+        Map<Invoker, Integer> counter = select(new MurmurHashLoadBalance(), list);
+        Assertions.assertEquals(5, counter.size());
+        for (Integer count : counter.values()) {
+            Assertions.assertEquals(KEYS / 5, count, KEYS / 5 * 0.3, algorithm);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ring", "jump", "maglev"})
+    public void testOnlyTheKeysOfTheRemovedInvokerMove(String algorithm) {
+        List<Invoker<LoadBalanceBaseTest>> list = newInvokers(algorithm, 10);
+        MurmurHashLoadBalance lb = new MurmurHashLoadBalance();
+        Map<Integer, Invoker> before = new HashMap<>();
+        for (int key = 0; key < KEYS; key++) {
+            before.put(key, lb.select(list, null, invocation(String.valueOf(key), 0)));
+        }
+
+        // the last one by address, which jump needs not to move the others
+        Invoker<LoadBalanceBaseTest> removed = list.remove(9);
+        lb.notify(null, Collections.emptyList(), Collections.singletonList(removed));
+        int moved = 0;
+        for (int key = 0; key < KEYS; key++) {
+            Invoker selected = lb.select(list, null, invocation(String.valueOf(key), 0));
+            Assertions.assertNotSame(removed, selected);
+            if (before.get(key) != removed && before.get(key) != selected) {
+                moved++;
+            }
+        }
+        // maglev moves a few more keys than those of the invoker removed
+        Assertions.assertTrue(moved <= KEYS / 100, algorithm + " moved " + moved);
+    }
+
+    @Test
+    public void testSelectorsOfSeveralGroupsReleased() throws Exception {
+        MurmurHashLoadBalance lb = new MurmurHashLoadBalance();
+        List<Invoker<LoadBalanceBaseTest>> group1 = Arrays.asList(
+                newInvoker("test://127.0.0.1:21/DemoService?group=group1"),
+                newInvoker("test://127.0.0.1:22/DemoService?group=group1"));
+        List<Invoker<LoadBalanceBaseTest>> group2 = Arrays.asList(
+                newInvoker("test://127.0.0.1:23/DemoService?group=group2"),
+                newInvoker("test://127.0.0.1:24/DemoService?group=group2"));
+        lb.select(group1, null, invocation("key", 42));
+        lb.select(group2, null, invocation("key", 42));
+
+        Field selectorsField = MurmurHashLoadBalance.class.getDeclaredField("selectors");
+        selectorsField.setAccessible(true);
+        Map<String, ?> selectors = (Map<String, ?>) selectorsField.get(lb);
+        Assertions.assertEquals(2, selectors.size());
+
+        lb.notify(null, Collections.emptyList(), Arrays.asList(group1.get(1), group2.get(1)));
+        Assertions.assertTrue(selectors.isEmpty());
+    }
+
+    @Test
+    public void testSelectorsOfRoutedListsKept() throws Exception {
+        MurmurHashLoadBalance lb;
+        List<Invoker<LoadBalanceBaseTest>> tagged;
+        List<Invoker<LoadBalanceBaseTest>> untagged;
+        List<Object> selectors;
+        do {
+            // other invokers until the two sets do not share a slot
+            lb = new MurmurHashLoadBalance();
+            List<Invoker<LoadBalanceBaseTest>> list = newInvokers(MurmurHashLoadBalance.RING, 6);
+            tagged = list.subList(0, 3);
+            untagged = list.subList(3, 6);
+            lb.select(tagged, null, invocation("key", 42));
+            lb.select(untagged, null, invocation("key", 42));
+            selectors = getSelectors(lb);
+        } while (selectors.size() < 2);
+
+        // the lists routed again alternate, with the same invokers in other lists
+        for (int i = 0; i < 10; i++) {
+            lb.select(new ArrayList<>(tagged), null, invocation("key", 42));
+            lb.select(new ArrayList<>(untagged), null, invocation("key", 42));
+        }
+        List<Object> after = getSelectors(lb);
+        Assertions.assertEquals(2, after.size());
+        Assertions.assertSame(selectors.get(0), after.get(0));
+        Assertions.assertSame(selectors.get(1), after.get(1));
+    }
+
+    private static List<Object> getSelectors(MurmurHashLoadBalance lb) throws Exception {
+        Field selectorsField = MurmurHashLoadBalance.class.getDeclaredField("selectors");
+        selectorsField.setAccessible(true);
+        Map<String, Map<String, AtomicReferenceArray<?>>> selectors =
+                (Map<String, Map<String, AtomicReferenceArray<?>>>) selectorsField.get(lb);
+        AtomicReferenceArray<?> slots = selectors.get("DemoService").get("sayHello");
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                list.add(slots.get(i));
+            }
+        }
+        return list;
+    }
+
+    private Map<Invoker, Integer> select(MurmurHashLoadBalance lb, List<Invoker<LoadBalanceBaseTest>> list) {
+        Map<Invoker, Integer> counter = new HashMap<>();
+        for (int key = 0; key < KEYS; key++) {
+            counter.merge(lb.select(list, null, invocation("user-" + key, 0)), 1, Integer::sum);
+        }
+        return counter;
+    }
+
+    private static RpcInvocation invocation(Object first, Object second) {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName("sayHello");
+        invocation.setArguments(new Object[]{first, second});
+        return invocation;
+    }
+
+    private static List<Invoker<LoadBalanceBaseTest>> newInvokers(String algorithm, int size) {
+        List<Invoker<LoadBalanceBaseTest>> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(newInvoker("test://10.20.30." + (10 + i) + ":20880/DemoService?hash.arguments=0,1&hash.algorithm=" + algorithm));
+        }
+        return list;
+    }
+}
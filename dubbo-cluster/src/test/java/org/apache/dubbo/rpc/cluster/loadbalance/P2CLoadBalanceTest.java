@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.cluster.loadbalance;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.RpcLoad;
+import org.apache.dubbo.rpc.protocol.InvokerWrapper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * P2CLoadBalance Test
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class P2CLoadBalanceTest extends LoadBalanceBaseTest {
+
+    private final P2CLoadBalance lb = new P2CLoadBalance();
+
+    @Test
+    public void testP2CLoadBalanceSelect() {
+        int runs = 1000;
+        Map<Invoker, AtomicLong> counter = getInvokeCounter(runs, P2CLoadBalance.NAME);
+        for (Map.Entry<Invoker, AtomicLong> entry : counter.entrySet()) {
+            Long count = entry.getValue().get();
+            Assertions.assertTrue(Math.abs(count - runs / (0f + invokers.size())) < runs / (0f + invokers.size()), "abs diff should < avg");
+        }
+    }
+
+    @Test
+    public void testSelectLessActive() {
+        List<Invoker<LoadBalanceBaseTest>> list = wrap("test1://127.0.0.1:11/DemoService", "test2://127.0.0.1:12/DemoService");
+        RpcLoad busy = ((InvokerWrapper) list.get(0)).getLoad();
+        busy.begin();
+        busy.begin();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertSame(list.get(1), lb.select(list, null, weightTestInvocation));
+        }
+    }
+
+    @Test
+    public void testSelectLessLatency() {
+        List<Invoker<LoadBalanceBaseTest>> list = wrap("test1://127.0.0.1:11/DemoService", "test2://127.0.0.1:12/DemoService",
+                "test3://127.0.0.1:13/DemoService");
+        sample(list.get(0), 50);
+        sample(list.get(1), 5);
+        sample(list.get(2), 5);
+
+        Map<Invoker, Integer> counter = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            counter.merge(lb.select(list, null, weightTestInvocation), 1, Integer::sum);
+        }
+        // the slow one loses against both others, which win at least every time they are picked with it
+        Assertions.assertNull(counter.get(list.get(0)));
+        Assertions.assertTrue(counter.get(list.get(1)) > 800);
+        Assertions.assertTrue(counter.get(list.get(2)) > 800);
+    }
+
+    @Test
+    public void testZeroWeightIsNotSelected() {
+        List<Invoker<LoadBalanceBaseTest>> list = wrap("test1://127.0.0.1:11/DemoService?weight=0", "test2://127.0.0.1:12/DemoService");
+        ((InvokerWrapper) list.get(1)).getLoad().begin();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertSame(list.get(1), lb.select(list, null, weightTestInvocation));
+        }
+    }
+
+    @Test
+    public void testLoadIsTrackedByTheWrapper() {
+        CompletableFuture<AppResponse> future = new CompletableFuture<>();
+        Invoker<LoadBalanceBaseTest> invoker = mock(Invoker.class);
+        given(invoker.invoke(any())).willReturn(new AsyncRpcResult(future, new RpcInvocation()));
+        InvokerWrapper<LoadBalanceBaseTest> wrapper = new InvokerWrapper<>(invoker, URL.valueOf("test1://127.0.0.1:11/DemoService"));
+
+        RpcLoad load = wrapper.getLoad();
+        Result result = wrapper.invoke(new RpcInvocation());
+        Assertions.assertEquals(1, load.getActive());
+        Assertions.assertEquals(0, load.getLatency());
+
+        future.complete(new AppResponse("done"));
+        Assertions.assertEquals("done", result.getValue());
+        Assertions.assertEquals(0, load.getActive());
+        Assertions.assertTrue(load.getLatency() > 0);
+    }
+
+    private static void sample(Invoker<?> invoker, long millis) {
+        RpcLoad load = ((InvokerWrapper) invoker).getLoad();
+        load.end(load.begin() - TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static List<Invoker<LoadBalanceBaseTest>> wrap(String... urls) {
+        List<Invoker<LoadBalanceBaseTest>> list = new ArrayList<>();
+        for (String url : urls) {
+            list.add(new InvokerWrapper<>(newInvoker(url), URL.valueOf(url)));
+        }
+        return list;
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -165,4 +167,22 @@ public class RoundRobinLoadBalanceTest extends LoadBalanceBaseTest {
         }
     }
 
+    @Test
+    public void testNotifyRemovedOfSeveralGroups() {
+        RoundRobinLoadBalance lb = (RoundRobinLoadBalance) getLoadBalance(RoundRobinLoadBalance.NAME);
+        List<Invoker<LoadBalanceBaseTest>> group1 = Arrays.asList(
+                newInvoker("test://127.0.0.1:21/DemoService?group=group1"),
+                newInvoker("test://127.0.0.1:22/DemoService?group=group1"));
+        List<Invoker<LoadBalanceBaseTest>> group2 = Arrays.asList(
+                newInvoker("test://127.0.0.1:23/DemoService?group=group2"),
+                newInvoker("test://127.0.0.1:24/DemoService?group=group2"));
+        lb.select(group1, null, weightTestInvocation);
+        lb.select(group2, null, weightTestInvocation);
+
+        lb.notify(null, Collections.emptyList(), Arrays.asList(group1.get(1), group2.get(1)));
+
+        Assertions.assertEquals(1, lb.getInvokerAddrList(group1, weightTestInvocation).size());
+        Assertions.assertEquals(1, lb.getInvokerAddrList(group2, weightTestInvocation).size());
+    }
+
 }
@@ -112,6 +112,27 @@ public interface CommonConstants {
 
     int DEFAULT_ALIVE = 60 * 1000;
 
+    /**
+     * the weights of the services sharing an isolated thread pool, as in <code>com.foo.BarService:3,com.foo.BazService:1</code>
+     */
+    String ISOLATION_WEIGHTS_KEY = "isolation.weights";
+
+    /**
+     * whether a service of an isolated thread pool may borrow the threads other services leave idle
+     */
+    String ISOLATION_BORROW_KEY = "isolation.borrow";
+
+    /**
+     * whether an eager thread pool runs its queued tasks by priority rather than in order, see
+     * {@link org.apache.dubbo.common.threadpool.Prioritized}
+     */
+    String QUEUE_PRIORITY_KEY = "queue.priority";
+
+    /**
+     * the priority of a call, passed as attachment or configured per method; the higher the sooner it runs
+     */
+    String CALL_PRIORITY_KEY = "priority";
+
     String TIMEOUT_KEY = "timeout";
 
     int DEFAULT_TIMEOUT = 1000;
@@ -120,6 +141,12 @@ public interface CommonConstants {
     // works as a replacement of TIMEOUT_KEY on wire, which seems to be totally useless in previous releases).
     String TIMEOUT_ATTACHMENT_KEY = "_TO";
 
+    /**
+     * the absolute deadline of a call, in milliseconds since the epoch, passed along with {@link #TIMEOUT_ATTACHMENT_KEY}
+     * so that a provider skips the calls whose consumers gave up. The clocks of the hosts are expected in sync.
+     */
+    String DEADLINE_ATTACHMENT_KEY = "_DL";
+
     String TIME_COUNTDOWN_KEY = "timeout-countdown";
 
     String ENABLE_TIMEOUT_COUNTDOWN_KEY = "enable-timeout-countdown";
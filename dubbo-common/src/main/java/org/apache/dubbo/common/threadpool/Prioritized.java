@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool;
+
+/**
+ * Implemented by the tasks, and the requests they carry, which tell how urgent they are to the queues ordering
+ * them, see {@link org.apache.dubbo.common.threadpool.support.eager.PriorityTaskQueue}.
+ */
+public interface Prioritized {
+
+    int DEFAULT_PRIORITY = 0;
+
+    /**
+     * Called once, when the task is queued.
+     *
+     * @return the priority of the task, the higher the sooner it runs
+     */
+    int getPriority();
+
+    /**
+     * Called once, when the task is queued.
+     *
+     * @return the milliseconds the caller still waits for the task, or 0 when it's unknown
+     */
+    int getTimeout();
+
+}
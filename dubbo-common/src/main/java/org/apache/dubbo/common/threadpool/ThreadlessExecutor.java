@@ -22,25 +22,42 @@ import org.apache.dubbo.common.logger.LoggerFactory;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.AbstractExecutorService;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * The most important difference between this Executor and other normal Executor is that this one doesn't manage
  * any thread.
  *
  * Tasks submitted to this executor through {@link #execute(Runnable)} will not get scheduled to a specific thread, though normal executors always do the schedule.
- * Those tasks are stored in a blocking queue and will only be executed when a thread calls {@link #waitAndDrain()}, the thread executing the task
+ * Those tasks are stored in a single slot and will only be executed when a thread calls {@link #waitAndDrain()}, the thread executing the task
  * is exactly the same as the one calling waitAndDrain.
+ * <p>
+ * The slot holds the only task of the usual call, its response, as is. Only when more tasks arrive before the caller
+ * takes them, like a response racing a timeout, they are chained in nodes. The caller parks until the slot is filled,
+ * and takes everything at once, after which further tasks go to the shared executor.
  */
 public class ThreadlessExecutor extends AbstractExecutorService {
     private static final Logger logger = LoggerFactory.getLogger(ThreadlessExecutor.class.getName());
 
-    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    /**
+     * The slot once the waiting thread took the tasks.
+     */
+    private static final Object DONE = new Object();
+
+    private static final AtomicReferenceFieldUpdater<ThreadlessExecutor, Object> SLOT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ThreadlessExecutor.class, Object.class, "slot");
+
+    /**
+     * Empty, a {@link Runnable}, a {@link Node} chain of several tasks with the latest first, or {@link #DONE}.
+     */
+    private volatile Object slot;
+
+    private volatile Thread waiter;
 
     private ExecutorService sharedExecutor;
 
@@ -48,10 +65,6 @@ public class ThreadlessExecutor extends AbstractExecutorService {
 
     private boolean finished = false;
 
-    private volatile boolean waiting = true;
-
-    private final Object lock = new Object();
-
     public ThreadlessExecutor(ExecutorService sharedExecutor) {
         this.sharedExecutor = sharedExecutor;
     }
@@ -65,7 +78,7 @@ public class ThreadlessExecutor extends AbstractExecutorService {
     }
 
     public boolean isWaiting() {
-        return waiting;
+        return slot != DONE;
     }
 
     /**
@@ -86,27 +99,54 @@ public class ThreadlessExecutor extends AbstractExecutorService {
             return;
         }
 
-        Runnable runnable = queue.take();
-
-        synchronized (lock) {
-            waiting = false;
-            runnable.run();
+        // published before the slot is checked, so a task put after the check always finds the thread to unpark
+        waiter = Thread.currentThread();
+        try {
+            while (slot == null) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiter = null;
         }
 
-        runnable = queue.poll();
-        while (runnable != null) {
-            try {
-                runnable.run();
-            } catch (Throwable t) {
-                logger.info(t);
-
-            }
-            runnable = queue.poll();
+        Object tasks = SLOT_UPDATER.getAndSet(this, DONE);
+        if (tasks instanceof Node) {
+            runAll(reverse((Node) tasks));
+        } else {
+            ((Runnable) tasks).run();
         }
         // mark the status of ThreadlessExecutor as finished.
         finished = true;
     }
 
+    private static void runAll(Node first) {
+        try {
+            first.task.run();
+        } finally {
+            for (Node node = first.next; node != null; node = node.next) {
+                try {
+                    node.task.run();
+                } catch (Throwable t) {
+                    logger.info(t);
+                }
+            }
+        }
+    }
+
+    private static Node reverse(Node head) {
+        Node reversed = null;
+        while (head != null) {
+            Node next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        return reversed;
+    }
+
     public long waitAndDrain(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
         /*long startInMs = System.currentTimeMillis();
         Runnable runnable = queue.poll(timeout, unit);
@@ -124,20 +164,38 @@ public class ThreadlessExecutor extends AbstractExecutorService {
     }
 
     /**
-     * If the calling thread is still waiting for a callback task, add the task into the blocking queue to wait for schedule.
+     * If the calling thread is still waiting for a callback task, put the task into the slot to wait for schedule.
      * Otherwise, submit to shared callback executor directly.
      *
      * @param runnable
      */
     @Override
     public void execute(Runnable runnable) {
-        synchronized (lock) {
-            if (!waiting) {
+        Node node = null;
+        for (; ; ) {
+            Object current = slot;
+            if (current == DONE) {
                 sharedExecutor.execute(runnable);
+                return;
+            }
+            Object next;
+            if (current == null) {
+                next = runnable;
             } else {
-                queue.add(runnable);
+                if (node == null) {
+                    node = new Node(runnable);
+                }
+                node.next = current instanceof Node ? (Node) current : new Node((Runnable) current);
+                next = node;
+            }
+            if (SLOT_UPDATER.compareAndSet(this, current, next)) {
+                break;
             }
         }
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
     }
 
     /**
@@ -180,4 +238,15 @@ public class ThreadlessExecutor extends AbstractExecutorService {
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         return false;
     }
+
+    private static final class Node {
+
+        private final Runnable task;
+
+        private Node next;
+
+        private Node(Runnable task) {
+            this.task = task;
+        }
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.dubbo.common.threadpool.manager;
 import org.apache.dubbo.common.URL;
 import org.apache.dubbo.common.extension.SPI;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -39,6 +41,15 @@ public interface ExecutorRepository {
 
     ExecutorService getExecutor(URL url);
 
+    /**
+     * Get the threadpools of the servers, by port.
+     *
+     * @return
+     */
+    default Map<Integer, ExecutorService> getServerExecutors() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Modify some of the threadpool's properties according to the url, for example, coreSize, maxSize, ...
      *
@@ -76,6 +76,19 @@ public class AbortPolicyWithReport extends ThreadPoolExecutor.AbortPolicy {
             e.getLargestPoolSize(),
             e.getTaskCount(), e.getCompletedTaskCount(), e.isShutdown(), e.isTerminated(), e.isTerminating(),
             url.getProtocol(), url.getIp(), url.getPort());
+        reject(msg);
+    }
+
+    /**
+     * Reports an exhausted executor which is not a {@link ThreadPoolExecutor}, as described by its status.
+     */
+    public void rejectedExecution(Runnable r, String status) {
+        String msg = String.format("Thread pool is EXHAUSTED! Thread Name: %s, %s, in %s://%s:%d!",
+            threadName, status, url.getProtocol(), url.getIp(), url.getPort());
+        reject(msg);
+    }
+
+    private void reject(String msg) {
         logger.warn(msg);
         dumpJStack();
         dispatchThreadPoolExhaustedEvent(msg);
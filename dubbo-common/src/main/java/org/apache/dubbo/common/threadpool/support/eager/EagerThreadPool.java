@@ -32,6 +32,7 @@ import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_CORE_THR
 import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_QUEUES;
 import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_THREAD_NAME;
 import static org.apache.dubbo.common.constants.CommonConstants.QUEUES_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.QUEUE_PRIORITY_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.THREADS_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
 
@@ -39,6 +40,7 @@ import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
  * EagerThreadPool
  * When the core threads are all in busy,
  * create new thread instead of putting task into blocking queue.
+ * With <code>queue.priority=true</code> the queued tasks run by priority, see {@link PriorityTaskQueue}.
  */
 public class EagerThreadPool implements ThreadPool {
 
@@ -50,6 +52,19 @@ public class EagerThreadPool implements ThreadPool {
         int queues = url.getParameter(QUEUES_KEY, DEFAULT_QUEUES);
         int alive = url.getParameter(ALIVE_KEY, DEFAULT_ALIVE);
 
+        if (url.getParameter(QUEUE_PRIORITY_KEY, false)) {
+            PriorityTaskQueue taskQueue = new PriorityTaskQueue(queues <= 0 ? 1 : queues);
+            EagerThreadPoolExecutor executor = new EagerThreadPoolExecutor(cores,
+                    threads,
+                    alive,
+                    TimeUnit.MILLISECONDS,
+                    taskQueue,
+                    new NamedInternalThreadFactory(name, true),
+                    new AbortPolicyWithReport(name, url));
+            taskQueue.setExecutor(executor);
+            return executor;
+        }
+
         // init queue and executor
         TaskQueue<Runnable> taskQueue = new TaskQueue<Runnable>(queues <= 0 ? 1 : queues);
         EagerThreadPoolExecutor executor = new EagerThreadPoolExecutor(cores,
@@ -17,6 +17,7 @@
 
 package org.apache.dubbo.common.threadpool.support.eager;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
@@ -43,6 +44,15 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
         super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
     }
 
+    public EagerThreadPoolExecutor(int corePoolSize,
+                                   int maximumPoolSize,
+                                   long keepAliveTime,
+                                   TimeUnit unit, PriorityTaskQueue workQueue,
+                                   ThreadFactory threadFactory,
+                                   RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
     /**
      * @return current tasks which are executed
      */
@@ -50,6 +60,13 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
         return submittedTaskCount.get();
     }
 
+    /**
+     * Called by the {@link PriorityTaskQueue} for a task it drops instead of handing it out.
+     */
+    void taskDropped() {
+        submittedTaskCount.decrementAndGet();
+    }
+
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
         submittedTaskCount.decrementAndGet();
@@ -66,9 +83,12 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
             super.execute(command);
         } catch (RejectedExecutionException rx) {
             // retry to offer the task into queue.
-            final TaskQueue queue = (TaskQueue) super.getQueue();
+            final BlockingQueue<Runnable> queue = super.getQueue();
             try {
-                if (!queue.retryOffer(command, 0, TimeUnit.MILLISECONDS)) {
+                boolean offered = queue instanceof PriorityTaskQueue
+                        ? ((PriorityTaskQueue) queue).retryOffer(command, 0, TimeUnit.MILLISECONDS)
+                        : ((TaskQueue<?>) queue).retryOffer(command, 0, TimeUnit.MILLISECONDS);
+                if (!offered) {
                     submittedTaskCount.decrementAndGet();
                     throw new RejectedExecutionException("Queue capacity is full.", rx);
                 }
@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.eager;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadpool.Prioritized;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded task queue for the {@link EagerThreadPoolExecutor} which hands out the tasks by priority, and in the
+ * order they came in among the tasks of the same priority, so that critical calls and health checks don't wait
+ * behind bulk traffic. The tasks tell their priority by implementing {@link Prioritized}, the others have
+ * {@link Prioritized#DEFAULT_PRIORITY}.
+ * <p>
+ * A task which waited in the queue longer than its caller waits for it is dropped instead of run: nobody takes its
+ * result anymore, and running it would only delay the tasks behind it further.
+ * <p>
+ * The tasks are offered like {@link TaskQueue} does, so that the executor starts a new thread rather than queue a
+ * task as long as it may.
+ */
+public class PriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriorityTaskQueue.class);
+
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * guarded by lock
+     */
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>();
+
+    /**
+     * guarded by lock
+     */
+    private long sequence;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private EagerThreadPoolExecutor executor;
+
+    public PriorityTaskQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but is " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void setExecutor(EagerThreadPoolExecutor exec) {
+        executor = exec;
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        if (executor == null) {
+            throw new RejectedExecutionException("The task queue does not have executor!");
+        }
+
+        int currentPoolThreadSize = executor.getPoolSize();
+        // have free worker. put task into queue to let the worker deal with task.
+        if (executor.getSubmittedTaskCount() < currentPoolThreadSize) {
+            return enqueue(runnable);
+        }
+
+        // return false to let executor create new worker.
+        if (currentPoolThreadSize < executor.getMaximumPoolSize()) {
+            return false;
+        }
+
+        // currentPoolThreadSize >= max
+        return enqueue(runnable);
+    }
+
+    /**
+     * retry offer task
+     *
+     * @param o task
+     * @return offer success or not
+     * @throws RejectedExecutionException if executor is terminated.
+     */
+    public boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor is shutdown!");
+        }
+        return offer(o, timeout, unit);
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) throws InterruptedException {
+        Entry entry = new Entry(runnable);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (entries.size() >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            add(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        Entry entry = new Entry(runnable);
+        lock.lockInterruptibly();
+        try {
+            while (entries.size() >= capacity) {
+                notFull.await();
+            }
+            add(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean enqueue(Runnable runnable) {
+        Entry entry = new Entry(runnable);
+        lock.lock();
+        try {
+            if (entries.size() >= capacity) {
+                return false;
+            }
+            add(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(Entry entry) {
+        entry.sequence = sequence++;
+        entries.add(entry);
+        notEmpty.signal();
+    }
+
+    @Override
+    public Runnable poll() {
+        for (; ; ) {
+            Entry entry;
+            lock.lock();
+            try {
+                entry = next();
+            } finally {
+                lock.unlock();
+            }
+            if (entry == null) {
+                return null;
+            }
+            if (!shed(entry)) {
+                return entry.task;
+            }
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (; ; ) {
+            Entry entry;
+            lock.lockInterruptibly();
+            try {
+                long nanos;
+                while (entries.isEmpty() && (nanos = deadline - System.nanoTime()) > 0) {
+                    notEmpty.awaitNanos(nanos);
+                }
+                entry = next();
+            } finally {
+                lock.unlock();
+            }
+            if (entry == null) {
+                return null;
+            }
+            if (!shed(entry)) {
+                return entry.task;
+            }
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        for (; ; ) {
+            Entry entry;
+            lock.lockInterruptibly();
+            try {
+                while (entries.isEmpty()) {
+                    notEmpty.await();
+                }
+                entry = next();
+            } finally {
+                lock.unlock();
+            }
+            if (!shed(entry)) {
+                return entry.task;
+            }
+        }
+    }
+
+    private Entry next() {
+        Entry entry = entries.poll();
+        if (entry != null) {
+            notFull.signal();
+        }
+        return entry;
+    }
+
+    /**
+     * Drops the task if its caller gave up waiting for it.
+     */
+    private boolean shed(Entry entry) {
+        if (entry.timeoutNanos <= 0) {
+            return false;
+        }
+        long waited = System.nanoTime() - entry.queued;
+        if (waited <= entry.timeoutNanos) {
+            return false;
+        }
+        long count = dropped.incrementAndGet();
+        if (executor != null) {
+            executor.taskDropped();
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn("Drop a task of priority " + entry.priority + " which waited "
+                    + TimeUnit.NANOSECONDS.toMillis(waited) + "ms in the queue, longer than the "
+                    + TimeUnit.NANOSECONDS.toMillis(entry.timeoutNanos) + "ms its caller waits for it, "
+                    + count + " tasks dropped so far.");
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of tasks dropped because they waited longer than their callers wait for them
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            Entry entry = entries.peek();
+            return entry == null ? null : entry.task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (Iterator<Entry> it = entries.iterator(); it.hasNext(); ) {
+                if (o.equals(it.next().task)) {
+                    it.remove();
+                    notFull.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            Entry entry;
+            while (n < maxElements && (entry = next()) != null) {
+                c.add(entry.task);
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return an iterator over a snapshot of the queued tasks, in no particular order
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> tasks;
+        lock.lock();
+        try {
+            tasks = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                tasks.add(entry.task);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new Itr(tasks);
+    }
+
+    private final class Itr implements Iterator<Runnable> {
+
+        private final List<Runnable> tasks;
+
+        private int cursor;
+
+        private Runnable last;
+
+        private Itr(List<Runnable> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < tasks.size();
+        }
+
+        @Override
+        public Runnable next() {
+            if (cursor >= tasks.size()) {
+                throw new NoSuchElementException();
+            }
+            last = tasks.get(cursor++);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            PriorityTaskQueue.this.remove(last);
+            last = null;
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final Runnable task;
+
+        private final int priority;
+
+        private final long timeoutNanos;
+
+        private final long queued = System.nanoTime();
+
+        private long sequence;
+
+        private Entry(Runnable task) {
+            if (task == null) {
+                throw new NullPointerException();
+            }
+            this.task = task;
+            if (task instanceof Prioritized) {
+                Prioritized prioritized = (Prioritized) task;
+                this.priority = prioritized.getPriority();
+                this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, prioritized.getTimeout()));
+            } else {
+                this.priority = Prioritized.DEFAULT_PRIORITY;
+                this.timeoutNanos = 0;
+            }
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            if (priority != o.priority) {
+                return priority > o.priority ? -1 : 1;
+            }
+            return Long.compare(sequence, o.sequence);
+        }
+    }
+}
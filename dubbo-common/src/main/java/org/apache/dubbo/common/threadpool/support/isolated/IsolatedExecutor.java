@@ -0,0 +1,476 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.isolated;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadpool.support.AbortPolicyWithReport;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares <code>threads</code> threads among lanes, one lane per service, so that a slow service can't starve the
+ * others.
+ * <p>
+ * Every lane owns a share of the threads in proportion to its weight, 1 unless configured otherwise. A lane running its whole share queues its
+ * further tasks, at most <code>queues</code> of them, unless it may borrow threads the other lanes leave idle.
+ * A thread finishing a task doesn't go back to the pool while there is queued work: it takes the next task of the
+ * lanes below their share first, then, when borrowing is allowed, of any other lane. Borrowed threads thus return to
+ * their owners as soon as the borrowing tasks complete.
+ */
+public class IsolatedExecutor extends AbstractExecutorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolatedExecutor.class);
+
+    /**
+     * the lane of the tasks which don't tell their service
+     */
+    public static final String DEFAULT_LANE = "default";
+
+    private final String name;
+
+    private final int threads;
+
+    private final int queues;
+
+    private final boolean borrow;
+
+    private final Map<String, Integer> weights;
+
+    private final ExecutorService workers;
+
+    private final AbortPolicyWithReport handler;
+
+    /**
+     * guarded by this
+     */
+    private final Map<String, Lane> lanes = new LinkedHashMap<>();
+
+    private int totalWeight;
+
+    private int running;
+
+    private volatile boolean shutdown;
+
+    IsolatedExecutor(String name, int threads, int queues, boolean borrow, Map<String, Integer> weights,
+                     ExecutorService workers, AbortPolicyWithReport handler) {
+        this.name = name;
+        this.threads = threads;
+        this.queues = queues;
+        this.borrow = borrow;
+        this.weights = weights;
+        this.workers = workers;
+        this.handler = handler;
+        // the lanes with a weight exist from the start, so that their shares don't shrink as other lanes show up
+        for (String service : weights.keySet()) {
+            getLane(service);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        execute(DEFAULT_LANE, command);
+    }
+
+    /**
+     * Runs the task in the lane of the given service.
+     */
+    public void execute(String service, Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor " + name + " has been shut down");
+        }
+        Lane lane;
+        boolean start;
+        synchronized (this) {
+            lane = getLane(service == null ? DEFAULT_LANE : service);
+            lane.tasks++;
+            start = acquire(lane);
+            if (!start) {
+                if (queues >= 0 && lane.queue.size() >= queues) {
+                    lane.rejected++;
+                    lane.tasks--;
+                } else {
+                    lane.queue.add(new Task(lane, command));
+                    return;
+                }
+            }
+        }
+        if (!start) {
+            handler.rejectedExecution(command, getStatus(lane));
+            return;
+        }
+        try {
+            workers.execute(new Worker(lane, command));
+        } catch (Throwable t) {
+            synchronized (this) {
+                release(lane);
+                lane.tasks--;
+                lane.rejected++;
+            }
+            throw new RejectedExecutionException("Failed to start a thread for a task of " + name, t);
+        }
+    }
+
+    private Lane getLane(String service) {
+        Lane lane = lanes.get(service);
+        if (lane == null) {
+            lane = new Lane(service, weights.getOrDefault(service, 1));
+            lanes.put(service, lane);
+            totalWeight += lane.weight;
+        }
+        return lane;
+    }
+
+    private int getShare(Lane lane) {
+        return Math.max(1, (int) ((long) threads * lane.weight / totalWeight));
+    }
+
+    private boolean acquire(Lane lane) {
+        if (running >= threads) {
+            return false;
+        }
+        boolean owned = lane.active < getShare(lane);
+        if (!owned && !borrow) {
+            return false;
+        }
+        running++;
+        lane.active++;
+        lane.largest = Math.max(lane.largest, lane.active);
+        if (!owned) {
+            lane.borrowed++;
+        }
+        return true;
+    }
+
+    private void release(Lane lane) {
+        running--;
+        lane.active--;
+    }
+
+    /**
+     * Takes the oldest task of the lanes below their share, or, when borrowing is allowed, of all lanes.
+     */
+    private Task poll() {
+        Task next = null;
+        Task borrowed = null;
+        for (Lane lane : lanes.values()) {
+            Task head = lane.queue.peek();
+            if (head == null) {
+                continue;
+            }
+            if (lane.active < getShare(lane)) {
+                if (next == null || head.queued < next.queued) {
+                    next = head;
+                }
+            } else if (borrow && (borrowed == null || head.queued < borrowed.queued)) {
+                borrowed = head;
+            }
+        }
+        if (next == null) {
+            next = borrowed;
+        }
+        if (next == null || !acquire(next.lane)) {
+            return null;
+        }
+        next.lane.queue.poll();
+        return next;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        workers.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> tasks = new ArrayList<>();
+        synchronized (this) {
+            for (Lane lane : lanes.values()) {
+                for (Task task = lane.queue.poll(); task != null; task = lane.queue.poll()) {
+                    tasks.add(task.command);
+                }
+            }
+        }
+        workers.shutdownNow();
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * @return the number of threads shared among the lanes
+     */
+    public int getMaximumPoolSize() {
+        return threads;
+    }
+
+    /**
+     * @return the number of tasks running
+     */
+    public synchronized int getActiveCount() {
+        return running;
+    }
+
+    /**
+     * @return the statistics of every lane, in the order the lanes were created
+     */
+    public synchronized List<LaneStatus> getLanes() {
+        List<LaneStatus> status = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            status.add(new LaneStatus(lane, getShare(lane)));
+        }
+        return status;
+    }
+
+    private synchronized String getStatus(Lane lane) {
+        return String.format("Lane: %s (weight: %d, share: %d, active: %d, queued: %d, rejected: %d), "
+                        + "Threads: %d (active: %d, borrow: %s), Executor status:(isShutdown:%s, isTerminated:%s)",
+                lane.service, lane.weight, getShare(lane), lane.active, lane.queue.size(), lane.rejected,
+                threads, running, borrow, isShutdown(), isTerminated());
+    }
+
+    @Override
+    public String toString() {
+        return "IsolatedExecutor(" + name + ") " + getLanes();
+    }
+
+    private static final class Lane {
+
+        private final String service;
+
+        private final int weight;
+
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+
+        private int active;
+
+        private int largest;
+
+        private long tasks;
+
+        private long completed;
+
+        private long rejected;
+
+        private long borrowed;
+
+        private long dequeued;
+
+        private long totalWaitNanos;
+
+        private long maxWaitNanos;
+
+        private Lane(String service, int weight) {
+            this.service = service;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Task {
+
+        private final Lane lane;
+
+        private final Runnable command;
+
+        private final long queued = System.nanoTime();
+
+        private Task(Lane lane, Runnable command) {
+            this.lane = lane;
+            this.command = command;
+        }
+    }
+
+    /**
+     * Runs a task, then the queued ones as long as there are any it may take.
+     */
+    private final class Worker implements Runnable {
+
+        private Lane lane;
+
+        private Runnable command;
+
+        private Worker(Lane lane, Runnable command) {
+            this.lane = lane;
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            while (command != null) {
+                try {
+                    command.run();
+                } catch (Throwable t) {
+                    logger.warn("Task of " + lane.service + " in thread pool " + name + " failed: " + t.getMessage(), t);
+                }
+                Task next;
+                synchronized (IsolatedExecutor.this) {
+                    lane.completed++;
+                    release(lane);
+                    next = poll();
+                    if (next != null) {
+                        long wait = System.nanoTime() - next.queued;
+                        next.lane.dequeued++;
+                        next.lane.totalWaitNanos += wait;
+                        next.lane.maxWaitNanos = Math.max(next.lane.maxWaitNanos, wait);
+                    }
+                }
+                lane = next == null ? null : next.lane;
+                command = next == null ? null : next.command;
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a lane.
+     */
+    public static final class LaneStatus {
+
+        private final String service;
+
+        private final int weight;
+
+        private final int share;
+
+        private final int active;
+
+        private final int largest;
+
+        private final int queueSize;
+
+        private final long taskCount;
+
+        private final long completedTaskCount;
+
+        private final long rejectedCount;
+
+        private final long borrowedCount;
+
+        private final long averageWaitNanos;
+
+        private final long maxWaitNanos;
+
+        private LaneStatus(Lane lane, int share) {
+            this.service = lane.service;
+            this.weight = lane.weight;
+            this.share = share;
+            this.active = lane.active;
+            this.largest = lane.largest;
+            this.queueSize = lane.queue.size();
+            this.taskCount = lane.tasks;
+            this.completedTaskCount = lane.completed;
+            this.rejectedCount = lane.rejected;
+            this.borrowedCount = lane.borrowed;
+            this.averageWaitNanos = lane.dequeued == 0 ? 0 : lane.totalWaitNanos / lane.dequeued;
+            this.maxWaitNanos = lane.maxWaitNanos;
+        }
+
+        public String getService() {
+            return service;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        /**
+         * @return the number of threads the lane owns
+         */
+        public int getShare() {
+            return share;
+        }
+
+        public int getActiveCount() {
+            return active;
+        }
+
+        public int getLargestActiveCount() {
+            return largest;
+        }
+
+        /**
+         * @return the number of tasks waiting for a thread
+         */
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public long getTaskCount() {
+            return taskCount;
+        }
+
+        public long getCompletedTaskCount() {
+            return completedTaskCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * @return the number of tasks which ran on threads beyond the share of the lane
+         */
+        public long getBorrowedCount() {
+            return borrowedCount;
+        }
+
+        /**
+         * @return the average time the queued tasks waited for a thread
+         */
+        public long getAverageWait(TimeUnit unit) {
+            return unit.convert(averageWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return the longest time a queued task waited for a thread
+         */
+        public long getMaxWait(TimeUnit unit) {
+            return unit.convert(maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return service + "(weight: " + weight + ", share: " + share + ", active: " + active
+                    + ", queued: " + queueSize + ", rejected: " + rejectedCount + ")";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.isolated;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadlocal.NamedInternalThreadFactory;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+import org.apache.dubbo.common.threadpool.support.AbortPolicyWithReport;
+import org.apache.dubbo.common.utils.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.ALIVE_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.COMMA_SPLIT_PATTERN;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_ALIVE;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_QUEUES;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_THREADS;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_THREAD_NAME;
+import static org.apache.dubbo.common.constants.CommonConstants.ISOLATION_BORROW_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.ISOLATION_WEIGHTS_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.QUEUES_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.THREADS_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
+
+/**
+ * Creates a thread pool whose threads are shared among the services by weight, see {@link IsolatedExecutor}.
+ * The tasks tell their service when dispatched by the <code>isolated</code> dispatcher; <code>queues</code> bounds the
+ * queue of each service.
+ */
+public class IsolatedThreadPool implements ThreadPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolatedThreadPool.class);
+
+    @Override
+    public Executor getExecutor(URL url) {
+        String name = url.getParameter(THREAD_NAME_KEY, DEFAULT_THREAD_NAME);
+        int threads = url.getParameter(THREADS_KEY, DEFAULT_THREADS);
+        int queues = url.getParameter(QUEUES_KEY, DEFAULT_QUEUES);
+        int alive = url.getParameter(ALIVE_KEY, DEFAULT_ALIVE);
+        boolean borrow = url.getParameter(ISOLATION_BORROW_KEY, true);
+        // the threads are bounded by the executor, the pool only keeps them around
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE, alive, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new NamedInternalThreadFactory(name, true));
+        return new IsolatedExecutor(name, threads, queues, borrow, parseWeights(url.getParameter(ISOLATION_WEIGHTS_KEY)),
+                workers, new AbortPolicyWithReport(name, url));
+    }
+
+    static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        if (StringUtils.isEmpty(value)) {
+            return weights;
+        }
+        for (String entry : COMMA_SPLIT_PATTERN.split(value.trim())) {
+            int i = entry.lastIndexOf(':');
+            int weight = i > 0 ? StringUtils.parseInteger(entry.substring(i + 1).trim()) : 0;
+            if (weight <= 0) {
+                logger.warn("Ignore invalid " + ISOLATION_WEIGHTS_KEY + " entry " + entry
+                        + ", expected <service>:<positive weight>");
+                continue;
+            }
+            weights.put(entry.substring(0, i).trim(), weight);
+        }
+        return weights;
+    }
+}
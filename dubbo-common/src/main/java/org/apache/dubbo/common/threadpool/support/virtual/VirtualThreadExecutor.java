@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.virtual;
+
+import org.apache.dubbo.common.threadpool.support.AbortPolicyWithReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs every task on a thread of its own, at most <code>maxConcurrency</code> at a time.
+ * <p>
+ * A task beyond the limit is rejected right away through {@link AbortPolicyWithReport}, as nothing is queued.
+ * The threads are virtual ones when the JVM supports them, otherwise the tasks run on a cached pool of
+ * platform threads.
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final String name;
+
+    private final int maxConcurrency;
+
+    private final Semaphore permits;
+
+    private final ThreadFactory virtualThreadFactory;
+
+    private final ExecutorService platformThreads;
+
+    private final AbortPolicyWithReport handler;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicInteger largest = new AtomicInteger();
+
+    private final LongAdder tasks = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile boolean shutdown;
+
+    VirtualThreadExecutor(String name, int maxConcurrency, ThreadFactory virtualThreadFactory,
+                          ExecutorService platformThreads, AbortPolicyWithReport handler) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.virtualThreadFactory = virtualThreadFactory;
+        this.platformThreads = platformThreads;
+        this.handler = handler;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            handler.rejectedExecution(command, getStatus());
+            return;
+        }
+        largest.accumulateAndGet(active.incrementAndGet(), Math::max);
+        if (shutdown) {
+            finish();
+            rejected.increment();
+            throw new RejectedExecutionException("Executor " + name + " has been shut down");
+        }
+        tasks.increment();
+        Runnable task = () -> {
+            Thread thread = Thread.currentThread();
+            running.add(thread);
+            try {
+                command.run();
+            } finally {
+                running.remove(thread);
+                completed.increment();
+                finish();
+            }
+        };
+        try {
+            if (virtualThreadFactory != null) {
+                virtualThreadFactory.newThread(task).start();
+            } else {
+                platformThreads.execute(task);
+            }
+        } catch (Throwable t) {
+            finish();
+            rejected.increment();
+            throw new RejectedExecutionException("Failed to start a thread for a task of " + name, t);
+        }
+    }
+
+    private void finish() {
+        permits.release();
+        if (active.decrementAndGet() == 0 && shutdown) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (platformThreads != null) {
+            platformThreads.shutdown();
+        }
+        if (active.get() == 0) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : running) {
+            thread.interrupt();
+        }
+        // nothing is ever queued
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * @return whether the tasks run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    /**
+     * @return the max number of tasks running at the same time
+     */
+    public int getMaximumConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the number of tasks running
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return the largest number of tasks which ever ran at the same time
+     */
+    public int getLargestActiveCount() {
+        return largest.get();
+    }
+
+    /**
+     * @return the number of tasks accepted so far
+     */
+    public long getTaskCount() {
+        return tasks.sum();
+    }
+
+    /**
+     * @return the number of tasks completed so far
+     */
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return the number of tasks rejected so far
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private String getStatus() {
+        return String.format("Active: %d (max: %d, largest: %d, virtual: %s), Task: %d "
+                        + "(completed: %d, rejected: %d), Executor status:(isShutdown:%s, isTerminated:%s)",
+                active.get(), maxConcurrency, largest.get(), isVirtual(), tasks.sum(),
+                completed.sum(), rejected.sum(), isShutdown(), isTerminated());
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutor(" + name + ") " + getStatus();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.virtual;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadlocal.NamedInternalThreadFactory;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+import org.apache.dubbo.common.threadpool.support.AbortPolicyWithReport;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.ALIVE_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_ALIVE;
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_THREAD_NAME;
+import static org.apache.dubbo.common.constants.CommonConstants.THREADS_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
+
+/**
+ * Creates an executor which runs each task on a new virtual thread, and at most <code>threads</code> tasks at a
+ * time. On a JVM without virtual threads, the tasks run on a cached pool of platform threads instead.
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    @Override
+    public Executor getExecutor(URL url) {
+        String name = url.getParameter(THREAD_NAME_KEY, DEFAULT_THREAD_NAME);
+        int threads = url.getParameter(THREADS_KEY, Integer.MAX_VALUE);
+        int alive = url.getParameter(ALIVE_KEY, DEFAULT_ALIVE);
+
+        ThreadFactory virtualThreadFactory = newVirtualThreadFactory(name);
+        ExecutorService platformThreads = null;
+        if (virtualThreadFactory == null) {
+            logger.info("Virtual threads are not supported by this JVM, thread pool " + name
+                    + " runs its tasks on platform threads.");
+            platformThreads = new ThreadPoolExecutor(0, Integer.MAX_VALUE, alive, TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<>(), new NamedInternalThreadFactory(name, true));
+        }
+        return new VirtualThreadExecutor(name, threads <= 0 ? Integer.MAX_VALUE : threads, virtualThreadFactory,
+                platformThreads, new AbortPolicyWithReport(name, url));
+    }
+
+    /**
+     * Looks up <code>Thread.ofVirtual().name(name + "-virtual-", 1).factory()</code>, which only exists from
+     * Java 21 on.
+     *
+     * @return null when the JVM does not support virtual threads
+     */
+    static ThreadFactory newVirtualThreadFactory(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-virtual-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,538 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.timer;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.ClassUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Timer} for the timeouts which are scheduled and cancelled at a high rate, as the one of every RPC.
+ *
+ * <h3>Worker Wheels</h3>
+ * <p>
+ * Unlike {@link HashedWheelTimer}, which hands every timeout to its single worker through one queue, this timer
+ * runs several wheels, each with its own worker thread, and a thread always schedules on the same wheel, chosen by
+ * its id. The threads scheduling on a wheel push the timeouts onto a lock-free stack which the worker takes at once
+ * on every tick, the timeouts being the nodes of the stack and of the buckets themselves.
+ *
+ * <h3>Hierarchical Wheel</h3>
+ * <p>
+ * Every wheel is made of {@value #LEVELS} levels of {@value #TICKS_PER_LEVEL} buckets, the ticks of one level being
+ * as long as a whole turn of the level below. A timeout is put in the lowest level whose turn it falls in, and is
+ * moved down a level whenever the level below starts the turn it falls in, so that the worker never walks the
+ * timeouts which are not due, whatever their delay. The timeouts past the turn of the highest level, about 16
+ * million ticks, wait in its last bucket and are put back when it is reached.
+ *
+ * <h3>Lazy Cancellation</h3>
+ * <p>
+ * {@link Timeout#cancel()} only marks the timeout, so that cancelling allocates nothing and never contends with the
+ * worker. The worker drops the cancelled timeouts as it reaches them, so that a cancelled timeout is held until its
+ * deadline, or until its level is moved down; which suits the timeouts of the calls, that are short.
+ */
+public class HierarchicalWheelTimer implements Timer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HierarchicalWheelTimer.class);
+
+    private static final int LEVELS = 4;
+
+    private static final int TICK_BITS = 6;
+
+    private static final int TICKS_PER_LEVEL = 1 << TICK_BITS;
+
+    private static final int TICK_MASK = TICKS_PER_LEVEL - 1;
+
+    /**
+     * the ticks of a whole turn of the highest level
+     */
+    private static final long WHEEL_SPAN = 1L << (TICK_BITS * LEVELS);
+
+    private static final AtomicIntegerFieldUpdater<HierarchicalWheelTimer> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(HierarchicalWheelTimer.class, "state");
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    /**
+     * 0 - init, 1 - started, 2 - shut down
+     */
+    @SuppressWarnings({"unused", "FieldMayBeFinal"})
+    private volatile int state;
+
+    private final long tickDuration;
+
+    private final Wheel[] wheels;
+
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private final LongAdder pendingTimeouts = new LongAdder();
+
+    /**
+     * Creates a new timer with the default thread factory ({@link Executors#defaultThreadFactory()}),
+     * default tick duration, and default number of worker wheels.
+     */
+    public HierarchicalWheelTimer() {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates a new timer with the default tick duration and default number of worker wheels.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates the background {@link Thread}s of the wheels
+     * @throws NullPointerException if {@code threadFactory} is {@code null}
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory) {
+        this(threadFactory, 100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new timer with as many worker wheels as the processors, but 4 at most.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates the background {@link Thread}s of the wheels
+     * @param tickDuration  the duration between tick
+     * @param unit          the time unit of the {@code tickDuration}
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code tickDuration} is &lt;= 0
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit) {
+        this(threadFactory, tickDuration, unit, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates the background {@link Thread}s of the wheels
+     * @param tickDuration  the duration between tick
+     * @param unit          the time unit of the {@code tickDuration}
+     * @param workers       the number of the worker wheels, each run by a thread of its own
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code workers} is &lt;= 0
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int workers) {
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be greater than 0: " + workers);
+        }
+
+        this.tickDuration = unit.toNanos(tickDuration);
+
+        // Prevent overflow.
+        if (this.tickDuration >= Long.MAX_VALUE / WHEEL_SPAN) {
+            throw new IllegalArgumentException(String.format(
+                    "tickDuration: %d (expected: 0 < tickDuration in nanos < %d",
+                    tickDuration, Long.MAX_VALUE / WHEEL_SPAN));
+        }
+
+        wheels = new Wheel[workers];
+        for (int i = 0; i < workers; i++) {
+            wheels[i] = new Wheel();
+            wheels[i].workerThread = threadFactory.newThread(wheels[i]);
+        }
+    }
+
+    /**
+     * Starts the background threads explicitly.  The background threads will
+     * start automatically on demand even if you did not call this method.
+     *
+     * @throws IllegalStateException if this timer has been
+     *                               {@linkplain #stop() stopped} already
+     */
+    public void start() {
+        switch (STATE_UPDATER.get(this)) {
+            case STATE_INIT:
+                if (STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_STARTED)) {
+                    for (Wheel wheel : wheels) {
+                        wheel.startTime = System.nanoTime();
+                        wheel.workerThread.start();
+                    }
+                    startTimeInitialized.countDown();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            case STATE_SHUTDOWN:
+                throw new IllegalStateException("cannot be started once stopped");
+            default:
+                throw new Error("Invalid WorkerState");
+        }
+
+        // Wait until the start time of the wheels is initialized.
+        while (startTimeInitialized.getCount() > 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException ignore) {
+                // Ignore - it will be ready very soon.
+            }
+        }
+    }
+
+    @Override
+    public Set<Timeout> stop() {
+        for (Wheel wheel : wheels) {
+            if (Thread.currentThread() == wheel.workerThread) {
+                throw new IllegalStateException(
+                        HierarchicalWheelTimer.class.getSimpleName() +
+                                ".stop() cannot be called from " +
+                                TimerTask.class.getSimpleName());
+            }
+        }
+
+        if (!STATE_UPDATER.compareAndSet(this, STATE_STARTED, STATE_SHUTDOWN)) {
+            STATE_UPDATER.set(this, STATE_SHUTDOWN);
+            return Collections.emptySet();
+        }
+
+        boolean interrupted = false;
+        Set<Timeout> unprocessed = new HashSet<>();
+        for (Wheel wheel : wheels) {
+            while (wheel.workerThread.isAlive()) {
+                wheel.workerThread.interrupt();
+                try {
+                    wheel.workerThread.join(100);
+                } catch (InterruptedException ignored) {
+                    interrupted = true;
+                }
+            }
+            unprocessed.addAll(wheel.unprocessedTimeouts);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return Collections.unmodifiableSet(unprocessed);
+    }
+
+    @Override
+    public boolean isStop() {
+        return STATE_SHUTDOWN == STATE_UPDATER.get(this);
+    }
+
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+
+        start();
+
+        Wheel wheel = wheels[(int) (Thread.currentThread().getId() % wheels.length)];
+        long deadline = System.nanoTime() + unit.toNanos(delay) - wheel.startTime;
+
+        // Guard against overflow.
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, wheel, task, deadline);
+        pendingTimeouts.increment();
+        wheel.submit(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of pending timeouts of this {@link Timer}, which are neither expired nor cancelled.
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.sum();
+    }
+
+    /**
+     * Returns the number of the worker wheels of this {@link Timer}.
+     */
+    public int workers() {
+        return wheels.length;
+    }
+
+    private final class Wheel implements Runnable {
+
+        /**
+         * the buckets of all the levels, the ones of level {@code n} starting at {@code n * TICKS_PER_LEVEL}
+         */
+        private final WheelTimeout[] buckets = new WheelTimeout[LEVELS * TICKS_PER_LEVEL];
+
+        /**
+         * the timeouts scheduled since the last tick, chained via {@link WheelTimeout#next}
+         */
+        private final AtomicReference<WheelTimeout> submitted = new AtomicReference<>();
+
+        private final Set<Timeout> unprocessedTimeouts = new HashSet<>();
+
+        private Thread workerThread;
+
+        private volatile long startTime;
+
+        private long tick;
+
+        void submit(WheelTimeout timeout) {
+            WheelTimeout head;
+            do {
+                head = submitted.get();
+                timeout.next = head;
+            } while (!submitted.compareAndSet(head, timeout));
+        }
+
+        @Override
+        public void run() {
+            while (STATE_UPDATER.get(HierarchicalWheelTimer.this) == STATE_STARTED) {
+                if (!waitForNextTick()) {
+                    break;
+                }
+                if (tick > 0 && (tick & TICK_MASK) == 0) {
+                    cascade();
+                }
+                transferTimeoutsToBuckets();
+                expireTimeouts();
+                tick++;
+            }
+
+            // Fill the unprocessedTimeouts so we can return them from stop() method.
+            for (int i = 0; i < buckets.length; i++) {
+                collectUnprocessed(buckets[i]);
+                buckets[i] = null;
+            }
+            collectUnprocessed(submitted.getAndSet(null));
+        }
+
+        /**
+         * Moves the bucket of every level which starts its turn at this tick down, from the lowest level up.
+         */
+        private void cascade() {
+            for (int level = 1; level < LEVELS; level++) {
+                int slot = (int) ((tick >>> (level * TICK_BITS)) & TICK_MASK);
+                int index = level * TICKS_PER_LEVEL + slot;
+                WheelTimeout timeout = buckets[index];
+                buckets[index] = null;
+                while (timeout != null) {
+                    WheelTimeout next = timeout.next;
+                    if (!timeout.isCancelled()) {
+                        addTimeout(timeout);
+                    }
+                    timeout = next;
+                }
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            WheelTimeout timeout = submitted.getAndSet(null);
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (!timeout.isCancelled()) {
+                    addTimeout(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        private void expireTimeouts() {
+            int index = (int) (tick & TICK_MASK);
+            WheelTimeout timeout = buckets[index];
+            buckets[index] = null;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                timeout.next = null;
+                timeout.expire();
+                timeout = next;
+            }
+        }
+
+        private void addTimeout(WheelTimeout timeout) {
+            long deadline = timeout.deadline <= 0 ? 0
+                    : timeout.deadline / tickDuration + (timeout.deadline % tickDuration == 0 ? 0 : 1);
+            long ticks = deadline - tick;
+            int level;
+            if (ticks <= 0) {
+                // It is behind, so expire it on this tick.
+                deadline = tick;
+                level = 0;
+            } else if (ticks >= WHEEL_SPAN) {
+                // Wait in the farthest bucket of the highest level and be put back when it is reached.
+                deadline = tick + WHEEL_SPAN - 1;
+                level = LEVELS - 1;
+            } else {
+                level = (63 - Long.numberOfLeadingZeros(ticks)) / TICK_BITS;
+            }
+            int index = level * TICKS_PER_LEVEL + (int) ((deadline >>> (level * TICK_BITS)) & TICK_MASK);
+            timeout.next = buckets[index];
+            buckets[index] = timeout;
+        }
+
+        private void collectUnprocessed(WheelTimeout timeout) {
+            while (timeout != null) {
+                if (!timeout.isCancelled() && !timeout.isExpired()) {
+                    unprocessedTimeouts.add(timeout);
+                }
+                WheelTimeout next = timeout.next;
+                timeout.next = null;
+                timeout = next;
+            }
+        }
+
+        /**
+         * calculate goal nanoTime from startTime and current tick number,
+         * then wait until that goal has been reached.
+         *
+         * @return false if received a shutdown request while waiting
+         */
+        private boolean waitForNextTick() {
+            long deadline = tickDuration * tick;
+
+            for (; ; ) {
+                final long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+
+                if (sleepTimeMs <= 0) {
+                    return true;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException ignored) {
+                    if (STATE_UPDATER.get(HierarchicalWheelTimer.this) == STATE_SHUTDOWN) {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HierarchicalWheelTimer timer;
+        private final Wheel wheel;
+        private final TimerTask task;
+        private final long deadline;
+
+        @SuppressWarnings({"unused", "FieldMayBeFinal", "RedundantFieldInitialization"})
+        private volatile int state = ST_INIT;
+
+        /**
+         * This will be used to chain timeouts in the stack of the submitted ones, and then in a bucket.
+         * As the stack publishes it and only the workerThread will act on it afterwards, there is no need
+         * for volatile.
+         */
+        WheelTimeout next;
+
+        WheelTimeout(HierarchicalWheelTimer timer, Wheel wheel, TimerTask task, long deadline) {
+            this.timer = timer;
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Timer timer() {
+            return timer;
+        }
+
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        @Override
+        public boolean cancel() {
+            // only update the state, the worker drops it when it reaches it.
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingTimeouts.decrement();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrement();
+
+            try {
+                task.run(this);
+            } catch (Throwable t) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("An exception was thrown by " + TimerTask.class.getSimpleName() + '.', t);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            long remaining = deadline - System.nanoTime() + wheel.startTime;
+            StringBuilder buf = new StringBuilder(192)
+                    .append(ClassUtils.simpleClassName(this.getClass()))
+                    .append('(')
+                    .append("deadline: ");
+            if (remaining > 0) {
+                buf.append(remaining)
+                        .append(" ns later");
+            } else if (remaining < 0) {
+                buf.append(-remaining)
+                        .append(" ns ago");
+            } else {
+                buf.append("now");
+            }
+
+            if (isCancelled()) {
+                buf.append(", cancelled");
+            }
+
+            return buf.append(", task: ")
+                    .append(task())
+                    .append(')')
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.utils;
+
+/**
+ * A concurrent map keyed by primitive <code>long</code>.
+ * <p>
+ * The key space is split into a fixed number of stripes, each of them an open addressing table
+ * guarded by its own monitor, so lookups never box the key and writers on different stripes
+ * never contend with each other.
+ * <p>
+ * <code>null</code> values are not supported.
+ */
+public class StripedLongObjectMap<V> {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private static final int DEFAULT_STRIPE_CAPACITY = 64;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final Stripe<V>[] stripes;
+
+    private final int stripeShift;
+
+    public StripedLongObjectMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedLongObjectMap(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel must be greater than 0, but was " + concurrencyLevel);
+        }
+        int size = 1;
+        while (size < concurrencyLevel) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe<>(DEFAULT_STRIPE_CAPACITY);
+        }
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(size);
+    }
+
+    public V get(long key) {
+        long hash = hash(key);
+        return stripeFor(hash).get(key, hash);
+    }
+
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long hash = hash(key);
+        return stripeFor(hash).put(key, hash, value);
+    }
+
+    public V remove(long key) {
+        long hash = hash(key);
+        return stripeFor(hash).remove(key, hash);
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Stripe<V> stripe : stripes) {
+            if (stripe.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private Stripe<V> stripeFor(long hash) {
+        // stripes use the high bits, slots inside a stripe use the low bits
+        return stripes[stripeShift == 64 ? 0 : (int) (hash >>> stripeShift)];
+    }
+
+    private static long hash(long key) {
+        long h = key * GOLDEN_RATIO;
+        return h ^ (h >>> 32);
+    }
+
+    private static final class Stripe<V> {
+
+        private long[] keys;
+
+        private Object[] values;
+
+        private int size;
+
+        Stripe(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V get(long key, long hash) {
+            int mask = keys.length - 1;
+            for (int i = (int) hash & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return (V) values[i];
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V put(long key, long hash, V value) {
+            int mask = keys.length - 1;
+            int i = (int) hash & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    V old = (V) values[i];
+                    values[i] = value;
+                    return old;
+                }
+            }
+            keys[i] = key;
+            values[i] = value;
+            if (++size > (keys.length >>> 1)) {
+                resize();
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V remove(long key, long hash) {
+            int mask = keys.length - 1;
+            int i = (int) hash & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    V old = (V) values[i];
+                    shiftBack(i);
+                    size--;
+                    return old;
+                }
+            }
+            return null;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null;
+            }
+            size = 0;
+        }
+
+        /**
+         * Backward shift deletion, keeps probe sequences intact without tombstones.
+         */
+        private void shiftBack(int hole) {
+            int mask = keys.length - 1;
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                if (values[i] == null) {
+                    break;
+                }
+                int home = (int) hash(keys[i]) & mask;
+                // move the entry into the hole if its home slot is not between hole and i (cyclically)
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    keys[hole] = keys[i];
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            values[hole] = null;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            int capacity = oldKeys.length << 1;
+            int mask = capacity - 1;
+            long[] newKeys = new long[capacity];
+            Object[] newValues = new Object[capacity];
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = (int) hash(oldKeys[j]) & mask;
+                    while (newValues[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    newKeys[i] = oldKeys[j];
+                    newValues[i] = oldValues[j];
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+    }
+}
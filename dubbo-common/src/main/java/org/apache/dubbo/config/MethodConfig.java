@@ -81,6 +81,16 @@ public class MethodConfig extends AbstractMethodConfig {
      */
     private Boolean isReturn;
 
+    /**
+     * Whether the method never blocks, so that the smart dispatcher may run it on the io thread
+     */
+    private Boolean nonblocking;
+
+    /**
+     * The priority of the calls in the queue of a provider thread pool with queue.priority=true, the higher the sooner
+     */
+    private Integer priority;
+
     /**
      * Callback instance when async-call is invoked
      */
@@ -237,6 +247,22 @@ public class MethodConfig extends AbstractMethodConfig {
         this.sticky = sticky;
     }
 
+    public Boolean getNonblocking() {
+        return nonblocking;
+    }
+
+    public void setNonblocking(Boolean nonblocking) {
+        this.nonblocking = nonblocking;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
     @Parameter(key = ON_RETURN_INSTANCE_KEY, excluded = true, attribute = true)
     public Object getOnreturn() {
         return onreturn;
@@ -200,6 +200,36 @@ public class ProtocolConfig extends AbstractConfig {
 
     private Boolean sslEnabled;
 
+    /**
+     * The socket transport of netty4: nio, epoll, io_uring or native
+     */
+    private String nettyTransport;
+
+    /**
+     * Whether to disable Nagle's algorithm, true by default
+     */
+    private Boolean tcpNoDelay;
+
+    /**
+     * The socket send buffer size
+     */
+    private Integer sendBufferSize;
+
+    /**
+     * The socket receive buffer size
+     */
+    private Integer receiveBufferSize;
+
+    /**
+     * The socket busy poll microseconds, epoll only
+     */
+    private Integer busyPoll;
+
+    /**
+     * Whether to use TCP quick ack, epoll only
+     */
+    private Boolean tcpQuickAck;
+
     public ProtocolConfig() {
     }
 
@@ -507,6 +537,54 @@ public class ProtocolConfig extends AbstractConfig {
         this.keepAlive = keepAlive;
     }
 
+    public String getNettyTransport() {
+        return nettyTransport;
+    }
+
+    public void setNettyTransport(String nettyTransport) {
+        this.nettyTransport = nettyTransport;
+    }
+
+    public Boolean getTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public void setTcpNoDelay(Boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    public Integer getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    public void setSendBufferSize(Integer sendBufferSize) {
+        this.sendBufferSize = sendBufferSize;
+    }
+
+    public Integer getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    public void setReceiveBufferSize(Integer receiveBufferSize) {
+        this.receiveBufferSize = receiveBufferSize;
+    }
+
+    public Integer getBusyPoll() {
+        return busyPoll;
+    }
+
+    public void setBusyPoll(Integer busyPoll) {
+        this.busyPoll = busyPoll;
+    }
+
+    public Boolean getTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    public void setTcpQuickAck(Boolean tcpQuickAck) {
+        this.tcpQuickAck = tcpQuickAck;
+    }
+
     public String getOptimizer() {
         return optimizer;
     }
@@ -53,6 +53,10 @@ public @interface Method {
 
     boolean sticky() default false;
 
+    boolean nonblocking() default false;
+
+    int priority() default 0;
+
     boolean isReturn() default true;
 
     String oninvoke() default "";
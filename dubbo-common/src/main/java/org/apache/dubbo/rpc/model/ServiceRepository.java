@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.dubbo.common.BaseServiceMetadata.interfaceFromServiceKey;
 import static org.apache.dubbo.common.BaseServiceMetadata.versionFromServiceKey;
@@ -52,6 +53,9 @@ public class ServiceRepository extends LifecycleAdapter implements FrameworkExt
     // useful to find a provider model quickly with serviceInterfaceName:version
     private ConcurrentMap<String, ProviderModel> providersWithoutGroup = new ConcurrentHashMap<>();
 
+    // bumped with every provider registered, so that what is cached about the exported services can tell it's stale
+    private final AtomicInteger exportedVersion = new AtomicInteger();
+
     public ServiceRepository() {
         Set<BuiltinServiceDetector> builtinServices
                 = ExtensionLoader.getExtensionLoader(BuiltinServiceDetector.class).getSupportedExtensionInstances();
@@ -142,6 +146,7 @@ public class ServiceRepository extends LifecycleAdapter implements FrameworkExt
                 serviceMetadata);
         providers.putIfAbsent(serviceKey, providerModel);
         providersWithoutGroup.putIfAbsent(keyWithoutGroup(serviceKey), providerModel);
+        exportedVersion.incrementAndGet();
     }
 
     /**
@@ -158,6 +163,7 @@ public class ServiceRepository extends LifecycleAdapter implements FrameworkExt
         providerModel.setServiceKey(newServiceKey);
         providers.putIfAbsent(newServiceKey, providerModel);
         providers.remove(serviceKey);
+        exportedVersion.incrementAndGet();
     }
 
     public List<ServiceDescriptor> getAllServices() {
@@ -185,6 +191,13 @@ public class ServiceRepository extends LifecycleAdapter implements FrameworkExt
         return Collections.unmodifiableList(new ArrayList<>(providers.values()));
     }
 
+    /**
+     * @return a number which changes whenever a provider is registered
+     */
+    public int getExportedVersion() {
+        return exportedVersion.get();
+    }
+
     public ProviderModel lookupExportedService(String serviceKey) {
         return providers.get(serviceKey);
     }
@@ -208,5 +221,6 @@ public class ServiceRepository extends LifecycleAdapter implements FrameworkExt
         consumers.clear();
         providers.clear();
         providersWithoutGroup.clear();
+        exportedVersion.incrementAndGet();
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThreadlessExecutorTest {
+
+    private static final ExecutorService SHARED = Executors.newCachedThreadPool();
+
+    @AfterAll
+    public static void tearDown() {
+        SHARED.shutdown();
+    }
+
+    @Test
+    public void testTaskRunsOnWaitingThread() throws Exception {
+        ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+        Thread caller = Thread.currentThread();
+        Thread[] ran = new Thread[1];
+        new Thread(() -> executor.execute(() -> ran[0] = Thread.currentThread())).start();
+
+        executor.waitAndDrain();
+        Assertions.assertSame(caller, ran[0]);
+        Assertions.assertFalse(executor.isWaiting());
+        // returns at once the second time
+        executor.waitAndDrain();
+    }
+
+    @Test
+    public void testSeveralTasksRunInOrder() throws Exception {
+        ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+        List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int n = i;
+            executor.execute(() -> ran.add(n));
+        }
+        Assertions.assertTrue(executor.isWaiting());
+
+        executor.waitAndDrain();
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), ran);
+    }
+
+    @Test
+    public void testLateTasksGoToSharedExecutor() throws Exception {
+        ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+        executor.execute(() -> {
+        });
+        executor.waitAndDrain();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        executor.execute(() -> {
+            Assertions.assertNotSame(caller, Thread.currentThread());
+            latch.countDown();
+        });
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testNotifyReturn() throws Exception {
+        ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        executor.setWaitingFuture(future);
+        executor.notifyReturn(new IllegalStateException("stop"));
+
+        executor.waitAndDrain();
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testInterruptWhileWaiting() throws Exception {
+        ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+        Thread.currentThread().interrupt();
+        Assertions.assertThrows(InterruptedException.class, executor::waitAndDrain);
+        Assertions.assertTrue(executor.isWaiting());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            ThreadlessExecutor executor = new ThreadlessExecutor(SHARED);
+            AtomicInteger ran = new AtomicInteger();
+            CountDownLatch all = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                SHARED.execute(() -> executor.execute(() -> {
+                    ran.incrementAndGet();
+                    all.countDown();
+                }));
+            }
+            executor.waitAndDrain();
+            // the ones which missed the caller run on the shared executor
+            Assertions.assertTrue(all.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(4, ran.get());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.eager;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.threadpool.Prioritized;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class PriorityTaskQueueTest {
+
+    @Test
+    public void testPriorityQueueIsConfigured() {
+        EagerThreadPoolExecutor executor = newExecutor("queues=2");
+        Assertions.assertTrue(executor.getQueue() instanceof PriorityTaskQueue);
+        Assertions.assertEquals(2, executor.getQueue().remainingCapacity());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testTasksRunByPriority() throws Exception {
+        EagerThreadPoolExecutor executor = newExecutor("queues=10");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        executor.execute(new Task(0, 0, () -> ran.add("bulk-1")));
+        executor.execute(new Task(5, 0, () -> ran.add("critical")));
+        executor.execute(() -> ran.add("bulk-2"));
+        executor.execute(new Task(9, 0, () -> ran.add("health")));
+        Assertions.assertEquals(4, executor.getQueue().size());
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList("health", "critical", "bulk-1", "bulk-2"), ran);
+    }
+
+    @Test
+    public void testExpiredTasksAreDropped() throws Exception {
+        EagerThreadPoolExecutor executor = newExecutor("queues=10");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        executor.execute(new Task(0, 1, () -> ran.add("expired")));
+        executor.execute(new Task(0, 60000, () -> ran.add("waited")));
+        executor.execute(() -> ran.add("no timeout"));
+        Thread.sleep(20);
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList("waited", "no timeout"), ran);
+        Assertions.assertEquals(1, ((PriorityTaskQueue) executor.getQueue()).getDroppedCount());
+        Assertions.assertEquals(0, executor.getSubmittedTaskCount());
+    }
+
+    @Test
+    public void testRejectWhenFull() throws Exception {
+        EagerThreadPoolExecutor executor = newExecutor("queues=1");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(new Task(1, 0, () -> {
+        }));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(new Task(9, 0, () -> {
+        })));
+        Assertions.assertEquals(2, executor.getSubmittedTaskCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNowReturnsQueuedTasks() {
+        EagerThreadPoolExecutor executor = newExecutor("queues=10");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        Runnable low = new Task(1, 0, () -> {
+        });
+        Runnable high = new Task(2, 0, () -> {
+        });
+        executor.execute(low);
+        executor.execute(high);
+
+        Assertions.assertEquals(Arrays.asList(high, low), executor.shutdownNow());
+        Assertions.assertEquals(0, executor.getQueue().size());
+    }
+
+    private static EagerThreadPoolExecutor newExecutor(String parameters) {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?corethreads=1&threads=1&queue.priority=true&"
+                + parameters);
+        return (EagerThreadPoolExecutor) new EagerThreadPool().getExecutor(url);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Task implements Runnable, Prioritized {
+
+        private final int priority;
+
+        private final int timeout;
+
+        private final Runnable body;
+
+        private Task(int priority, int timeout, Runnable body) {
+            this.priority = priority;
+            this.timeout = timeout;
+            this.body = body;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public int getTimeout() {
+            return timeout;
+        }
+
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+}
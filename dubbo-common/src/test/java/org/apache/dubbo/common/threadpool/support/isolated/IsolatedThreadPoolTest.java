@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.isolated;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor.LaneStatus;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IsolatedThreadPoolTest {
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    @Test
+    public void testParseWeights() {
+        Map<String, Integer> weights = IsolatedThreadPool.parseWeights("com.foo.A:3, com.foo.B : 1,bad,com.foo.C:-1");
+        Assertions.assertEquals(2, weights.size());
+        Assertions.assertEquals(3, weights.get("com.foo.A"));
+        Assertions.assertEquals(1, weights.get("com.foo.B"));
+    }
+
+    @Test
+    public void testShareByWeight() throws Exception {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?threads=4&queues=-1&isolation.borrow=false"
+                + "&isolation.weights=slow:1,fast:1");
+        ThreadPool threadPool = ExtensionLoader.getExtensionLoader(ThreadPool.class).getExtension("isolated");
+        IsolatedExecutor executor = (IsolatedExecutor) threadPool.getExecutor(url);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 5; i++) {
+            executor.execute("slow", () -> {
+                started.countDown();
+                await(release);
+            });
+        }
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CountDownLatch fast = new CountDownLatch(2);
+        executor.execute("fast", fast::countDown);
+        executor.execute("fast", fast::countDown);
+        Assertions.assertTrue(fast.await(5, TimeUnit.SECONDS));
+
+        LaneStatus slow = executor.getLanes().get(0);
+        Assertions.assertEquals("slow", slow.getService());
+        Assertions.assertEquals(2, slow.getShare());
+        Assertions.assertEquals(2, slow.getActiveCount());
+        Assertions.assertEquals(3, slow.getQueueSize());
+        Assertions.assertEquals(0, slow.getBorrowedCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        slow = executor.getLanes().get(0);
+        Assertions.assertEquals(5, slow.getCompletedTaskCount());
+        Assertions.assertEquals(0, slow.getQueueSize());
+        Assertions.assertEquals(2, slow.getLargestActiveCount());
+        Assertions.assertTrue(slow.getMaxWait(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void testBorrowIdleThreads() throws Exception {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?threads=4&queues=-1");
+        IsolatedExecutor executor = (IsolatedExecutor) new IsolatedThreadPool().getExecutor(url);
+        executor.execute("other", NOTHING);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute("busy", () -> {
+                started.countDown();
+                await(release);
+            });
+        }
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        LaneStatus busy = executor.getLanes().get(1);
+        Assertions.assertEquals(2, busy.getShare());
+        Assertions.assertEquals(2, busy.getBorrowedCount());
+
+        // the owner gets its thread back before the borrower runs its queued task
+        AtomicInteger order = new AtomicInteger();
+        int[] ran = new int[2];
+        executor.execute("busy", () -> ran[0] = order.incrementAndGet());
+        executor.execute("other", () -> ran[1] = order.incrementAndGet());
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, ran[1]);
+        Assertions.assertEquals(2, ran[0]);
+    }
+
+    @Test
+    public void testRejectWhenQueueIsFull() throws Exception {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?threads=1&queues=1");
+        IsolatedExecutor executor = (IsolatedExecutor) new IsolatedThreadPool().getExecutor(url);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(NOTHING);
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(NOTHING));
+
+        List<LaneStatus> lanes = executor.getLanes();
+        Assertions.assertEquals(IsolatedExecutor.DEFAULT_LANE, lanes.get(0).getService());
+        Assertions.assertEquals(1, lanes.get(0).getRejectedCount());
+        Assertions.assertEquals(2, lanes.get(0).getTaskCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(NOTHING));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.threadpool.support.virtual;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.THREADS_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
+
+public class VirtualThreadPoolTest {
+
+    @Test
+    public void testGetExecutor() throws Exception {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?" + THREAD_NAME_KEY + "=demo");
+        ThreadPool threadPool = ExtensionLoader.getExtensionLoader(ThreadPool.class).getExtension("virtual");
+        VirtualThreadExecutor executor = (VirtualThreadExecutor) threadPool.getExecutor(url);
+        Assertions.assertEquals(Integer.MAX_VALUE, executor.getMaximumConcurrency());
+        Assertions.assertEquals(VirtualThreadPool.newVirtualThreadFactory("demo") != null, executor.isVirtual());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        String[] threadName = new String[1];
+        executor.execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            latch.countDown();
+        });
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(threadName[0].startsWith("demo"));
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        URL url = URL.valueOf("dubbo://10.20.130.230:20880/context/path?" + THREADS_KEY + "=2");
+        VirtualThreadExecutor executor = (VirtualThreadExecutor) new VirtualThreadPool().getExecutor(url);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, executor.getActiveCount());
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        Assertions.assertEquals(1, executor.getRejectedCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, executor.getActiveCount());
+        Assertions.assertEquals(2, executor.getLargestActiveCount());
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+
+    @Test
+    public void testShutdownNowInterrupts() throws Exception {
+        VirtualThreadExecutor executor = (VirtualThreadExecutor) new VirtualThreadPool()
+                .getExecutor(URL.valueOf("dubbo://10.20.130.230:20880"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(executor.shutdownNow().isEmpty());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
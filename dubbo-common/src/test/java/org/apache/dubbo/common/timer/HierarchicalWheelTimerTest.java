@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.timer;
+
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HierarchicalWheelTimerTest {
+
+    private HierarchicalWheelTimer timer;
+
+    @BeforeEach
+    public void setup() {
+        timer = new HierarchicalWheelTimer(new NamedThreadFactory("dubbo-future-timeout", true),
+                10, TimeUnit.MILLISECONDS, 2);
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.stop();
+    }
+
+    @Test
+    public void testExpireOnTime() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Timeout timeout = timer.newTimeout(t -> latch.countDown(), 200, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(1, timer.pendingTimeouts());
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(elapsed >= 200, "expired after " + elapsed + "ms");
+        Assertions.assertTrue(timeout.isExpired());
+        Assertions.assertSame(timer, timeout.timer());
+        Assertions.assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void testExpireAcrossLevels() throws Exception {
+        // 64 ticks make a turn of the lowest level, so these fall in the first and second levels
+        int[] delays = {0, 5, 330, 640, 650, 900, 1300};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        AtomicInteger early = new AtomicInteger();
+        for (int delay : delays) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            timer.newTimeout(t -> {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet();
+                }
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, early.get());
+        Assertions.assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        AtomicInteger expired = new AtomicInteger();
+        Timeout cancelled = timer.newTimeout(t -> expired.incrementAndGet(), 50, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(t -> latch.countDown(), 100, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(cancelled.cancel());
+        Assertions.assertFalse(cancelled.cancel());
+        Assertions.assertTrue(cancelled.isCancelled());
+        Assertions.assertEquals(1, timer.pendingTimeouts());
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, expired.get());
+        Assertions.assertFalse(cancelled.isExpired());
+    }
+
+    @Test
+    public void testScheduleFromManyThreads() throws Exception {
+        int threads = 8;
+        int perThread = 1000;
+        CountDownLatch latch = new CountDownLatch(threads * perThread / 2);
+        Thread[] schedulers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            schedulers[i] = new Thread(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    Timeout timeout = timer.newTimeout(t -> latch.countDown(), j % 100, TimeUnit.MILLISECONDS);
+                    if (j % 2 == 0) {
+                        timeout.cancel();
+                    }
+                }
+            });
+            schedulers[i].start();
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        Timeout timeout = timer.newTimeout(t -> {
+        }, 1, TimeUnit.HOURS);
+        timer.newTimeout(t -> {
+        }, 1, TimeUnit.HOURS).cancel();
+        // let the workers put them in the buckets
+        Thread.sleep(50);
+
+        Set<Timeout> unprocessed = timer.stop();
+        Assertions.assertTrue(timer.isStop());
+        Assertions.assertEquals(1, unprocessed.size());
+        Assertions.assertTrue(unprocessed.contains(timeout));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> timer.newTimeout(t -> {
+                }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStopFromTask() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger failed = new AtomicInteger();
+        timer.newTimeout(t -> {
+            try {
+                t.timer().stop();
+            } catch (IllegalStateException e) {
+                failed.incrementAndGet();
+            }
+            latch.countDown();
+        }, 1, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, failed.get());
+        Assertions.assertFalse(timer.isStop());
+    }
+}
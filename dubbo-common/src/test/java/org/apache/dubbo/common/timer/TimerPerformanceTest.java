@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.common.timer;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of scheduling and cancelling a timeout, as every call does, from many threads.
+ * Run with <code>-Dtimer.performance=true</code>, and optionally <code>-Dtimer.threads</code> and
+ * <code>-Dtimer.runs</code>.
+ */
+public class TimerPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerPerformanceTest.class);
+
+    private static final TimerTask NOOP = timeout -> {
+    };
+
+    @Test
+    public void testScheduleAndCancel() throws Exception {
+        if (!Boolean.getBoolean("timer.performance")) {
+            logger.warn("Please set -Dtimer.performance=true");
+            return;
+        }
+        int threads = Integer.getInteger("timer.threads", Runtime.getRuntime().availableProcessors() * 2);
+        int runs = Integer.getInteger("timer.runs", 1000000);
+
+        for (int round = 0; round < 3; round++) {
+            Timer hashed = new HashedWheelTimer(new NamedThreadFactory("hashed-timer", true),
+                    30, TimeUnit.MILLISECONDS);
+            report("HashedWheelTimer", threads, runs, hashed);
+            Timer hierarchical = new HierarchicalWheelTimer(new NamedThreadFactory("hierarchical-timer", true),
+                    30, TimeUnit.MILLISECONDS);
+            report("HierarchicalWheelTimer", threads, runs, hierarchical);
+        }
+    }
+
+    private static void report(String name, int threads, int runs, Timer timer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < runs; j++) {
+                        timer.newTimeout(NOOP, 1000, TimeUnit.MILLISECONDS).cancel();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        timer.stop();
+        logger.info(name + ": " + threads + " threads, " + ((long) threads * runs * 1000000000L / elapsed)
+                + " schedule+cancel/s");
+    }
+}
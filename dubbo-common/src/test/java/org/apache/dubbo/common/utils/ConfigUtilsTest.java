@@ -224,6 +224,8 @@ public class ConfigUtilsTest {
         expected.put("cached", "org.apache.dubbo.common.threadpool.support.cached.CachedThreadPool");
         expected.put("limited", "org.apache.dubbo.common.threadpool.support.limited.LimitedThreadPool");
         expected.put("eager", "org.apache.dubbo.common.threadpool.support.eager.EagerThreadPool");
+        expected.put("virtual", "org.apache.dubbo.common.threadpool.support.virtual.VirtualThreadPool");
+        expected.put("isolated", "org.apache.dubbo.common.threadpool.support.isolated.IsolatedThreadPool");
 
         assertEquals(expected, p);
     }
@@ -53,6 +53,8 @@ public class MethodConfigTest {
     private static final int EXECUTES = 5;
     private static final boolean DEPERECATED = true;
     private static final boolean STICKY = true;
+    private static final boolean NONBLOCKING = true;
+    private static final int PRIORITY = 5;
     private static final String ONINVOKE = "i";
     private static final String ONTHROW = "t";
     private static final String ONRETURN = "r";
@@ -63,7 +65,7 @@ public class MethodConfigTest {
     private static final String ARGUMENTS_TYPE = "sss";
 
     @Reference(methods = {@Method(name = METHOD_NAME, timeout = TIMEOUT, retries = RETRIES, loadbalance = LOADBALANCE, async = ASYNC,
-            actives = ACTIVES, executes = EXECUTES, deprecated = DEPERECATED, sticky = STICKY, oninvoke = ONINVOKE, onthrow = ONTHROW, onreturn = ONRETURN, cache = CACHE, validation = VALIDATION,
+            actives = ACTIVES, executes = EXECUTES, deprecated = DEPERECATED, sticky = STICKY, nonblocking = NONBLOCKING, priority = PRIORITY, oninvoke = ONINVOKE, onthrow = ONTHROW, onreturn = ONRETURN, cache = CACHE, validation = VALIDATION,
             arguments = {@Argument(index = ARGUMENTS_INDEX, callback = ARGUMENTS_CALLBACK, type = ARGUMENTS_TYPE)})})
     private String testField;
 
@@ -82,6 +84,8 @@ public class MethodConfigTest {
         assertThat(EXECUTES, equalTo(methodConfig.getExecutes().intValue()));
         assertThat(DEPERECATED, equalTo(methodConfig.getDeprecated()));
         assertThat(STICKY, equalTo(methodConfig.getSticky()));
+        assertThat(NONBLOCKING, equalTo(methodConfig.getNonblocking()));
+        assertThat(PRIORITY, equalTo(methodConfig.getPriority().intValue()));
         assertThat(ONINVOKE, equalTo(methodConfig.getOninvoke()));
         assertThat(ONTHROW, equalTo(methodConfig.getOnthrow()));
         assertThat(ONRETURN, equalTo(methodConfig.getOnreturn()));
@@ -153,6 +157,26 @@ public class MethodConfigTest {
         assertThat(method.getSticky(), is(true));
     }
 
+    @Test
+    public void testNonblocking() throws Exception {
+        MethodConfig method = new MethodConfig();
+        method.setNonblocking(true);
+        assertThat(method.getNonblocking(), is(true));
+        Map<String, String> parameters = new HashMap<String, String>();
+        MethodConfig.appendParameters(parameters, method, "echo");
+        assertThat(parameters, hasEntry("echo.nonblocking", "true"));
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        MethodConfig method = new MethodConfig();
+        method.setPriority(5);
+        assertThat(method.getPriority(), equalTo(5));
+        Map<String, String> parameters = new HashMap<String, String>();
+        MethodConfig.appendParameters(parameters, method, "echo");
+        assertThat(parameters, hasEntry("echo.priority", "5"));
+    }
+
     @Test
     public void testOnreturn() throws Exception {
         MethodConfig method = new MethodConfig();
@@ -188,6 +188,25 @@ public class ProtocolConfigTest {
         assertThat(protocol.getKeepAlive(), is(true));
     }
 
+    @Test
+    public void testSocketOptions() throws Exception {
+        ProtocolConfig protocol = new ProtocolConfig();
+        protocol.setNettyTransport("epoll");
+        protocol.setTcpNoDelay(false);
+        protocol.setSendBufferSize(65536);
+        protocol.setReceiveBufferSize(131072);
+        protocol.setBusyPoll(50);
+        protocol.setTcpQuickAck(true);
+        Map<String, String> parameters = new HashMap<String, String>();
+        ProtocolConfig.appendParameters(parameters, protocol);
+        assertThat(parameters, hasEntry("netty.transport", "epoll"));
+        assertThat(parameters, hasEntry("tcp.no.delay", "false"));
+        assertThat(parameters, hasEntry("send.buffer.size", "65536"));
+        assertThat(parameters, hasEntry("receive.buffer.size", "131072"));
+        assertThat(parameters, hasEntry("busy.poll", "50"));
+        assertThat(parameters, hasEntry("tcp.quick.ack", "true"));
+    }
+
     @Test
     public void testOptimizer() throws Exception {
         ProtocolConfig protocol = new ProtocolConfig();
@@ -64,6 +64,11 @@ public interface MonitorService {
 
     String MAX_CONCURRENT = "max.concurrent";
 
+    /**
+     * the latest adaptive concurrency limit of the method, see {@link org.apache.dubbo.rpc.filter.AdaptiveLimitFilter}
+     */
+    String LIMIT = "limit";
+
     /**
      * Collect monitor data
      * 1. support invocation count: count://host/interface?application=foo&method=foo&provider=10.20.153.11:20880&success=12&failure=2&elapsed=135423423
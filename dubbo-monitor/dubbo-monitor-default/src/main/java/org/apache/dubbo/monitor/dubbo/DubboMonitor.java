@@ -47,7 +47,7 @@ public class DubboMonitor implements Monitor {
     /**
      * The length of the array which is a container of the statistics
      */
-    private static final int LENGTH = 10;
+    private static final int LENGTH = 11;
 
     /**
      * The timer for sending statistics
@@ -102,6 +102,7 @@ public class DubboMonitor implements Monitor {
             long maxOutput = numbers[7];
             long maxElapsed = numbers[8];
             long maxConcurrent = numbers[9];
+            long limit = numbers[10];
             String protocol = getUrl().getParameter(DEFAULT_PROTOCOL);
 
             // send statistics data
@@ -119,6 +120,9 @@ public class DubboMonitor implements Monitor {
                             MonitorService.MAX_CONCURRENT, String.valueOf(maxConcurrent),
                             DEFAULT_PROTOCOL, protocol
                     );
+            if (limit > 0) {
+                url = url.addParameter(MonitorService.LIMIT, limit);
+            }
             monitorService.collect(url);
 
             // reset
@@ -140,6 +144,7 @@ public class DubboMonitor implements Monitor {
                     update[3] = current[3] - output;
                     update[4] = current[4] - elapsed;
                     update[5] = current[5] - concurrent;
+                    update[10] = current[10];
                 }
             } while (!reference.compareAndSet(current, update));
         }
@@ -154,6 +159,7 @@ public class DubboMonitor implements Monitor {
         int output = url.getParameter(MonitorService.OUTPUT, 0);
         int elapsed = url.getParameter(MonitorService.ELAPSED, 0);
         int concurrent = url.getParameter(MonitorService.CONCURRENT, 0);
+        int limit = url.getParameter(MonitorService.LIMIT, 0);
         // init atomic reference
         Statistics statistics = new Statistics(url);
         AtomicReference<long[]> reference = statisticsMap.computeIfAbsent(statistics, k -> new AtomicReference<>());
@@ -173,6 +179,7 @@ public class DubboMonitor implements Monitor {
                 update[7] = output;
                 update[8] = elapsed;
                 update[9] = concurrent;
+                update[10] = limit;
             } else {
                 update[0] = current[0] + success;
                 update[1] = current[1] + failure;
@@ -184,6 +191,7 @@ public class DubboMonitor implements Monitor {
                 update[7] = current[7] > output ? current[7] : output;
                 update[8] = current[8] > elapsed ? current[8] : elapsed;
                 update[9] = current[9] > concurrent ? current[9] : concurrent;
+                update[10] = limit > 0 ? limit : current[10];
             }
         } while (!reference.compareAndSet(current, update));
     }
@@ -21,6 +21,7 @@ import org.apache.dubbo.common.extension.ExtensionLoader;
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
 import org.apache.dubbo.common.store.DataStore;
+import org.apache.dubbo.common.threadpool.support.virtual.VirtualThreadExecutor;
 import org.apache.dubbo.common.utils.NetUtils;
 import org.apache.dubbo.monitor.MetricsService;
 import org.apache.dubbo.rpc.AsyncRpcResult;
@@ -191,6 +192,12 @@ public class MetricsFilter implements Filter {
                 threadPoolMtricList.add(value2MetricObject("threadPool.core", tp.getCorePoolSize(), MetricLevel.MAJOR));
                 threadPoolMtricList.add(value2MetricObject("threadPool.max", tp.getMaximumPoolSize(), MetricLevel.MAJOR));
                 threadPoolMtricList.add(value2MetricObject("threadPool.current", tp.getPoolSize(), MetricLevel.MAJOR));
+            } else if (executor instanceof VirtualThreadExecutor) {
+                VirtualThreadExecutor vt = (VirtualThreadExecutor) executor;
+
+                threadPoolMtricList.add(value2MetricObject("threadPool.active", vt.getActiveCount(), MetricLevel.MAJOR));
+                threadPoolMtricList.add(value2MetricObject("threadPool.max", vt.getMaximumConcurrency(), MetricLevel.MAJOR));
+                threadPoolMtricList.add(value2MetricObject("threadPool.current", vt.getActiveCount(), MetricLevel.MAJOR));
             }
         }
 
@@ -48,6 +48,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -233,6 +234,35 @@ public class DubboMonitorTest {
         }));
     }
 
+    @Test
+    public void testLatestLimit() {
+        URL statistics = new URLBuilder(DUBBO_PROTOCOL, "10.20.153.11", 0)
+                .addParameter(MonitorService.APPLICATION, "morgan")
+                .addParameter(MonitorService.INTERFACE, "MemberService")
+                .addParameter(MonitorService.METHOD, "findPerson")
+                .addParameter(MonitorService.CONSUMER, "10.20.153.11")
+                .addParameter(MonitorService.SUCCESS, 1)
+                .addParameter(MonitorService.ELAPSED, 3)
+                .build();
+        Invoker invoker = mock(Invoker.class);
+        MonitorService monitorService = mock(MonitorService.class);
+
+        given(invoker.getUrl()).willReturn(URL.valueOf("dubbo://127.0.0.1:7070?interval=60000"));
+        DubboMonitor dubboMonitor = new DubboMonitor(invoker, monitorService);
+
+        dubboMonitor.collect(statistics.addParameter(MonitorService.LIMIT, 30));
+        dubboMonitor.collect(statistics.addParameter(MonitorService.LIMIT, 24));
+        dubboMonitor.send();
+        dubboMonitor.send();
+
+        ArgumentCaptor<URL> summaryCaptor = ArgumentCaptor.forClass(URL.class);
+        verify(monitorService, times(2)).collect(summaryCaptor.capture());
+        for (URL summary : summaryCaptor.getAllValues()) {
+            Assertions.assertEquals("24", summary.getParameter(MonitorService.LIMIT));
+        }
+        dubboMonitor.destroy();
+    }
+
     @Test
     public void testLookUp() {
         Invoker invoker = mock(Invoker.class);
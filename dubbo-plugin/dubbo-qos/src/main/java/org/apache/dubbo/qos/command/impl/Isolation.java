@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.qos.command.impl;
+
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.threadpool.manager.ExecutorRepository;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor.LaneStatus;
+import org.apache.dubbo.qos.command.BaseCommand;
+import org.apache.dubbo.qos.command.CommandContext;
+import org.apache.dubbo.qos.command.annotation.Cmd;
+import org.apache.dubbo.qos.textui.TTable;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Cmd(name = "isolation", summary = "show the services sharing the isolated thread pools", example = {
+        "isolation"
+})
+public class Isolation implements BaseCommand {
+
+    @Override
+    public String execute(CommandContext commandContext, String[] args) {
+        ExecutorRepository executorRepository =
+                ExtensionLoader.getExtensionLoader(ExecutorRepository.class).getDefaultExtension();
+
+        TTable tTable = new TTable(new TTable.ColumnDefine[]{
+                new TTable.ColumnDefine(TTable.Align.MIDDLE),
+                new TTable.ColumnDefine(TTable.Align.LEFT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT)
+        });
+
+        //Header
+        tTable.addRow("Port", "Service", "Weight", "Share", "Active", "Queued", "Completed", "Rejected",
+                "Borrowed", "Avg Wait(ms)", "Max Wait(ms)");
+
+        //Content
+        boolean found = false;
+        for (Map.Entry<Integer, ExecutorService> entry : executorRepository.getServerExecutors().entrySet()) {
+            if (!(entry.getValue() instanceof IsolatedExecutor)) {
+                continue;
+            }
+            found = true;
+            for (LaneStatus lane : ((IsolatedExecutor) entry.getValue()).getLanes()) {
+                tTable.addRow(entry.getKey(), lane.getService(), lane.getWeight(), lane.getShare(),
+                        lane.getActiveCount(), lane.getQueueSize(), lane.getCompletedTaskCount(),
+                        lane.getRejectedCount(), lane.getBorrowedCount(), lane.getAverageWait(TimeUnit.MILLISECONDS),
+                        lane.getMaxWait(TimeUnit.MILLISECONDS));
+            }
+        }
+        if (!found) {
+            return "No isolated thread pool, see threadpool=\"isolated\" and dispatcher=\"isolated\".";
+        }
+        return tTable.rendering();
+    }
+}
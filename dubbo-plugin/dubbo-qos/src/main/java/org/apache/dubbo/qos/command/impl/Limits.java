@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.qos.command.impl;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.qos.command.BaseCommand;
+import org.apache.dubbo.qos.command.CommandContext;
+import org.apache.dubbo.qos.command.annotation.Cmd;
+import org.apache.dubbo.qos.textui.TTable;
+import org.apache.dubbo.rpc.RpcStatus;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER_SIDE;
+import static org.apache.dubbo.common.constants.CommonConstants.SIDE_KEY;
+
+@Cmd(name = "limits", summary = "show the adaptive concurrency limits of the methods", example = {
+        "limits"
+})
+public class Limits implements BaseCommand {
+
+    @Override
+    public String execute(CommandContext commandContext, String[] args) {
+        Collection<AdaptiveLimiter> limiters = AdaptiveLimiter.getLimiters();
+        if (limiters.isEmpty()) {
+            return "No adaptive concurrency limit, see adaptive.limit.";
+        }
+
+        TTable tTable = new TTable(new TTable.ColumnDefine[]{
+                new TTable.ColumnDefine(TTable.Align.MIDDLE),
+                new TTable.ColumnDefine(TTable.Align.LEFT),
+                new TTable.ColumnDefine(TTable.Align.LEFT),
+                new TTable.ColumnDefine(TTable.Align.LEFT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT),
+                new TTable.ColumnDefine(TTable.Align.RIGHT)
+        });
+
+        //Header
+        tTable.addRow("Side", "Address", "Service", "Method", "Limit", "Max Limit", "Active", "Rtt(ms)",
+                "NoLoad Rtt(ms)", "Rejected");
+
+        //Content
+        for (AdaptiveLimiter limiter : limiters) {
+            URL url = limiter.getUrl();
+            tTable.addRow(url.getParameter(SIDE_KEY, PROVIDER_SIDE), url.getAddress(), url.getServiceKey(),
+                    limiter.getMethodName(), limiter.getLimit(), limiter.getMaxLimit(),
+                    RpcStatus.getStatus(url, limiter.getMethodName()).getActive(),
+                    limiter.getRtt(TimeUnit.MILLISECONDS), limiter.getNoLoadRtt(TimeUnit.MILLISECONDS),
+                    limiter.getRejectedCount());
+        }
+        return tTable.rendering();
+    }
+}
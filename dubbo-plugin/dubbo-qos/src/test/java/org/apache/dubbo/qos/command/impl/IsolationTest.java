@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.qos.command.impl;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.threadpool.manager.ExecutorRepository;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor;
+import org.apache.dubbo.qos.command.CommandContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class IsolationTest {
+    @Test
+    public void testExecute() throws Exception {
+        Isolation isolation = new Isolation();
+        CommandContext context = Mockito.mock(CommandContext.class);
+        assertThat(isolation.execute(context, null), containsString("No isolated thread pool"));
+
+        ExecutorRepository executorRepository =
+                ExtensionLoader.getExtensionLoader(ExecutorRepository.class).getDefaultExtension();
+        IsolatedExecutor executor = (IsolatedExecutor) executorRepository.createExecutorIfAbsent(
+                URL.valueOf("dubbo://127.0.0.1:20877/demo?threadpool=isolated&isolation.weights=com.foo.BarService:3"));
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            executor.execute("com.foo.BarService", latch::countDown);
+            assertThat(latch.await(5, TimeUnit.SECONDS), equalTo(true));
+
+            String output = isolation.execute(context, null);
+            assertThat(output, containsString("20877"));
+            assertThat(output, containsString("com.foo.BarService"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.qos.command.impl;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.qos.command.CommandContext;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+public class LimitsTest {
+    @Test
+    public void testExecute() throws Exception {
+        Limits limits = new Limits();
+        CommandContext context = Mockito.mock(CommandContext.class);
+        assertThat(limits.execute(context, null), containsString("No adaptive concurrency limit"));
+
+        URL url = URL.valueOf("dubbo://127.0.0.1:20880/com.foo.BarService?side=consumer&adaptive.limit=100");
+        AdaptiveLimiter.getLimiter(url, "sayHello");
+        try {
+            String output = limits.execute(context, null);
+            assertThat(output, containsString("consumer"));
+            assertThat(output, containsString("com.foo.BarService"));
+            assertThat(output, containsString("sayHello"));
+            assertThat(output, containsString("100"));
+        } finally {
+            AdaptiveLimiter.removeLimiter(url, "sayHello");
+        }
+    }
+}
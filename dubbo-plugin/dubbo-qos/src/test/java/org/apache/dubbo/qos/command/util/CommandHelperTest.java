@@ -18,6 +18,8 @@ package org.apache.dubbo.qos.command.util;
 
 import org.apache.dubbo.qos.command.GreetingCommand;
 import org.apache.dubbo.qos.command.impl.Help;
+import org.apache.dubbo.qos.command.impl.Isolation;
+import org.apache.dubbo.qos.command.impl.Limits;
 import org.apache.dubbo.qos.command.impl.Ls;
 import org.apache.dubbo.qos.command.impl.Offline;
 import org.apache.dubbo.qos.command.impl.Online;
@@ -47,7 +49,7 @@ public class CommandHelperTest {
         List<Class<?>> classes = CommandHelper.getAllCommandClass();
         assertThat(classes,
                 containsInAnyOrder(GreetingCommand.class, Help.class, Ls.class, Offline.class, Online.class, Quit.class,
-                        Ready.class, Version.class));
+                        Ready.class, Version.class, Isolation.class, Limits.class));
     }
 
     @Test
@@ -38,6 +38,7 @@ import org.apache.dubbo.rpc.Protocol;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.cluster.Cluster;
 import org.apache.dubbo.rpc.cluster.Configurator;
+import org.apache.dubbo.rpc.cluster.LoadBalance;
 import org.apache.dubbo.rpc.cluster.Router;
 import org.apache.dubbo.rpc.cluster.RouterChain;
 import org.apache.dubbo.rpc.cluster.RouterFactory;
@@ -49,10 +50,11 @@ import org.apache.dubbo.rpc.model.ApplicationModel;
 import org.apache.dubbo.rpc.protocol.InvokerWrapper;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -154,6 +156,14 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
     //当有多个的提供者，会有多个invokers，会有负载均衡
     private volatile List<Invoker<T>> invokers;
 
+    // the invokers set to the router chain, those notified before less the removed ones followed by the added ones
+    private volatile List<Invoker<T>> routerInvokers; // The initial value is null and the midway may be assigned to null, please use the local variable reference
+
+    // the notified provider urls merged with the consumer side parameters and the configurators, so that the urls
+    // notified again are not merged again; valid as long as the configurators they were merged with.
+    private volatile Map<URL, URL> mergedUrls = Collections.emptyMap();
+    private volatile List<List<Configurator>> mergedConfigurators = Collections.emptyList();
+
     // Set<invokerUrls> cache invokeUrls to invokers mapping.
     private volatile Set<URL> cachedInvokerUrls; // The initial value is null and the midway may be assigned to null, please use the local variable reference
 
@@ -293,7 +303,7 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
         return "";
     }
 
-    private void refreshOverrideAndInvoker(List<URL> urls) {
+    private synchronized void refreshOverrideAndInvoker(List<URL> urls) {
         // mock zookeeper://xxx?mock=return null
         overrideDirectoryUrl();
         refreshInvoker(urls);
@@ -322,6 +332,7 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
             this.invokers = Collections.emptyList();
             routerChain.setInvokers(this.invokers);
             destroyAllInvokers(); // Close all invokers
+            this.mergedUrls = Collections.emptyMap();
         } else {
             this.forbidden = false; // Allow to access
             Map<String, Invoker<T>> oldUrlInvokerMap = this.urlInvokerMap; // local reference
@@ -337,7 +348,8 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
             if (invokerUrls.isEmpty()) {
                 return;
             }
-            Map<String, Invoker<T>> newUrlInvokerMap = toInvokers(invokerUrls);// Translate url list to Invoker map
+            List<Invoker<T>> added = new ArrayList<>();
+            Map<String, Invoker<T>> newUrlInvokerMap = toInvokers(invokerUrls, added);// Translate url list to Invoker map
 
             /**
              * If the calculation is wrong, it is not processed.
@@ -353,21 +365,84 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
                 return;
             }
 
-            List<Invoker<T>> newInvokers = Collections.unmodifiableList(new ArrayList<>(newUrlInvokerMap.values()));
+            List<Invoker<T>> removed = getRemovedInvokers(oldUrlInvokerMap, newUrlInvokerMap);
+            List<Invoker<T>> newInvokers = toInvokerList(newUrlInvokerMap, added, removed);
             // pre-route and build cache, notice that route cache should build on original Invoker list.
             // toMergeMethodInvokerMap() will wrap some invokers having different groups, those wrapped invokers not should be routed.
-            routerChain.setInvokers(newInvokers);
+            // Only the invokers changed are notified, for the routes of the others to be kept.
+            routerChain.setInvokers(getConsumerUrl(), newInvokers, added, removed);
+            this.routerInvokers = newInvokers;
             this.invokers = multiGroup ? toMergeInvokerList(newInvokers) : newInvokers;
             this.urlInvokerMap = newUrlInvokerMap;
+            notifyLoadBalances(added, removed);
 
             try {
-                destroyUnusedInvokers(oldUrlInvokerMap, newUrlInvokerMap); // Close the unused Invoker
+                destroyUnusedInvokers(removed); // Close the unused Invoker
             } catch (Exception e) {
                 logger.warn("destroyUnusedInvokers error. ", e);
             }
         }
     }
 
+    /**
+     * Get the invokers of the old map no longer in the new one.
+     */
+    private List<Invoker<T>> getRemovedInvokers(Map<String, Invoker<T>> oldUrlInvokerMap,
+                                                Map<String, Invoker<T>> newUrlInvokerMap) {
+        if (oldUrlInvokerMap == null) {
+            return Collections.emptyList();
+        }
+        List<Invoker<T>> removed = new ArrayList<>();
+        for (Map.Entry<String, Invoker<T>> entry : oldUrlInvokerMap.entrySet()) {
+            if (!newUrlInvokerMap.containsKey(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Get the invokers for the router chain: those set before less the removed ones, in order, followed by the added
+     * ones, or the same list if nothing changed.
+     */
+    private List<Invoker<T>> toInvokerList(Map<String, Invoker<T>> newUrlInvokerMap, List<Invoker<T>> added,
+                                           List<Invoker<T>> removed) {
+        List<Invoker<T>> oldInvokers = this.routerInvokers; // local reference
+        if (oldInvokers == null || oldInvokers.size() - removed.size() + added.size() != newUrlInvokerMap.size()) {
+            return Collections.unmodifiableList(new ArrayList<>(newUrlInvokerMap.values()));
+        }
+        if (added.isEmpty() && removed.isEmpty()) {
+            return oldInvokers;
+        }
+        Set<Invoker<T>> removedInvokers = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedInvokers.addAll(removed);
+        List<Invoker<T>> newInvokers = new ArrayList<>(newUrlInvokerMap.size());
+        for (Invoker<T> invoker : oldInvokers) {
+            if (!removedInvokers.contains(invoker)) {
+                newInvokers.add(invoker);
+            }
+        }
+        newInvokers.addAll(added);
+        return Collections.unmodifiableList(newInvokers);
+    }
+
+    /**
+     * Notify the load balances the invokers changed, for them to release what they keep about the removed ones.
+     */
+    private void notifyLoadBalances(List<Invoker<T>> added, List<Invoker<T>> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        URL url = getConsumerUrl();
+        for (LoadBalance loadBalance : ExtensionLoader.getExtensionLoader(LoadBalance.class).getLoadedExtensionInstances()) {
+            try {
+                loadBalance.notify(url, added, removed);
+            } catch (Throwable t) {
+                logger.warn("Failed to notify load balance " + loadBalance + " of the invokers changed, cause: " + t.getMessage(), t);
+            }
+        }
+    }
+
     private List<Invoker<T>> toMergeInvokerList(List<Invoker<T>> invokers) {
         List<Invoker<T>> mergedInvokers = new ArrayList<>();
         Map<String, List<Invoker<T>>> groupMap = new HashMap<>();
@@ -425,15 +500,23 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
 
     /**
      * Turn urls into invokers, and if url has been refer, will not re-reference.
+     * The urls notified before are not merged again as long as the configurators did not change.
      *
      * @param urls
+     * @param added the invokers referred for the urls new
      * @return invokers
      */
-    private Map<String, Invoker<T>> toInvokers(List<URL> urls) {
+    private Map<String, Invoker<T>> toInvokers(List<URL> urls, List<Invoker<T>> added) {
         Map<String, Invoker<T>> newUrlInvokerMap = new HashMap<>();
         if (urls == null || urls.isEmpty()) {
             return newUrlInvokerMap;
         }
+        List<List<Configurator>> configurators = Arrays.asList(snapshot(this.configurators),
+                snapshot(CONSUMER_CONFIGURATION_LISTENER.getConfigurators()),
+                serviceConfigurationListener == null ? null : snapshot(serviceConfigurationListener.getConfigurators()));
+        Map<URL, URL> oldMergedUrls = isMergedWith(configurators) ? this.mergedUrls : Collections.emptyMap();
+        Map<URL, URL> newMergedUrls = new HashMap<>();
+        Map<String, String> providerParameters = new HashMap<>();
         Set<String> keys = new HashSet<>();
         String queryProtocols = this.queryMap.get(PROTOCOL_KEY);
         for (URL providerUrl : urls) {
@@ -461,7 +544,12 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
                         ExtensionLoader.getExtensionLoader(Protocol.class).getSupportedExtensions()));
                 continue;
             }
-            URL url = mergeUrl(providerUrl);
+            URL url = oldMergedUrls.get(providerUrl);
+            if (url == null) {
+                url = mergeUrl(providerUrl);
+            }
+            newMergedUrls.put(providerUrl, url);
+            url.getParameters().forEach(providerParameters::putIfAbsent);
 
             String key = url.toFullString(); // The parameter urls are sorted
             if (keys.contains(key)) { // Repeated url
@@ -491,15 +579,54 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
                 }
                 if (invoker != null) { // Put new invoker in cache
                     newUrlInvokerMap.put(key, invoker);
+                    added.add(invoker);
                 }
             } else {
                 newUrlInvokerMap.put(key, invoker);
             }
         }
         keys.clear();
+        // The combination of directoryUrl and override is at the end of notify, which can't be handled here
+        this.overrideDirectoryUrl = this.overrideDirectoryUrl.addParametersIfAbsent(providerParameters); // Merge the provider side parameters
+        this.mergedUrls = newMergedUrls;
+        this.mergedConfigurators = configurators;
         return newUrlInvokerMap;
     }
 
+    /**
+     * The configuration listeners clear their configurators in place once their rule is deleted, so the merged urls
+     * are kept along with a copy of the configurators.
+     */
+    private static List<Configurator> snapshot(List<Configurator> configurators) {
+        return configurators == null ? null : new ArrayList<>(configurators);
+    }
+
+    private boolean isMergedWith(List<List<Configurator>> configurators) {
+        List<List<Configurator>> merged = this.mergedConfigurators;
+        if (merged.size() != configurators.size()) {
+            return false;
+        }
+        for (int i = 0; i < configurators.size(); i++) {
+            List<Configurator> before = merged.get(i);
+            List<Configurator> now = configurators.get(i);
+            if (before == null || now == null) {
+                if (before != now) {
+                    return false;
+                }
+                continue;
+            }
+            if (before.size() != now.size()) {
+                return false;
+            }
+            for (int j = 0; j < now.size(); j++) {
+                if (before.get(j) != now.get(j)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Merge url parameters. the order is: override > -D >Consumer > Provider
      *
@@ -513,9 +640,6 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
 
         providerUrl = providerUrl.addParameter(Constants.CHECK_KEY, String.valueOf(false)); // Do not check whether the connection is successful or not, always create Invoker!
 
-        // The combination of directoryUrl and override is at the end of notify, which can't be handled here
-        this.overrideDirectoryUrl = this.overrideDirectoryUrl.addParametersIfAbsent(providerUrl.getParameters()); // Merge the provider side parameters
-
         if ((providerUrl.getPath() == null || providerUrl.getPath()
                 .length() == 0) && DUBBO_PROTOCOL.equals(providerUrl.getProtocol())) { // Compatible version 1.0
             //fix by tony.chenl DUBBO-44
@@ -575,49 +699,24 @@ public class RegistryDirectory<T> extends AbstractDirectory<T> implements Notify
             localUrlInvokerMap.clear();
         }
         invokers = null;
+        routerInvokers = null;
     }
 
     /**
-     * Check whether the invoker in the cache needs to be destroyed
+     * Destroy the invokers removed from the cache
      * If set attribute of url: refer.autodestroy=false, the invokers will only increase without decreasing,there may be a refer leak
      *
-     * @param oldUrlInvokerMap
-     * @param newUrlInvokerMap
+     * @param removed
      */
-    private void destroyUnusedInvokers(Map<String, Invoker<T>> oldUrlInvokerMap, Map<String, Invoker<T>> newUrlInvokerMap) {
-        if (newUrlInvokerMap == null || newUrlInvokerMap.size() == 0) {
-            destroyAllInvokers();
-            return;
-        }
-        // check deleted invoker
-        List<String> deleted = null;
-        if (oldUrlInvokerMap != null) {
-            Collection<Invoker<T>> newInvokers = newUrlInvokerMap.values();
-            for (Map.Entry<String, Invoker<T>> entry : oldUrlInvokerMap.entrySet()) {
-                if (!newInvokers.contains(entry.getValue())) {
-                    if (deleted == null) {
-                        deleted = new ArrayList<>();
-                    }
-                    deleted.add(entry.getKey());
-                }
-            }
-        }
-
-        if (deleted != null) {
-            for (String url : deleted) {
-                if (url != null) {
-                    Invoker<T> invoker = oldUrlInvokerMap.remove(url);
-                    if (invoker != null) {
-                        try {
-                            invoker.destroy();
-                            if (logger.isDebugEnabled()) {
-                                logger.debug("destroy invoker[" + invoker.getUrl() + "] success. ");
-                            }
-                        } catch (Exception e) {
-                            logger.warn("destroy invoker[" + invoker.getUrl() + "] failed. " + e.getMessage(), e);
-                        }
-                    }
+    private void destroyUnusedInvokers(List<Invoker<T>> removed) {
+        for (Invoker<T> invoker : removed) {
+            try {
+                invoker.destroy();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("destroy invoker[" + invoker.getUrl() + "] success. ");
                 }
+            } catch (Exception e) {
+                logger.warn("destroy invoker[" + invoker.getUrl() + "] failed. " + e.getMessage(), e);
             }
         }
     }
@@ -17,21 +17,29 @@
 package org.apache.dubbo.registry.dubbo;
 
 import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.config.configcenter.ConfigChangeType;
+import org.apache.dubbo.common.config.configcenter.ConfigChangedEvent;
 import org.apache.dubbo.common.extension.ExtensionLoader;
 import org.apache.dubbo.common.utils.LogUtil;
 import org.apache.dubbo.common.utils.NetUtils;
 import org.apache.dubbo.registry.NotifyListener;
 import org.apache.dubbo.registry.Registry;
 import org.apache.dubbo.registry.RegistryFactory;
+import org.apache.dubbo.registry.integration.AbstractConfiguratorListener;
 import org.apache.dubbo.registry.integration.RegistryDirectory;
 import org.apache.dubbo.remoting.Constants;
+import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.Protocol;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.cluster.Configurator;
 import org.apache.dubbo.rpc.cluster.RouterChain;
 import org.apache.dubbo.rpc.cluster.loadbalance.LeastActiveLoadBalance;
 import org.apache.dubbo.rpc.cluster.loadbalance.RoundRobinLoadBalance;
+import org.apache.dubbo.rpc.cluster.router.AbstractRouter;
+import org.apache.dubbo.rpc.cluster.router.BitmapRouter;
+import org.apache.dubbo.rpc.cluster.router.RouterCache;
 import org.apache.dubbo.rpc.cluster.router.script.ScriptRouterFactory;
 import org.apache.dubbo.rpc.cluster.support.wrapper.MockClusterInvoker;
 import org.apache.dubbo.rpc.model.ApplicationModel;
@@ -46,10 +54,13 @@ import org.mockito.Mockito;
 import javax.script.ScriptEngineManager;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE;
 import static org.apache.dubbo.common.constants.CommonConstants.ANYHOST_VALUE;
@@ -587,6 +598,27 @@ public class RegistryDirectoryTest {
         Assertions.assertEquals(0 + 1, routers.size());*/
     }
 
+    @Test
+    public void testRoutesKeptOverOneProviderNotified() {
+        RegistryDirectory registryDirectory = getRegistryDirectory();
+        CountingRouter router = new CountingRouter();
+        registryDirectory.getRouterChain().initWithRouters(Collections.singletonList(router));
+
+        List<URL> serviceUrls = new ArrayList<>();
+        serviceUrls.add(SERVICEURL);
+        serviceUrls.add(SERVICEURL2);
+        registryDirectory.notify(serviceUrls);
+        Assertions.assertEquals(2, registryDirectory.list(invocation).size());
+        Assertions.assertEquals(2, router.tested.get());
+
+        // the refer url is built again, equal to the one before, and only the provider added is tested
+        serviceUrls = new ArrayList<>(serviceUrls);
+        serviceUrls.add(SERVICEURL3);
+        registryDirectory.notify(serviceUrls);
+        Assertions.assertEquals(3, registryDirectory.list(invocation).size());
+        Assertions.assertEquals(3, router.tested.get());
+    }
+
     /**
      * Test whether the override rule have a high priority
      * Scene: first push override , then push invoker
@@ -913,6 +945,72 @@ public class RegistryDirectoryTest {
         Assertions.assertEquals(1, invokers3.size());
     }
 
+    /**
+     * Test only the providers changed are referred and destroyed, the others keeping their invokers and order.
+     */
+    @Test
+    public void testNofity_OnlyChangedProviders() {
+        RegistryDirectory registryDirectory = getRegistryDirectory();
+        invocation = new RpcInvocation();
+
+        List<URL> durls = new ArrayList<URL>();
+        durls.add(SERVICEURL.setHost("10.20.30.140"));
+        durls.add(SERVICEURL.setHost("10.20.30.141"));
+        durls.add(SERVICEURL.setHost("10.20.30.142"));
+        registryDirectory.notify(durls);
+        List<Invoker<?>> invokers = registryDirectory.list(invocation);
+        Assertions.assertEquals(3, invokers.size());
+
+        // notified again unchanged
+        durls = new ArrayList<URL>(durls);
+        registryDirectory.notify(durls);
+        Assertions.assertSame(invokers, registryDirectory.list(invocation));
+
+        durls = new ArrayList<URL>();
+        durls.add(SERVICEURL.setHost("10.20.30.143"));
+        durls.add(SERVICEURL.setHost("10.20.30.142"));
+        durls.add(SERVICEURL.setHost("10.20.30.140"));
+        registryDirectory.notify(durls);
+        List<Invoker<?>> invokers2 = registryDirectory.list(invocation);
+        Assertions.assertEquals(3, invokers2.size());
+        Invoker<?> removed = invokers.stream().filter(invoker -> invoker.getUrl().getHost().equals("10.20.30.141"))
+                .findFirst().get();
+        Assertions.assertFalse(removed.isAvailable());
+        List<Invoker<?>> kept = new ArrayList<>(invokers);
+        kept.remove(removed);
+        Assertions.assertEquals(kept, invokers2.subList(0, 2));
+        Assertions.assertEquals("10.20.30.143", invokers2.get(2).getUrl().getHost());
+    }
+
+    /**
+     * Test the providers notified again after the deletion of a dynamic override rule lose the override, although
+     * the listener of the rule clears its configurators in place.
+     */
+    @Test
+    public void testNofity_OverrideRuleDeleted() throws Exception {
+        Field field = RegistryDirectory.class.getDeclaredField("CONSUMER_CONFIGURATION_LISTENER");
+        field.setAccessible(true);
+        AbstractConfiguratorListener listener = (AbstractConfiguratorListener) field.get(null);
+        RegistryDirectory registryDirectory = getRegistryDirectory();
+        invocation = new RpcInvocation();
+        try {
+            listener.setConfigurators(Configurator.toConfigurators(Collections.singletonList(
+                    URL.valueOf("override://0.0.0.0?timeout=1000"))).get());
+            List<URL> durls = new ArrayList<URL>();
+            durls.add(SERVICEURL.setHost("10.20.30.140"));
+            registryDirectory.notify(durls);
+            List<Invoker<?>> invokers = registryDirectory.list(invocation);
+            Assertions.assertEquals("1000", invokers.get(0).getUrl().getParameter("timeout"));
+
+            listener.process(new ConfigChangedEvent("test.configurators", "dubbo", null, ConfigChangeType.DELETED));
+            registryDirectory.notify(new ArrayList<URL>(durls));
+            invokers = registryDirectory.list(invocation);
+            Assertions.assertNull(invokers.get(0).getUrl().getParameter("timeout"));
+        } finally {
+            listener.setConfigurators(Collections.emptyList());
+        }
+    }
+
     /**
      * Test override disables a specified service provider through enable=false
      * It is expected that a specified service provider can be disable.
@@ -1086,6 +1184,21 @@ public class RegistryDirectoryTest {
     private interface DemoService {
     }
 
+    private static class CountingRouter extends AbstractRouter implements BitmapRouter {
+
+        private final AtomicInteger tested = new AtomicInteger();
+
+        @Override
+        public <T> List<Invoker<T>> route(List<Invoker<T>> invokers, URL url, Invocation invocation) {
+            return invokers;
+        }
+
+        @Override
+        public <T> BitSet route(BitSet invokers, RouterCache<T> cache, URL url, Invocation invocation) {
+            return RouterCache.and(invokers, cache.getBitmap("all", invoker -> tested.incrementAndGet() > 0));
+        }
+    }
+
     private static class MockRegistry implements Registry {
 
         CountDownLatch latch;
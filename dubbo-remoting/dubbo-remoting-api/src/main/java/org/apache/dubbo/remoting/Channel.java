@@ -41,6 +41,16 @@ public interface Channel extends Endpoint {
      */
     boolean isConnected();
 
+    /**
+     * is writable, a transport that buffers outbound data reports false while it holds more than it is
+     * willing to, senders may hold back until it drains.
+     *
+     * @return writable
+     */
+    default boolean isWritable() {
+        return true;
+    }
+
     /**
      * has attribute.
      *
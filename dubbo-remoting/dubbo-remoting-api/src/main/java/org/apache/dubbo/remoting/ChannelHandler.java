@@ -66,4 +66,12 @@ public interface ChannelHandler {
      */
     void caught(Channel channel, Throwable exception) throws RemotingException;
 
+    /**
+     * on channel writable again, after its write buffer drained below the low water mark.
+     *
+     * @param channel channel.
+     */
+    default void writable(Channel channel) throws RemotingException {
+    }
+
 }
\ No newline at end of file
@@ -111,6 +111,18 @@ public interface Constants {
 
     String DISPATCHER_KEY = "dispatcher";
 
+    /**
+     * a method never blocking, which the smart dispatcher runs on the io thread
+     */
+    String NON_BLOCKING_KEY = "nonblocking";
+
+    /**
+     * the time in milliseconds beyond which a non-blocking method is considered to block the io thread
+     */
+    String NON_BLOCKING_THRESHOLD_KEY = "nonblocking.threshold";
+
+    int DEFAULT_NON_BLOCKING_THRESHOLD = 10;
+
     String CHANNEL_ATTRIBUTE_READONLY_KEY = "channel.readonly";
 
     String CHANNEL_READONLYEVENT_SENT_KEY = "channel.readonly.sent";
@@ -134,5 +146,84 @@ public interface Constants {
     String HEARTBEAT_TIMEOUT_KEY = "heartbeat.timeout";
     String CONNECTIONS_KEY = "connections";
 
+    /**
+     * whether the netty4 transport coalesces the flushes of writes issued close to each other.
+     */
+    String FLUSH_CONSOLIDATION_KEY = "flush.consolidation";
+
+    /**
+     * the max time in microseconds a flush is held back, zero means only the current event loop tick.
+     */
+    String FLUSH_CONSOLIDATION_DELAY_KEY = "flush.consolidation.delay";
+
+    int DEFAULT_FLUSH_CONSOLIDATION_DELAY = 0;
+
+    /**
+     * the pending bytes beyond which a flush is done immediately.
+     */
+    String FLUSH_CONSOLIDATION_BYTES_KEY = "flush.consolidation.bytes";
+
+    int DEFAULT_FLUSH_CONSOLIDATION_BYTES = 64 * 1024;
+
+    /**
+     * whether a client holds requests back while its connection is not writable.
+     */
+    String FLOW_CONTROL_KEY = "flow.control";
+
+    /**
+     * the max requests a connection waits a response for, zero means no limit.
+     */
+    String FLOW_CONTROL_INFLIGHT_KEY = "flow.control.inflight";
+
+    int DEFAULT_FLOW_CONTROL_INFLIGHT = 0;
+
+    /**
+     * the max requests held back by a connection, further requests fail fast. Zero fails every held back request.
+     */
+    String FLOW_CONTROL_QUEUE_KEY = "flow.control.queue";
+
+    int DEFAULT_FLOW_CONTROL_QUEUE = 0;
+
+    /**
+     * the outbound bytes buffered by a netty4 client connection above which it is not writable.
+     */
+    String WRITE_BUFFER_HIGH_WATER_MARK_KEY = "write.buffer.high";
+
+    /**
+     * the outbound bytes buffered by a netty4 client connection below which it is writable again.
+     */
+    String WRITE_BUFFER_LOW_WATER_MARK_KEY = "write.buffer.low";
+
     int DEFAULT_BACKLOG = 1024;
-}
\ No newline at end of file
+
+    /**
+     * the socket transport of netty4: nio, epoll, io_uring, or native for the best one available.
+     * An unavailable transport falls back to nio.
+     */
+    String NETTY_TRANSPORT_KEY = "netty.transport";
+
+    /**
+     * whether netty4 connections disable Nagle's algorithm.
+     */
+    String TCP_NO_DELAY_KEY = "tcp.no.delay";
+
+    /**
+     * the SO_SNDBUF of netty4 connections, zero leaves it to the operating system.
+     */
+    String SEND_BUFFER_SIZE_KEY = "send.buffer.size";
+
+    /**
+     * the SO_RCVBUF of netty4 connections, zero leaves it to the operating system.
+     */
+    String RECEIVE_BUFFER_SIZE_KEY = "receive.buffer.size";
+
+    /**
+     * the SO_BUSY_POLL microseconds of netty4 connections, only honoured by the epoll transport.
+     */
+    String BUSY_POLL_KEY = "busy.poll";
+
+    /**
+     * whether netty4 connections use TCP_QUICKACK, only honoured by the epoll transport.
+     */
+    String TCP_QUICK_ACK_KEY = "tcp.quick.ack";
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting;
+
+/**
+ * Implemented by the request payloads which can tell the service they are for before they are fully decoded.
+ */
+public interface ServicePathAware {
+
+    /**
+     * Called on the io thread, before the request is dispatched.
+     *
+     * @return the path of the service, or null when it's unknown
+     */
+    String getServicePath();
+
+    /**
+     * Called on the io thread, before the request is dispatched.
+     *
+     * @return the name of the method called, or null when it's unknown
+     */
+    String getServiceMethodName();
+
+    /**
+     * Called on the io thread, before the request is dispatched.
+     *
+     * @return the descriptor of the parameter types of the method called, or null when it's unknown
+     */
+    default String getServiceParameterTypesDesc() {
+        return null;
+    }
+
+}
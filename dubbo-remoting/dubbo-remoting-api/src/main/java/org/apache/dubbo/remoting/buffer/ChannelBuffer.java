@@ -600,6 +600,36 @@ public interface ChannelBuffer extends Comparable<ChannelBuffer> {
      */
     void setByte(int index, int value);
 
+    /**
+     * Sets the specified 32-bit integer at the specified absolute {@code index}
+     * in this buffer in big-endian byte order. This method does not modify
+     * {@code readerIndex} or {@code writerIndex} of this buffer.
+     *
+     * @throws IndexOutOfBoundsException if the specified {@code index} is less
+     *                                   than {@code 0} or {@code index + 4} is
+     *                                   greater than {@code this.capacity}
+     */
+    default void setInt(int index, int value) {
+        setByte(index, value >>> 24);
+        setByte(index + 1, value >>> 16);
+        setByte(index + 2, value >>> 8);
+        setByte(index + 3, value);
+    }
+
+    /**
+     * Sets the specified 64-bit long integer at the specified absolute {@code
+     * index} in this buffer in big-endian byte order. This method does not
+     * modify {@code readerIndex} or {@code writerIndex} of this buffer.
+     *
+     * @throws IndexOutOfBoundsException if the specified {@code index} is less
+     *                                   than {@code 0} or {@code index + 8} is
+     *                                   greater than {@code this.capacity}
+     */
+    default void setLong(int index, long value) {
+        setInt(index, (int) (value >>> 32));
+        setInt(index + 4, (int) value);
+    }
+
     /**
      * Transfers the specified source array's data to this buffer starting at
      * the specified absolute {@code index}. This method does not modify {@code
@@ -40,6 +40,7 @@ import org.apache.dubbo.remoting.transport.ExceedPayloadLimitException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * ExchangeCodec.
@@ -59,6 +60,11 @@ public class ExchangeCodec extends TelnetCodec {
     protected static final int SERIALIZATION_MASK = 0x1f;
     private static final Logger logger = LoggerFactory.getLogger(ExchangeCodec.class);
 
+    /**
+     * The body of heartbeats by serialization id, captured from the first heartbeat encoded with each of them.
+     */
+    private static final AtomicReferenceArray<byte[]> HEARTBEAT_BODIES = new AtomicReferenceArray<>(SERIALIZATION_MASK + 1);
+
     public Short getMagicCode() {
         return MAGIC;
     }
@@ -148,6 +154,9 @@ public class ExchangeCodec extends TelnetCodec {
             byte status = header[3];
             res.setStatus(status);
             try {
+                if (status == Response.OK && res.isEvent() && isHeartbeatBody(is, proto)) {
+                    return res;
+                }
                 ObjectInput in = CodecSupport.deserialize(channel.getUrl(), is, proto);
                 if (status == Response.OK) {
                     Object data;
@@ -176,6 +185,9 @@ public class ExchangeCodec extends TelnetCodec {
                 req.setEvent(true);
             }
             try {
+                if (req.isEvent() && isHeartbeatBody(is, proto)) {
+                    return req;
+                }
                 ObjectInput in = CodecSupport.deserialize(channel.getUrl(), is, proto);
                 Object data;
                 if (req.isHeartbeat()) {
@@ -209,68 +221,51 @@ public class ExchangeCodec extends TelnetCodec {
 
     protected void encodeRequest(Channel channel, ChannelBuffer buffer, Request req) throws IOException {
         Serialization serialization = getSerialization(channel);
-        // header.
-        byte[] header = new byte[HEADER_LENGTH];
-        // set magic number.
-        Bytes.short2bytes(MAGIC, header);
-
         // set request and serialization flag.
-        header[2] = (byte) (FLAG_REQUEST | serialization.getContentTypeId());
+        byte flag = (byte) (FLAG_REQUEST | serialization.getContentTypeId());
 
         if (req.isTwoWay()) {
-            header[2] |= FLAG_TWOWAY;
+            flag |= FLAG_TWOWAY;
         }
         if (req.isEvent()) {
-            header[2] |= FLAG_EVENT;
+            flag |= FLAG_EVENT;
         }
+        if (req.isHeartbeat() && writeHeartbeat(channel, buffer, flag, (byte) 0, req.getId())) {
+            return;
+        }
+        byte layout = getRequestLayout(channel, req);
 
-        // set request id.
-        Bytes.long2bytes(req.getId(), header, 4);
-
-        // encode request data.
+        // encode request data, the header is filled in place once the body length is known.
         int savedWriteIndex = buffer.writerIndex();
         buffer.writerIndex(savedWriteIndex + HEADER_LENGTH);
         ChannelBufferOutputStream bos = new ChannelBufferOutputStream(buffer);
-        ObjectOutput out = serialization.serialize(channel.getUrl(), bos);
-        if (req.isEvent()) {
-            encodeEventData(channel, out, req.getData());
-        } else {
-            encodeRequestData(channel, out, req.getData(), req.getVersion());
-        }
-        out.flushBuffer();
-        if (out instanceof Cleanable) {
-            ((Cleanable) out).cleanup();
-        }
+        encodeRequestBody(channel, serialization, bos, req, layout);
         bos.flush();
         bos.close();
         int len = bos.writtenBytes();
         checkPayload(channel, len);
-        Bytes.int2bytes(len, header, 12);
 
-        // write
-        buffer.writerIndex(savedWriteIndex);
-        buffer.writeBytes(header); // write header.
-        buffer.writerIndex(savedWriteIndex + HEADER_LENGTH + len);
+        // write header.
+        setHeader(buffer, savedWriteIndex, flag, layout, req.getId(), len);
+        if (req.isHeartbeat()) {
+            saveHeartbeat(buffer, savedWriteIndex, flag, len);
+        }
     }
 
     protected void encodeResponse(Channel channel, ChannelBuffer buffer, Response res) throws IOException {
         int savedWriteIndex = buffer.writerIndex();
         try {
             Serialization serialization = getSerialization(channel);
-            // header.
-            byte[] header = new byte[HEADER_LENGTH];
-            // set magic number.
-            Bytes.short2bytes(MAGIC, header);
             // set request and serialization flag.
-            header[2] = serialization.getContentTypeId();
+            byte flag = serialization.getContentTypeId();
             if (res.isHeartbeat()) {
-                header[2] |= FLAG_EVENT;
+                flag |= FLAG_EVENT;
             }
             // set response status.
             byte status = res.getStatus();
-            header[3] = status;
-            // set request id.
-            Bytes.long2bytes(res.getId(), header, 4);
+            if (status == Response.OK && res.isHeartbeat() && writeHeartbeat(channel, buffer, flag, status, res.getId())) {
+                return;
+            }
 
             buffer.writerIndex(savedWriteIndex + HEADER_LENGTH);
             ChannelBufferOutputStream bos = new ChannelBufferOutputStream(buffer);
@@ -294,11 +289,11 @@ public class ExchangeCodec extends TelnetCodec {
 
             int len = bos.writtenBytes();
             checkPayload(channel, len);
-            Bytes.int2bytes(len, header, 12);
-            // write
-            buffer.writerIndex(savedWriteIndex);
-            buffer.writeBytes(header); // write header.
-            buffer.writerIndex(savedWriteIndex + HEADER_LENGTH + len);
+            // write header.
+            setHeader(buffer, savedWriteIndex, flag, status, res.getId(), len);
+            if (status == Response.OK && res.isHeartbeat()) {
+                saveHeartbeat(buffer, savedWriteIndex, flag, len);
+            }
         } catch (Throwable t) {
             // clear buffer
             buffer.writerIndex(savedWriteIndex);
@@ -342,6 +337,93 @@ public class ExchangeCodec extends TelnetCodec {
         }
     }
 
+    /**
+     * The fourth header byte carries the status of a response and is unused by requests,
+     * subclasses may use it to tell the peer how the request body is laid out.
+     * It is evaluated right before the body is encoded, and passed to the encoding of the request data.
+     */
+    protected byte getRequestLayout(Channel channel, Request req) {
+        return 0;
+    }
+
+    /**
+     * Writes the body of a request through one serialization stream. Subclasses may write the body of the layouts
+     * they define in several streams.
+     */
+    protected void encodeRequestBody(Channel channel, Serialization serialization, ChannelBufferOutputStream bos,
+                                     Request req, byte layout) throws IOException {
+        ObjectOutput out = serialization.serialize(channel.getUrl(), bos);
+        if (req.isEvent()) {
+            encodeEventData(channel, out, req.getData());
+        } else {
+            encodeRequestData(channel, out, req.getData(), req.getVersion(), layout);
+        }
+        out.flushBuffer();
+        if (out instanceof Cleanable) {
+            ((Cleanable) out).cleanup();
+        }
+    }
+
+    /**
+     * Writes a heartbeat with the body already known for its serialization, so that nothing is serialized.
+     *
+     * @return false if no heartbeat was encoded with this serialization yet
+     */
+    private static boolean writeHeartbeat(Channel channel, ChannelBuffer buffer, byte flag, byte status, long id)
+            throws IOException {
+        byte[] body = HEARTBEAT_BODIES.get(flag & SERIALIZATION_MASK);
+        if (body == null) {
+            return false;
+        }
+        checkPayload(channel, body.length);
+        int index = buffer.writerIndex();
+        buffer.ensureWritableBytes(HEADER_LENGTH + body.length);
+        buffer.writerIndex(index + HEADER_LENGTH);
+        buffer.writeBytes(body);
+        setHeader(buffer, index, flag, status, id, body.length);
+        return true;
+    }
+
+    private static void saveHeartbeat(ChannelBuffer buffer, int index, byte flag, int len) {
+        int serializationId = flag & SERIALIZATION_MASK;
+        if (HEARTBEAT_BODIES.get(serializationId) == null) {
+            byte[] body = new byte[len];
+            buffer.getBytes(index + HEADER_LENGTH, body);
+            HEARTBEAT_BODIES.compareAndSet(serializationId, null, body);
+        }
+    }
+
+    /**
+     * Whether the rest of the body is the one of a heartbeat of the given serialization, in which case it is
+     * consumed and there is nothing to deserialize. Otherwise the body is left untouched.
+     */
+    protected static boolean isHeartbeatBody(InputStream is, byte proto) throws IOException {
+        byte[] body = HEARTBEAT_BODIES.get(proto & SERIALIZATION_MASK);
+        if (body == null || !is.markSupported() || is.available() != body.length) {
+            return false;
+        }
+        is.mark(body.length);
+        for (byte b : body) {
+            if (is.read() != (b & 0xff)) {
+                is.reset();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the header straight into the reserved head room of the buffer, without a temporary header array.
+     */
+    private static void setHeader(ChannelBuffer buffer, int index, byte flag, byte status, long id, int len) {
+        buffer.setByte(index, MAGIC_HIGH);
+        buffer.setByte(index + 1, MAGIC_LOW);
+        buffer.setByte(index + 2, flag);
+        buffer.setByte(index + 3, status);
+        buffer.setLong(index + 4, id);
+        buffer.setInt(index + 12, len);
+    }
+
     @Override
     protected Object decodeData(ObjectInput in) throws IOException {
         return decodeRequestData(in);
@@ -450,5 +532,9 @@ public class ExchangeCodec extends TelnetCodec {
         encodeResponseData(out, data);
     }
 
+    protected void encodeRequestData(Channel channel, ObjectOutput out, Object data, String version, byte layout) throws IOException {
+        encodeRequestData(channel, out, data, version);
+    }
+
 
 }
@@ -19,11 +19,12 @@ package org.apache.dubbo.remoting.exchange.support;
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
 import org.apache.dubbo.common.threadpool.ThreadlessExecutor;
-import org.apache.dubbo.common.timer.HashedWheelTimer;
+import org.apache.dubbo.common.timer.HierarchicalWheelTimer;
 import org.apache.dubbo.common.timer.Timeout;
 import org.apache.dubbo.common.timer.Timer;
 import org.apache.dubbo.common.timer.TimerTask;
 import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.common.utils.StripedLongObjectMap;
 import org.apache.dubbo.remoting.Channel;
 import org.apache.dubbo.remoting.RemotingException;
 import org.apache.dubbo.remoting.TimeoutException;
@@ -31,7 +32,10 @@ import org.apache.dubbo.remoting.exchange.Request;
 import org.apache.dubbo.remoting.exchange.Response;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,11 +52,14 @@ public class DefaultFuture extends CompletableFuture<Object> {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultFuture.class);
 
-    private static final Map<Long, Channel> CHANNELS = new ConcurrentHashMap<>();
+    /**
+     * pending requests of each channel, a channel close only visits its own requests.
+     */
+    private static final Map<Channel, PendingChannel> CHANNELS = new ConcurrentHashMap<>();
 
-    private static final Map<Long, DefaultFuture> FUTURES = new ConcurrentHashMap<>();
+    private static final StripedLongObjectMap<DefaultFuture> FUTURES = new StripedLongObjectMap<>();
 
-    public static final Timer TIME_OUT_TIMER = new HashedWheelTimer(
+    public static final Timer TIME_OUT_TIMER = new HierarchicalWheelTimer(
             new NamedThreadFactory("dubbo-future-timeout", true),
             30,
             TimeUnit.MILLISECONDS);
@@ -68,6 +75,11 @@ public class DefaultFuture extends CompletableFuture<Object> {
 
     private ExecutorService executor;
 
+    // guarded by the owner PendingChannel
+    private PendingChannel pendingChannel;
+    private DefaultFuture prev;
+    private DefaultFuture next;
+
     public ExecutorService getExecutor() {
         return executor;
     }
@@ -83,7 +95,7 @@ public class DefaultFuture extends CompletableFuture<Object> {
         this.timeout = timeout > 0 ? timeout : channel.getUrl().getPositiveParameter(TIMEOUT_KEY, DEFAULT_TIMEOUT);
         // put into waiting map.
         FUTURES.put(id, this);
-        CHANNELS.put(id, channel);
+        PendingChannel.link(this);
     }
 
     /**
@@ -121,7 +133,12 @@ public class DefaultFuture extends CompletableFuture<Object> {
     }
 
     public static boolean hasFuture(Channel channel) {
-        return CHANNELS.containsValue(channel);
+        for (PendingChannel pending : CHANNELS.values()) {
+            if (channel.equals(pending.channel) && pending.hasPending()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static void sent(Channel channel, Request request) {
@@ -138,10 +155,12 @@ public class DefaultFuture extends CompletableFuture<Object> {
      * @param channel channel to close
      */
     public static void closeChannel(Channel channel) {
-        for (Map.Entry<Long, Channel> entry : CHANNELS.entrySet()) {
-            if (channel.equals(entry.getValue())) {
-                DefaultFuture future = getFuture(entry.getKey());
-                if (future != null && !future.isDone()) {
+        for (PendingChannel pending : CHANNELS.values()) {
+            if (!channel.equals(pending.channel)) {
+                continue;
+            }
+            for (DefaultFuture future : pending.retire()) {
+                if (!future.isDone()) {
                     ExecutorService futureExecutor = future.getExecutor();
                     if (futureExecutor != null && !futureExecutor.isTerminated()) {
                         futureExecutor.shutdownNow();
@@ -164,24 +183,21 @@ public class DefaultFuture extends CompletableFuture<Object> {
     }
 
     public static void received(Channel channel, Response response, boolean timeout) {
-        try {
-            DefaultFuture future = FUTURES.remove(response.getId());
-            if (future != null) {
-                Timeout t = future.timeoutCheckTask;
-                if (!timeout) {
-                    // decrease Time
-                    t.cancel();
-                }
-                future.doReceived(response);
-            } else {
-                logger.warn("The timeout response finally returned at "
-                        + (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date()))
-                        + ", response status is " + response.getStatus()
-                        + (channel == null ? "" : ", channel: " + channel.getLocalAddress()
-                        + " -> " + channel.getRemoteAddress()) + ", please check provider side for detailed result.");
+        DefaultFuture future = FUTURES.remove(response.getId());
+        if (future != null) {
+            PendingChannel.unlink(future);
+            Timeout t = future.timeoutCheckTask;
+            if (!timeout) {
+                // decrease Time
+                t.cancel();
             }
-        } finally {
-            CHANNELS.remove(response.getId());
+            future.doReceived(response);
+        } else {
+            logger.warn("The timeout response finally returned at "
+                    + (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date()))
+                    + ", response status is " + response.getStatus()
+                    + (channel == null ? "" : ", channel: " + channel.getLocalAddress()
+                    + " -> " + channel.getRemoteAddress()) + ", please check provider side for detailed result.");
         }
     }
 
@@ -192,7 +208,7 @@ public class DefaultFuture extends CompletableFuture<Object> {
         errorResult.setErrorMessage("request future has been canceled.");
         this.doReceived(errorResult);
         FUTURES.remove(id);
-        CHANNELS.remove(id);
+        PendingChannel.unlink(this);
         return true;
     }
 
@@ -298,4 +314,91 @@ public class DefaultFuture extends CompletableFuture<Object> {
             DefaultFuture.received(future.getChannel(), timeoutResponse, true);
         }
     }
+
+    /**
+     * The in-flight requests sent through one channel, kept as an intrusive doubly linked list
+     * so that registering and resolving a request does not allocate.
+     */
+    private static final class PendingChannel {
+
+        private final Channel channel;
+
+        private DefaultFuture head;
+
+        private int size;
+
+        private boolean retired;
+
+        PendingChannel(Channel channel) {
+            this.channel = channel;
+        }
+
+        static void link(DefaultFuture future) {
+            while (true) {
+                PendingChannel pending = CHANNELS.computeIfAbsent(future.channel, PendingChannel::new);
+                synchronized (pending) {
+                    // a retired list has been (or is being) removed from CHANNELS by closeChannel
+                    if (!pending.retired) {
+                        future.pendingChannel = pending;
+                        future.next = pending.head;
+                        if (pending.head != null) {
+                            pending.head.prev = future;
+                        }
+                        pending.head = future;
+                        pending.size++;
+                        return;
+                    }
+                }
+                CHANNELS.remove(future.channel, pending);
+            }
+        }
+
+        static void unlink(DefaultFuture future) {
+            PendingChannel pending = future.pendingChannel;
+            if (pending == null) {
+                return;
+            }
+            synchronized (pending) {
+                if (future.pendingChannel != pending) {
+                    return;
+                }
+                if (future.prev != null) {
+                    future.prev.next = future.next;
+                } else {
+                    pending.head = future.next;
+                }
+                if (future.next != null) {
+                    future.next.prev = future.prev;
+                }
+                future.prev = null;
+                future.next = null;
+                future.pendingChannel = null;
+                pending.size--;
+            }
+        }
+
+        synchronized boolean hasPending() {
+            return size > 0;
+        }
+
+        /**
+         * detach all pending requests of this channel, requests sent afterwards go to a fresh list.
+         */
+        List<DefaultFuture> retire() {
+            List<DefaultFuture> futures;
+            synchronized (this) {
+                retired = true;
+                if (size == 0) {
+                    futures = Collections.emptyList();
+                } else {
+                    futures = new ArrayList<>(size);
+                    for (DefaultFuture f = head; f != null; f = f.next) {
+                        futures.add(f);
+                    }
+                }
+            }
+            CHANNELS.remove(channel, this);
+            return futures;
+        }
+    }
 }
@@ -36,6 +36,11 @@ public abstract class AbstractTimerTask implements TimerTask {
 
     protected volatile boolean cancel = false;
 
+    /**
+     * When an {@link IdleCheckSweeper} runs the task next.
+     */
+    private volatile long nextRun;
+
     AbstractTimerTask(ChannelProvider channelProvider, Long tick) {
         if (channelProvider == null || tick == null) {
             throw new IllegalArgumentException();
@@ -52,7 +57,7 @@ public abstract class AbstractTimerTask implements TimerTask {
         return (Long) channel.getAttribute(HeartbeatHandler.KEY_WRITE_TIMESTAMP);
     }
 
-    static Long now() {
+    static long now() {
         return System.currentTimeMillis();
     }
 
@@ -60,6 +65,24 @@ public abstract class AbstractTimerTask implements TimerTask {
         this.cancel = true;
     }
 
+    boolean isCancelled() {
+        return cancel;
+    }
+
+    void schedule(long now) {
+        nextRun = now + tick;
+    }
+
+    /**
+     * Runs the task if its tick has elapsed since the last run, for a sweeper driving many tasks at once.
+     */
+    void runIfDue(long now) {
+        if (now >= nextRun) {
+            nextRun = now + tick;
+            runOnce();
+        }
+    }
+
     private void reput(Timeout timeout, Long tick) {
         if (timeout == null || tick == null) {
             throw new IllegalArgumentException();
@@ -79,6 +102,11 @@ public abstract class AbstractTimerTask implements TimerTask {
 
     @Override
     public void run(Timeout timeout) throws Exception {
+        runOnce();
+        reput(timeout, tick);
+    }
+
+    private void runOnce() {
         Collection<Channel> c = channelProvider.getChannels();
         for (Channel channel : c) {
             if (channel.isClosed()) {
@@ -86,7 +114,6 @@ public abstract class AbstractTimerTask implements TimerTask {
             }
             doTask(channel);
         }
-        reput(timeout, tick);
     }
 
     protected abstract void doTask(Channel channel);
@@ -40,7 +40,7 @@ public class CloseTimerTask extends AbstractTimerTask {
         try {
             Long lastRead = lastRead(channel);
             Long lastWrite = lastWrite(channel);
-            Long now = now();
+            long now = now();
             // check ping & pong at server
             if ((lastRead != null && now - lastRead > idleTimeout)
                     || (lastWrite != null && now - lastWrite > idleTimeout)) {
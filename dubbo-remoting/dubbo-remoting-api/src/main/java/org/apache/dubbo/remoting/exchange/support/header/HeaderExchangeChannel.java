@@ -47,6 +47,8 @@ final class HeaderExchangeChannel implements ExchangeChannel {
 
     private final Channel channel;
 
+    private final RequestFlowControl flowControl;
+
     private volatile boolean closed = false;
 
     HeaderExchangeChannel(Channel channel) {
@@ -54,6 +56,8 @@ final class HeaderExchangeChannel implements ExchangeChannel {
             throw new IllegalArgumentException("channel == null");
         }
         this.channel = channel;
+        URL url = channel.getUrl();
+        this.flowControl = url != null && RequestFlowControl.isEnabled(url) ? new RequestFlowControl(channel, url) : null;
     }
 
     static HeaderExchangeChannel getOrAddChannel(Channel ch) {
@@ -131,6 +135,10 @@ final class HeaderExchangeChannel implements ExchangeChannel {
         req.setTwoWay(true);
         req.setData(request);
         DefaultFuture future = DefaultFuture.newFuture(channel, req, timeout, executor);
+        if (flowControl != null) {
+            flowControl.send(future);
+            return future;
+        }
         try {
             channel.send(req);
         } catch (RemotingException e) {
@@ -140,6 +148,13 @@ final class HeaderExchangeChannel implements ExchangeChannel {
         return future;
     }
 
+    /**
+     * @return the flow control of the requests of this channel, null if it is not enabled
+     */
+    RequestFlowControl getFlowControl() {
+        return flowControl;
+    }
+
     @Override
     public boolean isClosed() {
         return closed;
@@ -202,6 +217,11 @@ final class HeaderExchangeChannel implements ExchangeChannel {
         return channel.isConnected();
     }
 
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
     @Override
     public ChannelHandler getChannelHandler() {
         return channel.getChannelHandler();
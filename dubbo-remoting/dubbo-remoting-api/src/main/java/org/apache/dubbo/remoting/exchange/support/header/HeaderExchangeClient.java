@@ -20,6 +20,7 @@ import org.apache.dubbo.common.URL;
 import org.apache.dubbo.common.timer.HashedWheelTimer;
 import org.apache.dubbo.common.utils.Assert;
 import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.remoting.Channel;
 import org.apache.dubbo.remoting.ChannelHandler;
 import org.apache.dubbo.remoting.Client;
 import org.apache.dubbo.remoting.Constants;
@@ -29,6 +30,7 @@ import org.apache.dubbo.remoting.exchange.ExchangeClient;
 import org.apache.dubbo.remoting.exchange.ExchangeHandler;
 
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -50,6 +52,7 @@ public class HeaderExchangeClient implements ExchangeClient {
 
     private static final HashedWheelTimer IDLE_CHECK_TIMER = new HashedWheelTimer(
             new NamedThreadFactory("dubbo-client-idleCheck", true), 1, TimeUnit.SECONDS, TICKS_PER_WHEEL);
+    private static final IdleCheckSweeper IDLE_CHECK_SWEEPER = new IdleCheckSweeper(IDLE_CHECK_TIMER, LEAST_HEARTBEAT_DURATION);
     private HeartbeatTimerTask heartBeatTimerTask;
     private ReconnectTimerTask reconnectTimerTask;
 
@@ -105,6 +108,11 @@ public class HeaderExchangeClient implements ExchangeClient {
         return channel.isConnected();
     }
 
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
     @Override
     public InetSocketAddress getLocalAddress() {
         return channel.getLocalAddress();
@@ -188,31 +196,35 @@ public class HeaderExchangeClient implements ExchangeClient {
 
     private void startHeartBeatTask(URL url) {
         if (!client.canHandleIdle()) {
-            AbstractTimerTask.ChannelProvider cp = () -> Collections.singletonList(HeaderExchangeClient.this);
+            Collection<Channel> channels = Collections.singletonList(HeaderExchangeClient.this);
+            AbstractTimerTask.ChannelProvider cp = () -> channels;
             int heartbeat = getHeartbeat(url);
             long heartbeatTick = calculateLeastDuration(heartbeat);
             this.heartBeatTimerTask = new HeartbeatTimerTask(cp, heartbeatTick, heartbeat);
-            IDLE_CHECK_TIMER.newTimeout(heartBeatTimerTask, heartbeatTick, TimeUnit.MILLISECONDS);
+            IDLE_CHECK_SWEEPER.add(heartBeatTimerTask);
         }
     }
 
     private void startReconnectTask(URL url) {
         if (shouldReconnect(url)) {
-            AbstractTimerTask.ChannelProvider cp = () -> Collections.singletonList(HeaderExchangeClient.this);
+            Collection<Channel> channels = Collections.singletonList(HeaderExchangeClient.this);
+            AbstractTimerTask.ChannelProvider cp = () -> channels;
             int idleTimeout = getIdleTimeout(url);
             long heartbeatTimeoutTick = calculateLeastDuration(idleTimeout);
             this.reconnectTimerTask = new ReconnectTimerTask(cp, heartbeatTimeoutTick, idleTimeout);
-            IDLE_CHECK_TIMER.newTimeout(reconnectTimerTask, heartbeatTimeoutTick, TimeUnit.MILLISECONDS);
+            IDLE_CHECK_SWEEPER.add(reconnectTimerTask);
         }
     }
 
     private void doClose() {
         if (heartBeatTimerTask != null) {
             heartBeatTimerTask.cancel();
+            IDLE_CHECK_SWEEPER.remove(heartBeatTimerTask);
         }
 
         if (reconnectTimerTask != null) {
             reconnectTimerTask.cancel();
+            IDLE_CHECK_SWEEPER.remove(reconnectTimerTask);
         }
     }
 
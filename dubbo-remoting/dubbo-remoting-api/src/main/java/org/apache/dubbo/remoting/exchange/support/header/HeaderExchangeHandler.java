@@ -218,6 +218,14 @@ public class HeaderExchangeHandler implements ChannelHandlerDelegate {
         }
     }
 
+    @Override
+    public void writable(Channel channel) {
+        RequestFlowControl flowControl = RequestFlowControl.find(channel);
+        if (flowControl != null) {
+            flowControl.drain();
+        }
+    }
+
     @Override
     public ChannelHandler getHandler() {
         if (handler instanceof ChannelHandlerDelegate) {
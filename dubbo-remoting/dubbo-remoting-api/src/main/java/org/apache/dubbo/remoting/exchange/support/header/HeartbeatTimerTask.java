@@ -32,6 +32,12 @@ public class HeartbeatTimerTask extends AbstractTimerTask {
 
     private static final Logger logger = LoggerFactory.getLogger(HeartbeatTimerTask.class);
 
+    /**
+     * Every heartbeat sends this same request. Heartbeats are not answered through a future, and the id sits
+     * below the ones handed out to requests, so it can be shared.
+     */
+    private static final Request HEARTBEAT = newHeartbeat();
+
     private final int heartbeat;
 
     HeartbeatTimerTask(ChannelProvider channelProvider, Long heartbeatTick, int heartbeat) {
@@ -44,13 +50,10 @@ public class HeartbeatTimerTask extends AbstractTimerTask {
         try {
             Long lastRead = lastRead(channel);
             Long lastWrite = lastWrite(channel);
-            if ((lastRead != null && now() - lastRead > heartbeat)
-                    || (lastWrite != null && now() - lastWrite > heartbeat)) {
-                Request req = new Request();
-                req.setVersion(Version.getProtocolVersion());
-                req.setTwoWay(true);
-                req.setEvent(HEARTBEAT_EVENT);
-                channel.send(req);
+            long now = now();
+            if ((lastRead != null && now - lastRead > heartbeat)
+                    || (lastWrite != null && now - lastWrite > heartbeat)) {
+                channel.send(HEARTBEAT);
                 if (logger.isDebugEnabled()) {
                     logger.debug("Send heartbeat to remote channel " + channel.getRemoteAddress()
                             + ", cause: The channel has no data-transmission exceeds a heartbeat period: "
@@ -61,4 +64,12 @@ public class HeartbeatTimerTask extends AbstractTimerTask {
             logger.warn("Exception when heartbeat to remote channel " + channel.getRemoteAddress(), t);
         }
     }
+
+    private static Request newHeartbeat() {
+        Request req = new Request(Long.MIN_VALUE);
+        req.setVersion(Version.getProtocolVersion());
+        req.setTwoWay(true);
+        req.setEvent(HEARTBEAT_EVENT);
+        return req;
+    }
 }
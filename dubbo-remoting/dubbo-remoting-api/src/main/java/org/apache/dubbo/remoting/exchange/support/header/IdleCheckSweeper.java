@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.exchange.support.header;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.timer.Timeout;
+import org.apache.dubbo.common.timer.Timer;
+import org.apache.dubbo.common.timer.TimerTask;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drives the idle checks of many connections from a single timeout.
+ * <p>
+ * Every tick walks the registered tasks and runs the ones whose own tick has elapsed, so the timer holds one
+ * entry whatever the number of connections, instead of one timeout per task rescheduled after every run.
+ */
+final class IdleCheckSweeper implements TimerTask {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdleCheckSweeper.class);
+
+    private final Timer timer;
+
+    private final long tick;
+
+    private final Set<AbstractTimerTask> tasks = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    IdleCheckSweeper(Timer timer, long tick) {
+        this.timer = timer;
+        this.tick = tick;
+    }
+
+    void add(AbstractTimerTask task) {
+        task.schedule(AbstractTimerTask.now());
+        tasks.add(task);
+        if (started.compareAndSet(false, true)) {
+            timer.newTimeout(this, tick, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void remove(AbstractTimerTask task) {
+        tasks.remove(task);
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public void run(Timeout timeout) {
+        long now = AbstractTimerTask.now();
+        for (AbstractTimerTask task : tasks) {
+            if (task.isCancelled()) {
+                tasks.remove(task);
+                continue;
+            }
+            try {
+                task.runIfDue(now);
+            } catch (Throwable t) {
+                logger.warn("Failed to run idle check " + task + ": " + t.getMessage(), t);
+            }
+        }
+        if (!timer.isStop()) {
+            timer.newTimeout(this, tick, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class ReconnectTimerTask extends AbstractTimerTask {
     protected void doTask(Channel channel) {
         try {
             Long lastRead = lastRead(channel);
-            Long now = now();
+            long now = now();
 
             // Rely on reconnect timer to reconnect when AbstractClient.doConnect fails to init the connection
             if (!channel.isConnected()) {
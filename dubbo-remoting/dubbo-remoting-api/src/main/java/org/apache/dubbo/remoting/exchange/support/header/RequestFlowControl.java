@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.exchange.support.header;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.exchange.support.DefaultFuture;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.remoting.Constants.DEFAULT_FLOW_CONTROL_INFLIGHT;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_FLOW_CONTROL_QUEUE;
+import static org.apache.dubbo.remoting.Constants.FLOW_CONTROL_INFLIGHT_KEY;
+import static org.apache.dubbo.remoting.Constants.FLOW_CONTROL_KEY;
+import static org.apache.dubbo.remoting.Constants.FLOW_CONTROL_QUEUE_KEY;
+
+/**
+ * Holds back the requests of a connection which has too many of them in flight, or is not writable.
+ * <p>
+ * Requests held back are sent in order as responses come back, as new requests find the connection
+ * writable again, or as the transport reports the connection writable again. A request that does not fit in the queue fails fast with a {@link RemotingException},
+ * instead of piling up in the write buffer of the connection. A request which times out while held back
+ * completes as a client side timeout, as if it was never sent.
+ */
+public class RequestFlowControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestFlowControl.class);
+
+    private static final String ATTRIBUTE_KEY = RequestFlowControl.class.getName();
+
+    private static final LongAdder QUEUED = new LongAdder();
+
+    private static final LongAdder REJECTED = new LongAdder();
+
+    private final Channel channel;
+
+    private final int maxInflight;
+
+    private final int maxQueued;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Queue<DefaultFuture> queue = new ConcurrentLinkedQueue<>();
+
+    RequestFlowControl(Channel channel, URL url) {
+        this.channel = channel;
+        this.maxInflight = url.getParameter(FLOW_CONTROL_INFLIGHT_KEY, DEFAULT_FLOW_CONTROL_INFLIGHT);
+        this.maxQueued = url.getParameter(FLOW_CONTROL_QUEUE_KEY, DEFAULT_FLOW_CONTROL_QUEUE);
+    }
+
+    static boolean isEnabled(URL url) {
+        return url.getParameter(FLOW_CONTROL_KEY, false)
+                || url.getParameter(FLOW_CONTROL_INFLIGHT_KEY, DEFAULT_FLOW_CONTROL_INFLIGHT) > 0;
+    }
+
+    /**
+     * @return the flow control holding back requests of the connection, null if there is none
+     */
+    static RequestFlowControl find(Channel channel) {
+        return (RequestFlowControl) channel.getAttribute(ATTRIBUTE_KEY);
+    }
+
+    /**
+     * @return the number of requests held back by all flow controlled connections so far
+     */
+    public static long getQueuedRequests() {
+        return QUEUED.sum();
+    }
+
+    /**
+     * @return the number of requests failed fast by all flow controlled connections so far
+     */
+    public static long getRejectedRequests() {
+        return REJECTED.sum();
+    }
+
+    /**
+     * @return the number of requests waiting for a response on this connection
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * @return the number of requests held back on this connection
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    void send(DefaultFuture future) throws RemotingException {
+        // requests held back go first
+        if (queued.get() == 0 && tryAcquire()) {
+            if (channel.isWritable()) {
+                doSend(future, false);
+                return;
+            }
+            inflight.decrementAndGet();
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            REJECTED.increment();
+            future.cancel();
+            throw new RemotingException(channel, "Failed to send request " + future.getRequest()
+                    + ", cause: the channel " + channel + " has " + inflight.get() + " requests in flight and "
+                    + maxQueued + " held back, writable: " + channel.isWritable());
+        }
+        QUEUED.increment();
+        queue.offer(future);
+        // the transport channel may have been replaced by a reconnect, it is told again with every request held back
+        channel.setAttribute(ATTRIBUTE_KEY, this);
+        // a response may have come back since the check above
+        drain();
+    }
+
+    private void doSend(DefaultFuture future, boolean drained) throws RemotingException {
+        future.whenComplete((result, t) -> {
+            inflight.decrementAndGet();
+            drain();
+        });
+        try {
+            if (drained) {
+                // the caller is gone, and this may be an io thread which must not wait for the write
+                channel.send(future.getRequest(), false);
+            } else {
+                channel.send(future.getRequest());
+            }
+        } catch (RemotingException e) {
+            future.cancel();
+            throw e;
+        }
+    }
+
+    void drain() {
+        while (!queue.isEmpty() && channel.isWritable() && tryAcquire()) {
+            DefaultFuture future = queue.poll();
+            if (future == null) {
+                inflight.decrementAndGet();
+                return;
+            }
+            queued.decrementAndGet();
+            if (future.isDone()) {
+                // timed out or cancelled while held back
+                inflight.decrementAndGet();
+                continue;
+            }
+            try {
+                doSend(future, true);
+            } catch (RemotingException e) {
+                logger.warn("Failed to send request held back by " + channel + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (maxInflight > 0 && current >= maxInflight) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -62,4 +62,9 @@ public abstract class AbstractChannelHandlerDelegate implements ChannelHandlerDe
     public void caught(Channel channel, Throwable exception) throws RemotingException {
         handler.caught(channel, exception);
     }
+
+    @Override
+    public void writable(Channel channel) throws RemotingException {
+        handler.writable(channel);
+    }
 }
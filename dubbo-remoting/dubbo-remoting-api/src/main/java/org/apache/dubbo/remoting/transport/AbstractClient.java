@@ -129,6 +129,12 @@ public abstract class AbstractClient extends AbstractEndpoint implements Client
         return channel.isConnected();
     }
 
+    @Override
+    public boolean isWritable() {
+        Channel channel = getChannel();
+        return channel == null || channel.isWritable();
+    }
+
     @Override
     public Object getAttribute(String key) {
         Channel channel = getChannel();
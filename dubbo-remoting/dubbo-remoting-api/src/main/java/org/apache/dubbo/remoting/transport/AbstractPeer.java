@@ -151,4 +151,9 @@ public abstract class AbstractPeer implements Endpoint, ChannelHandler {
     public void caught(Channel ch, Throwable ex) throws RemotingException {
         handler.caught(ch, ex);
     }
+
+    @Override
+    public void writable(Channel ch) throws RemotingException {
+        handler.writable(ch);
+    }
 }
@@ -68,6 +68,11 @@ public class ChannelDelegate implements Channel {
         return channel.isConnected();
     }
 
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
     @Override
     public InetSocketAddress getLocalAddress() {
         return channel.getLocalAddress();
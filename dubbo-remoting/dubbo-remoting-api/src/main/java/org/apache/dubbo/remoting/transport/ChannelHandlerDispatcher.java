@@ -117,4 +117,15 @@ public class ChannelHandlerDispatcher implements ChannelHandler {
         }
     }
 
+    @Override
+    public void writable(Channel channel) {
+        for (ChannelHandler listener : channelHandlers) {
+            try {
+                listener.writable(channel);
+            } catch (Throwable t) {
+                logger.error(t.getMessage(), t);
+            }
+        }
+    }
+
 }
@@ -18,10 +18,13 @@ package org.apache.dubbo.remoting.transport.dispatcher;
 
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadpool.Prioritized;
 import org.apache.dubbo.remoting.Channel;
 import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.DeadlineAware;
+import org.apache.dubbo.remoting.exchange.Request;
 
-public class ChannelEventRunnable implements Runnable {
+public class ChannelEventRunnable implements Runnable, Prioritized {
     private static final Logger logger = LoggerFactory.getLogger(ChannelEventRunnable.class);
 
     private final ChannelHandler handler;
@@ -53,6 +56,9 @@ public class ChannelEventRunnable implements Runnable {
     @Override
     public void run() {
         if (state == ChannelState.RECEIVED) {
+            if (isExpired()) {
+                return;
+            }
             try {
                 handler.received(channel, message);
             } catch (Exception e) {
@@ -98,6 +104,59 @@ public class ChannelEventRunnable implements Runnable {
 
     }
 
+    /**
+     * @return whether the request received is past the deadline of its caller, who doesn't wait for the response
+     * anymore
+     */
+    private boolean isExpired() {
+        if (!(message instanceof Request)) {
+            return false;
+        }
+        Object data = ((Request) message).getData();
+        if (!(data instanceof DeadlineAware)) {
+            return false;
+        }
+        long deadline = ((DeadlineAware) data).getDeadline();
+        if (deadline <= 0) {
+            return false;
+        }
+        long late = System.currentTimeMillis() - deadline;
+        if (late <= 0) {
+            return false;
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn("Skip request " + ((Request) message).getId() + " from " + channel.getRemoteAddress()
+                    + ", its caller gave up waiting for it " + late + "ms ago.");
+        }
+        return true;
+    }
+
+    /**
+     * @return the priority of the request received, if it tells one
+     */
+    @Override
+    public int getPriority() {
+        Prioritized request = getPrioritizedRequest();
+        return request == null ? DEFAULT_PRIORITY : request.getPriority();
+    }
+
+    /**
+     * @return the timeout of the request received, if it tells one
+     */
+    @Override
+    public int getTimeout() {
+        Prioritized request = getPrioritizedRequest();
+        return request == null ? 0 : request.getTimeout();
+    }
+
+    private Prioritized getPrioritizedRequest() {
+        if (state != ChannelState.RECEIVED || !(message instanceof Request)) {
+            return null;
+        }
+        Object data = ((Request) message).getData();
+        return data instanceof Prioritized ? (Prioritized) data : null;
+    }
+
     /**
      * ChannelState
      *
@@ -73,6 +73,11 @@ public class WrappedChannelHandler implements ChannelHandlerDelegate {
         handler.caught(channel, exception);
     }
 
+    @Override
+    public void writable(Channel channel) throws RemotingException {
+        handler.writable(channel);
+    }
+
     protected void sendFeedback(Channel channel, Request request, Throwable t) throws RemotingException {
         if (request.isTwoWay()) {
             String msg = "Server side(" + url.getIp() + "," + url.getPort()
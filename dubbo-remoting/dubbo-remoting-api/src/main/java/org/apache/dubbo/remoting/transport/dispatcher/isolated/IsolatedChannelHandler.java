@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.dispatcher.isolated;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.ExecutionException;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.ServicePathAware;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelEventRunnable;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelEventRunnable.ChannelState;
+import org.apache.dubbo.remoting.transport.dispatcher.all.AllChannelHandler;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Dispatches like {@link AllChannelHandler}, except that requests run in the lane of their service when the thread
+ * pool is an {@link IsolatedExecutor}. Requests for a path no service is registered on run in the default lane.
+ */
+public class IsolatedChannelHandler extends AllChannelHandler {
+
+    public IsolatedChannelHandler(ChannelHandler handler, URL url) {
+        super(handler, url);
+    }
+
+    @Override
+    public void received(Channel channel, Object message) throws RemotingException {
+        ExecutorService executor = getPreferredExecutorService(message);
+        if (!(message instanceof Request) || !(executor instanceof IsolatedExecutor)) {
+            super.received(channel, message);
+            return;
+        }
+        Request request = (Request) message;
+        try {
+            ((IsolatedExecutor) executor).execute(getService(request),
+                    new ChannelEventRunnable(channel, handler, ChannelState.RECEIVED, message));
+        } catch (Throwable t) {
+            if (t instanceof RejectedExecutionException) {
+                sendFeedback(channel, request, t);
+                return;
+            }
+            throw new ExecutionException(message, channel, getClass() + " error when process received event .", t);
+        }
+    }
+
+    /**
+     * @return the path of the service of the request, null for the paths no service is registered on, which the
+     * peer is free to make up, so that they share the default lane instead of adding one each
+     */
+    private static String getService(Request request) {
+        Object data = request.getData();
+        String path = data instanceof ServicePathAware ? ((ServicePathAware) data).getServicePath() : null;
+        return path == null || ApplicationModel.getServiceRepository().lookupService(path) == null ? null : path;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.dispatcher.smart;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.config.MethodConfig;
+import org.apache.dubbo.config.ServiceConfigBase;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.ServicePathAware;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.dispatcher.isolated.IsolatedChannelHandler;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.MethodDescriptor;
+import org.apache.dubbo.rpc.model.ProviderModel;
+import org.apache.dubbo.rpc.model.ServiceRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.remoting.Constants.DEFAULT_NON_BLOCKING_THRESHOLD;
+import static org.apache.dubbo.remoting.Constants.NON_BLOCKING_THRESHOLD_KEY;
+
+/**
+ * Runs the requests for the methods configured with <code>nonblocking="true"</code> on the io thread, and dispatches
+ * the others like {@link IsolatedChannelHandler}.
+ * <p>
+ * A non-blocking method which ran longer than <code>nonblocking.threshold</code> milliseconds at least
+ * {@link #DEMOTE_SLOW_RUNS} times, and in at least 1% of its runs, is demoted: its further requests go to the thread
+ * pool. The ratio keeps the occasional gc pause from demoting a method. Methods are configured by name, which makes
+ * all their overloads non-blocking, but each overload is demoted on its own.
+ */
+public class SmartChannelHandler extends IsolatedChannelHandler {
+
+    static final int DEMOTE_SLOW_RUNS = 3;
+
+    private final long thresholdNanos;
+
+    /**
+     * the non-blocking methods by service path
+     */
+    private final ConcurrentMap<String, NonBlockingMethods> services = new ConcurrentHashMap<>();
+
+    public SmartChannelHandler(ChannelHandler handler, URL url) {
+        super(handler, url);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                url.getParameter(NON_BLOCKING_THRESHOLD_KEY, DEFAULT_NON_BLOCKING_THRESHOLD));
+    }
+
+    @Override
+    public void received(Channel channel, Object message) throws RemotingException {
+        NonBlockingMethod method = message instanceof Request ? getNonBlockingMethod((Request) message) : null;
+        if (method == null) {
+            super.received(channel, message);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            handler.received(channel, message);
+        } finally {
+            method.ran(System.nanoTime() - start, thresholdNanos);
+        }
+    }
+
+    private NonBlockingMethod getNonBlockingMethod(Request request) {
+        Object data = request.getData();
+        if (!(data instanceof ServicePathAware)) {
+            return null;
+        }
+        ServicePathAware call = (ServicePathAware) data;
+        String path = call.getServicePath();
+        if (path == null) {
+            return null;
+        }
+        ServiceRepository repository = ApplicationModel.getServiceRepository();
+        NonBlockingMethods methods = services.get(path);
+        if (methods == null || methods.exportedVersion != repository.getExportedVersion()) {
+            // a path no service is registered on is made up by the peer, it is neither looked up nor cached
+            if (repository.lookupService(path) == null) {
+                return null;
+            }
+            methods = lookupNonBlockingMethods(repository, path);
+        }
+        if (methods.overloads.isEmpty()) {
+            return null;
+        }
+        Map<String, NonBlockingMethod> overloads = methods.overloads.get(call.getServiceMethodName());
+        if (overloads == null) {
+            return null;
+        }
+        String desc = call.getServiceParameterTypesDesc();
+        NonBlockingMethod method = desc == null ? null : overloads.get(desc);
+        return method == null || method.demoted ? null : method;
+    }
+
+    /**
+     * Looks the non-blocking methods up in the services exported on the path, none when there are no such services
+     * yet. The result is cached until a service is exported.
+     */
+    private NonBlockingMethods lookupNonBlockingMethods(ServiceRepository repository, String path) {
+        // read first, a service exported during the lookup makes the result stale right away
+        int exportedVersion = repository.getExportedVersion();
+        Map<String, Map<String, NonBlockingMethod>> overloads = new HashMap<>();
+        for (ProviderModel provider : repository.getExportedServices()) {
+            ServiceConfigBase<?> config = provider.getServiceConfig();
+            if (config == null || provider.getServiceModel() == null) {
+                continue;
+            }
+            String servicePath = StringUtils.isEmpty(config.getPath()) ? config.getInterface() : config.getPath();
+            if (!path.equals(servicePath) || config.getMethods() == null) {
+                continue;
+            }
+            for (MethodConfig methodConfig : config.getMethods()) {
+                if (!Boolean.TRUE.equals(methodConfig.getNonblocking())) {
+                    continue;
+                }
+                // configured by name, each overload is demoted on its own
+                String name = methodConfig.getName();
+                for (MethodDescriptor descriptor : provider.getServiceModel().getMethods(name)) {
+                    overloads.computeIfAbsent(name, k -> new HashMap<>()).putIfAbsent(descriptor.getParamDesc(),
+                            new NonBlockingMethod(path + "." + name + "(" + descriptor.getParamDesc() + ")"));
+                }
+            }
+        }
+        NonBlockingMethods methods = new NonBlockingMethods(exportedVersion, overloads);
+        NonBlockingMethods existing = services.get(path);
+        if (existing != null && existing.exportedVersion == exportedVersion) {
+            return existing;
+        }
+        services.put(path, methods);
+        return methods;
+    }
+
+    private static final class NonBlockingMethods {
+
+        private final int exportedVersion;
+
+        /**
+         * by method name, then by parameter types descriptor
+         */
+        private final Map<String, Map<String, NonBlockingMethod>> overloads;
+
+        private NonBlockingMethods(int exportedVersion, Map<String, Map<String, NonBlockingMethod>> overloads) {
+            this.exportedVersion = exportedVersion;
+            this.overloads = overloads;
+        }
+    }
+
+    private static final class NonBlockingMethod {
+
+        private final String name;
+
+        private final LongAdder runs = new LongAdder();
+
+        private final AtomicInteger slowRuns = new AtomicInteger();
+
+        private volatile boolean demoted;
+
+        private NonBlockingMethod(String name) {
+            this.name = name;
+        }
+
+        private void ran(long elapsedNanos, long thresholdNanos) {
+            runs.increment();
+            if (elapsedNanos <= thresholdNanos) {
+                return;
+            }
+            int slow = slowRuns.incrementAndGet();
+            if (slow >= DEMOTE_SLOW_RUNS && slow * 100L >= runs.sum() && !demoted) {
+                demoted = true;
+                logger.warn("Method " + name + " blocked the io thread for " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+                        + "ms, " + slow + " of its " + runs.sum() + " runs took over "
+                        + TimeUnit.NANOSECONDS.toMillis(thresholdNanos) + "ms, dispatch it to the thread pool from now on.");
+            }
+        }
+    }
+}
@@ -71,6 +71,18 @@ public abstract class AbstractChannelBufferTest {
         assertEquals(0, buffer.readerIndex());
     }
 
+    @Test
+    public void setIntAndLong() {
+        buffer.setInt(0, 0x01020304);
+        buffer.setLong(4, 0x05060708090a0b0cL);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i + 1, buffer.getByte(i));
+        }
+        buffer.setInt(0, -1);
+        assertEquals((byte) 0xff, buffer.getByte(3));
+        assertEquals(5, buffer.getByte(4));
+    }
+
     @Test
     public void readerIndexBoundaryCheck1() {
         Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -42,6 +42,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.apache.dubbo.common.constants.CommonConstants.HEARTBEAT_EVENT;
 import static org.apache.dubbo.common.constants.CommonConstants.READONLY_EVENT;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -374,6 +375,46 @@ public class ExchangeCodecTest extends TelnetCodecTest {
 
     }
 
+    @Test
+    public void test_Encode_Heartbeat() throws IOException {
+        Channel channel = getCliendSideChannel(url);
+        byte[] first = encodeHeartbeat(channel, 1L);
+        byte[] second = encodeHeartbeat(channel, 2L);
+
+        // the same frame, but for the id
+        Assertions.assertEquals(first.length, second.length);
+        System.arraycopy(first, 4, second, 4, 8);
+        Assertions.assertArrayEquals(first, second);
+
+        for (int i = 0; i < 2; i++) {
+            Request request = (Request) codec.decode(channel, ChannelBuffers.wrappedBuffer(encodeHeartbeat(channel, 3L)));
+            Assertions.assertEquals(3L, request.getId());
+            Assertions.assertTrue(request.isHeartbeat());
+            Assertions.assertTrue(request.isTwoWay());
+
+            Response response = new Response(3L, Version.getProtocolVersion());
+            response.setEvent(HEARTBEAT_EVENT);
+            ChannelBuffer buffer = ChannelBuffers.dynamicBuffer(64);
+            codec.encode(channel, buffer, response);
+            Response decoded = (Response) codec.decode(channel, buffer);
+            Assertions.assertEquals(3L, decoded.getId());
+            Assertions.assertTrue(decoded.isHeartbeat());
+            Assertions.assertEquals(Response.OK, decoded.getStatus());
+        }
+    }
+
+    private byte[] encodeHeartbeat(Channel channel, long id) throws IOException {
+        Request request = new Request(id);
+        request.setVersion(Version.getProtocolVersion());
+        request.setTwoWay(true);
+        request.setEvent(HEARTBEAT_EVENT);
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer(64);
+        codec.encode(channel, buffer, request);
+        byte[] data = new byte[buffer.readableBytes()];
+        buffer.readBytes(data);
+        return data;
+    }
+
     @Test
     public void test_Encode_Error_Response() throws IOException {
         ChannelBuffer encodeBuffer = ChannelBuffers.dynamicBuffer(1024);
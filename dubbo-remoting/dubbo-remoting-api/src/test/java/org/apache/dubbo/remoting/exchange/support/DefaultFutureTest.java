@@ -20,6 +20,7 @@ package org.apache.dubbo.remoting.exchange.support;
 import org.apache.dubbo.remoting.Channel;
 import org.apache.dubbo.remoting.TimeoutException;
 import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.exchange.Response;
 import org.apache.dubbo.remoting.handler.MockedChannel;
 
 import org.junit.jupiter.api.Assertions;
@@ -116,6 +117,36 @@ public class DefaultFutureTest {
         }
     }
 
+    @Test
+    public void closeChannelOnlyTouchesItsOwnRequests() {
+        Channel closed = new MockedChannel();
+        Channel alive = new MockedChannel();
+        DefaultFuture f1 = DefaultFuture.newFuture(closed, new Request(1000001), 3000, null);
+        DefaultFuture f2 = DefaultFuture.newFuture(closed, new Request(1000002), 3000, null);
+        DefaultFuture f3 = DefaultFuture.newFuture(alive, new Request(1000003), 3000, null);
+        Assertions.assertTrue(DefaultFuture.hasFuture(closed));
+
+        DefaultFuture.closeChannel(closed);
+        Assertions.assertTrue(f1.isCompletedExceptionally());
+        Assertions.assertTrue(f2.isCompletedExceptionally());
+        Assertions.assertFalse(f3.isDone());
+        Assertions.assertFalse(DefaultFuture.hasFuture(closed));
+        Assertions.assertNull(DefaultFuture.getFuture(1000001));
+
+        // the channel is still usable after being closed, e.g. a reconnected client
+        DefaultFuture f4 = DefaultFuture.newFuture(closed, new Request(1000004), 3000, null);
+        Assertions.assertTrue(DefaultFuture.hasFuture(closed));
+
+        Response response = new Response(1000004);
+        response.setResult("ok");
+        DefaultFuture.received(closed, response);
+        Assertions.assertTrue(f4.isDone());
+        Assertions.assertFalse(DefaultFuture.hasFuture(closed));
+
+        f3.cancel();
+        Assertions.assertFalse(DefaultFuture.hasFuture(alive));
+    }
+
     /**
      * mock a default future
      */
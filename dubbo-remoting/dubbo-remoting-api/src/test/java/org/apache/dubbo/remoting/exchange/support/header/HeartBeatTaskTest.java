@@ -78,4 +78,26 @@ public class HeartBeatTaskTest {
         Assertions.assertTrue(request.isHeartbeat());
     }
 
+    @Test
+    public void testSweeper() throws Exception {
+        long now = System.currentTimeMillis();
+        channel.setAttribute(HeartbeatHandler.KEY_READ_TIMESTAMP, now);
+        channel.setAttribute(HeartbeatHandler.KEY_WRITE_TIMESTAMP, now);
+
+        IdleCheckSweeper sweeper = new IdleCheckSweeper(heartbeatTimer, 100);
+        sweeper.add(heartbeatTimerTask);
+        Assertions.assertEquals(1, sweeper.size());
+
+        Thread.sleep(2000L);
+        List<Object> objects = channel.getSentObjects();
+        Assertions.assertTrue(objects.size() > 0);
+        Assertions.assertTrue(((Request) objects.get(0)).isHeartbeat());
+
+        heartbeatTimerTask.cancel();
+        Thread.sleep(500L);
+        Assertions.assertEquals(0, sweeper.size());
+        int sent = objects.size();
+        Thread.sleep(1500L);
+        Assertions.assertEquals(sent, channel.getSentObjects().size());
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.exchange.support.header;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.exchange.ExchangeHandler;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.exchange.Response;
+import org.apache.dubbo.remoting.exchange.support.DefaultFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+
+public class RequestFlowControlTest {
+
+    private FlowChannel channel;
+
+    @AfterEach
+    public void tearDown() {
+        if (channel != null) {
+            DefaultFuture.closeChannel(channel);
+        }
+    }
+
+    @Test
+    public void testInflightLimit() throws Exception {
+        channel = new FlowChannel("dubbo://localhost:20880?flow.control.inflight=2&flow.control.queue=1");
+        HeaderExchangeChannel header = new HeaderExchangeChannel(channel);
+        long rejected = RequestFlowControl.getRejectedRequests();
+
+        header.request("a", 10000);
+        header.request("b", 10000);
+        header.request("c", 10000);
+        Assertions.assertEquals(2, channel.getSentObjects().size());
+        Assertions.assertEquals(2, header.getFlowControl().getInflight());
+        Assertions.assertEquals(1, header.getFlowControl().getQueued());
+
+        Assertions.assertThrows(RemotingException.class, () -> header.request("d", 10000));
+        Assertions.assertEquals(rejected + 1, RequestFlowControl.getRejectedRequests());
+
+        // the response of the first request lets the held back one go
+        respond((Request) channel.getSentObjects().get(0));
+        Assertions.assertEquals(3, channel.getSentObjects().size());
+        Assertions.assertEquals("c", ((Request) channel.getSentObjects().get(2)).getData());
+        Assertions.assertEquals(2, header.getFlowControl().getInflight());
+        Assertions.assertEquals(0, header.getFlowControl().getQueued());
+    }
+
+    @Test
+    public void testFailFastWhenNotWritable() throws Exception {
+        channel = new FlowChannel("dubbo://localhost:20880?flow.control=true");
+        HeaderExchangeChannel header = new HeaderExchangeChannel(channel);
+
+        channel.writable = false;
+        Assertions.assertThrows(RemotingException.class, () -> header.request("a", 10000));
+        Assertions.assertEquals(0, channel.getSentObjects().size());
+
+        channel.writable = true;
+        header.request("b", 10000);
+        Assertions.assertEquals(1, channel.getSentObjects().size());
+    }
+
+    @Test
+    public void testHeldBackRequestsGoFirst() throws Exception {
+        channel = new FlowChannel("dubbo://localhost:20880?flow.control=true&flow.control.queue=10");
+        HeaderExchangeChannel header = new HeaderExchangeChannel(channel);
+        long queued = RequestFlowControl.getQueuedRequests();
+
+        channel.writable = false;
+        header.request("a", 10000);
+        header.request("b", 10000);
+        Assertions.assertEquals(0, channel.getSentObjects().size());
+        Assertions.assertEquals(queued + 2, RequestFlowControl.getQueuedRequests());
+
+        channel.writable = true;
+        header.request("c", 10000);
+        Assertions.assertEquals(3, channel.getSentObjects().size());
+        Assertions.assertEquals("a", ((Request) channel.getSentObjects().get(0)).getData());
+        Assertions.assertEquals("b", ((Request) channel.getSentObjects().get(1)).getData());
+        Assertions.assertEquals("c", ((Request) channel.getSentObjects().get(2)).getData());
+    }
+
+    @Test
+    public void testHeldBackRequestsGoWhenWritableAgain() throws Exception {
+        channel = new FlowChannel("dubbo://localhost:20880?flow.control=true&flow.control.queue=10");
+        HeaderExchangeChannel header = new HeaderExchangeChannel(channel);
+
+        channel.writable = false;
+        header.request("a", 10000);
+        header.request("b", 10000);
+        Assertions.assertEquals(0, header.getFlowControl().getInflight());
+
+        // nothing in flight, so no response comes back to let them go
+        channel.writable = true;
+        new HeaderExchangeHandler(mock(ExchangeHandler.class)).writable(channel);
+        Assertions.assertEquals(2, channel.getSentObjects().size());
+        Assertions.assertEquals("a", ((Request) channel.getSentObjects().get(0)).getData());
+        Assertions.assertEquals("b", ((Request) channel.getSentObjects().get(1)).getData());
+        Assertions.assertEquals(0, header.getFlowControl().getQueued());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        HeaderExchangeChannel header = new HeaderExchangeChannel(new FlowChannel("dubbo://localhost:20880"));
+        Assertions.assertNull(header.getFlowControl());
+    }
+
+    private void respond(Request request) {
+        Response response = new Response(request.getId());
+        response.setResult("ok");
+        DefaultFuture.received(channel, response);
+    }
+
+    private static class FlowChannel extends MockChannel {
+
+        private final URL url;
+
+        private volatile boolean writable = true;
+
+        FlowChannel(String url) {
+            this.url = URL.valueOf(url);
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return writable;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.handler;
+
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.DeadlineAware;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelEventRunnable;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelEventRunnable.ChannelState;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ChannelEventRunnableTest {
+
+    private final Channel channel = new MockedChannel();
+
+    @Test
+    public void testExpiredRequestIsSkipped() throws Exception {
+        ChannelHandler handler = Mockito.mock(ChannelHandler.class);
+        Request request = request(System.currentTimeMillis() - 1000);
+        new ChannelEventRunnable(channel, handler, ChannelState.RECEIVED, request).run();
+        Mockito.verify(handler, Mockito.never()).received(channel, request);
+    }
+
+    @Test
+    public void testRequestWithinDeadlineIsHandled() throws Exception {
+        ChannelHandler handler = Mockito.mock(ChannelHandler.class);
+        Request request = request(System.currentTimeMillis() + 60000);
+        new ChannelEventRunnable(channel, handler, ChannelState.RECEIVED, request).run();
+        Mockito.verify(handler).received(channel, request);
+
+        Request unknown = request(0);
+        new ChannelEventRunnable(channel, handler, ChannelState.RECEIVED, unknown).run();
+        Mockito.verify(handler).received(channel, unknown);
+    }
+
+    private static Request request(long deadline) {
+        Request request = new Request();
+        request.setData((DeadlineAware) () -> deadline);
+        return request;
+    }
+}
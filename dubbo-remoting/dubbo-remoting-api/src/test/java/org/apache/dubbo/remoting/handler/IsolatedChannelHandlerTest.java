@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.handler;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor;
+import org.apache.dubbo.common.threadpool.support.isolated.IsolatedExecutor.LaneStatus;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ServicePathAware;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.dispatcher.isolated.IsolatedChannelHandler;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class IsolatedChannelHandlerTest {
+
+    private final Channel channel = new MockedChannel();
+
+    @BeforeEach
+    public void setUp() {
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testUnknownPathsShareTheDefaultLane() throws Exception {
+        CountDownLatch received = new CountDownLatch(3);
+        IsolatedChannelHandler handler = new IsolatedChannelHandler(new MockedChannelHandler() {
+            @Override
+            public void received(Channel channel, Object message) {
+                received.countDown();
+            }
+        }, URL.valueOf("test://127.0.0.1:20884?threadpool=isolated&side=provider"));
+
+        handler.received(channel, request(EchoService.class.getName()));
+        handler.received(channel, request("made.up.Service1"));
+        handler.received(channel, request("made.up.Service2"));
+        Assertions.assertTrue(received.await(5, TimeUnit.SECONDS));
+
+        IsolatedExecutor executor = (IsolatedExecutor) handler.getSharedExecutorService();
+        List<String> lanes = executor.getLanes().stream().map(LaneStatus::getService).collect(Collectors.toList());
+        Assertions.assertEquals(2, lanes.size());
+        Assertions.assertTrue(lanes.contains(EchoService.class.getName()));
+        Assertions.assertTrue(lanes.contains(IsolatedExecutor.DEFAULT_LANE));
+        executor.shutdown();
+    }
+
+    private static Request request(String path) {
+        ServicePathAware data = Mockito.mock(ServicePathAware.class);
+        Mockito.when(data.getServicePath()).thenReturn(path);
+        Request request = new Request(1);
+        request.setData(data);
+        return request;
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.handler;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.config.MethodConfig;
+import org.apache.dubbo.config.ServiceConfigBase;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ServicePathAware;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.dispatcher.smart.SmartChannelHandler;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.ServiceDescriptor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class SmartChannelHandlerTest {
+
+    private static final String GET = "Ljava/lang/String;";
+
+    private static final String GET_WITH_DEFAULT = "Ljava/lang/String;Ljava/lang/String;";
+
+    private static final String PUT = GET_WITH_DEFAULT;
+
+    private final BlockingQueue<Thread> threads = new LinkedBlockingQueue<>();
+
+    private final Channel channel = new MockedChannel();
+
+    @BeforeEach
+    public void setUp() {
+        ServiceConfigBase<?> config = Mockito.mock(ServiceConfigBase.class);
+        Mockito.when(config.getInterface()).thenReturn(CacheService.class.getName());
+        Mockito.when(config.getMethods()).thenReturn(Collections.singletonList(nonBlocking("get")));
+
+        ServiceDescriptor service = ApplicationModel.getServiceRepository().registerService(CacheService.class);
+        ApplicationModel.getServiceRepository().registerProvider(CacheService.class.getName(), new Object(), service,
+                config, null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testNonBlockingMethodRunsOnCallingThread() throws Exception {
+        SmartChannelHandler handler = newHandler("test://127.0.0.1:20882");
+        handler.received(channel, request("get"));
+        Assertions.assertSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+
+        handler.received(channel, request("put"));
+        Thread thread = threads.poll(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(thread);
+        Assertions.assertNotSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    public void testBlockingMethodIsDemoted() throws Exception {
+        SmartChannelHandler handler = newHandler("test://127.0.0.1:20883?nonblocking.threshold=0");
+        for (int i = 0; i < 3; i++) {
+            handler.received(channel, request("get"));
+            Assertions.assertSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+        }
+        handler.received(channel, request("get"));
+        Thread thread = threads.poll(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(thread);
+        Assertions.assertNotSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    public void testOverloadsAreDemotedApart() throws Exception {
+        SmartChannelHandler handler = newHandler("test://127.0.0.1:20886?nonblocking.threshold=0");
+        for (int i = 0; i < 3; i++) {
+            handler.received(channel, request("get"));
+            Assertions.assertSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+        }
+        handler.received(channel, request("get"));
+        Assertions.assertNotSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+
+        handler.received(channel, request(CacheService.class.getName(), "get", GET_WITH_DEFAULT));
+        Assertions.assertSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testServiceExportedLater() throws Exception {
+        ServiceConfigBase<?> config = Mockito.mock(ServiceConfigBase.class);
+        Mockito.when(config.getInterface()).thenReturn(LaterService.class.getName());
+        Mockito.when(config.getMethods()).thenReturn(Collections.singletonList(nonBlocking("get")));
+        ServiceDescriptor service = ApplicationModel.getServiceRepository().registerService(LaterService.class);
+
+        SmartChannelHandler handler = newHandler("test://127.0.0.1:20887");
+        handler.received(channel, request(LaterService.class.getName(), "get", GET));
+        Assertions.assertNotSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+
+        ApplicationModel.getServiceRepository().registerProvider(LaterService.class.getName(), new Object(), service,
+                config, null);
+        handler.received(channel, request(LaterService.class.getName(), "get", GET));
+        Assertions.assertSame(Thread.currentThread(), threads.poll(5, TimeUnit.SECONDS));
+    }
+
+    private SmartChannelHandler newHandler(String url) {
+        return new SmartChannelHandler(new MockedChannelHandler() {
+            @Override
+            public void received(Channel channel, Object message) {
+                // runs longer than the zero threshold for sure
+                long start = System.nanoTime();
+                while (System.nanoTime() == start) {
+                    Thread.yield();
+                }
+                threads.add(Thread.currentThread());
+            }
+        }, URL.valueOf(url));
+    }
+
+    private static Request request(String method) {
+        return request(CacheService.class.getName(), method, "get".equals(method) ? GET : PUT);
+    }
+
+    private static Request request(String path, String method, String desc) {
+        ServicePathAware data = Mockito.mock(ServicePathAware.class);
+        Mockito.when(data.getServicePath()).thenReturn(path);
+        Mockito.when(data.getServiceMethodName()).thenReturn(method);
+        Mockito.when(data.getServiceParameterTypesDesc()).thenReturn(desc);
+        Request request = new Request(1);
+        request.setData(data);
+        return request;
+    }
+
+    private static MethodConfig nonBlocking(String name) {
+        MethodConfig method = new MethodConfig();
+        method.setName(name);
+        method.setNonblocking(true);
+        return method;
+    }
+
+    public interface CacheService {
+
+        String get(String key);
+
+        String get(String key, String defaultValue);
+
+        void put(String key, String value);
+    }
+
+    public interface LaterService {
+
+        String get(String key);
+    }
+}
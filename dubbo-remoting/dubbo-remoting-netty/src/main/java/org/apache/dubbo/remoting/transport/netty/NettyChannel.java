@@ -93,6 +93,11 @@ final class NettyChannel extends AbstractChannel {
         return channel.isConnected();
     }
 
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
     @Override
     public void send(Object message, boolean sent) throws RemotingException {
         super.send(message, sent);
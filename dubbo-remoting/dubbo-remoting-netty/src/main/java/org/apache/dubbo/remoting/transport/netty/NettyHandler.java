@@ -116,6 +116,19 @@ public class NettyHandler extends SimpleChannelHandler {
         }
     }
 
+    @Override
+    public void channelInterestChanged(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+        super.channelInterestChanged(ctx, e);
+        if (ctx.getChannel().isWritable()) {
+            NettyChannel channel = NettyChannel.getOrAddChannel(ctx.getChannel(), url, handler);
+            try {
+                handler.writable(channel);
+            } finally {
+                NettyChannel.removeChannelIfDisconnected(ctx.getChannel());
+            }
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, ExceptionEvent e) throws Exception {
         NettyChannel channel = NettyChannel.getOrAddChannel(ctx.getChannel(), url, handler);
@@ -101,6 +101,18 @@ public class NettyBackedChannelBuffer implements ChannelBuffer {
     }
 
 
+    @Override
+    public void setInt(int index, int value) {
+        buffer.setInt(index, value);
+    }
+
+
+    @Override
+    public void setLong(int index, long value) {
+        buffer.setLong(index, value);
+    }
+
+
     @Override
     public void setBytes(int index, byte[] src, int srcIndex, int length) {
         buffer.setBytes(index, src, srcIndex, length);
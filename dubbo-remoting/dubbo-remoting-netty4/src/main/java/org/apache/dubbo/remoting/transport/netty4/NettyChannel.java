@@ -136,6 +136,11 @@ final class NettyChannel extends AbstractChannel {
         return !isClosed() && active.get();
     }
 
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
     public boolean isActive() {
         return active.get();
     }
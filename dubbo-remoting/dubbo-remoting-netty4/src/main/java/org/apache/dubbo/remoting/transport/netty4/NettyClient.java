@@ -35,16 +35,21 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.proxy.Socks5ProxyHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 
 import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.dubbo.common.constants.CommonConstants.SSL_ENABLED_KEY;
+import static org.apache.dubbo.remoting.Constants.WRITE_BUFFER_HIGH_WATER_MARK_KEY;
+import static org.apache.dubbo.remoting.Constants.WRITE_BUFFER_LOW_WATER_MARK_KEY;
 import static org.apache.dubbo.remoting.transport.netty4.NettyEventLoopFactory.eventLoopGroup;
-import static org.apache.dubbo.remoting.transport.netty4.NettyEventLoopFactory.socketChannelClass;
 
 /**
  * NettyClient.
@@ -53,9 +58,9 @@ public class NettyClient extends AbstractClient {
 
     private static final Logger logger = LoggerFactory.getLogger(NettyClient.class);
     /**
-     * netty client bootstrap
+     * netty client worker groups, one per transport in use
      */
-    private static final EventLoopGroup NIO_EVENT_LOOP_GROUP = eventLoopGroup(Constants.DEFAULT_IO_THREADS, "NettyClientWorker");
+    private static final ConcurrentMap<NettyTransport, EventLoopGroup> EVENT_LOOP_GROUPS = new ConcurrentHashMap<>();
 
     private static final String SOCKS_PROXY_HOST = "socksProxyHost";
 
@@ -88,17 +93,27 @@ public class NettyClient extends AbstractClient {
      * @throws Throwable
      */
     @Override
+    @SuppressWarnings("unchecked")
     protected void doOpen() throws Throwable {
         final NettyClientHandler nettyClientHandler = new NettyClientHandler(getUrl(), this);
+        NettyTransport transport = NettyTransport.select(getUrl());
         bootstrap = new Bootstrap();
-        bootstrap.group(NIO_EVENT_LOOP_GROUP)
+        bootstrap.group(EVENT_LOOP_GROUPS.computeIfAbsent(transport,
+                t -> eventLoopGroup(t, Constants.DEFAULT_IO_THREADS, "NettyClientWorker")))
                 .option(ChannelOption.SO_KEEPALIVE, true)
-                .option(ChannelOption.TCP_NODELAY, true)
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 //.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, getTimeout())
-                .channel(socketChannelClass());
+                .channel(transport.socketChannelClass());
+        for (Map.Entry<ChannelOption<?>, Object> option : transport.socketOptions(getUrl()).entrySet()) {
+            bootstrap.option((ChannelOption<Object>) option.getKey(), option.getValue());
+        }
 
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.max(3000, getConnectTimeout()));
+        int highWaterMark = getUrl().getPositiveParameter(WRITE_BUFFER_HIGH_WATER_MARK_KEY, Integer.MAX_VALUE);
+        if (highWaterMark != Integer.MAX_VALUE) {
+            int lowWaterMark = Math.min(highWaterMark, getUrl().getPositiveParameter(WRITE_BUFFER_LOW_WATER_MARK_KEY, highWaterMark / 2));
+            bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(lowWaterMark, highWaterMark));
+        }
         bootstrap.handler(new ChannelInitializer<SocketChannel>() {
 
             @Override
@@ -110,6 +125,9 @@ public class NettyClient extends AbstractClient {
                 }
 
                 NettyCodecAdapter adapter = new NettyCodecAdapter(getCodec(), getUrl(), NettyClient.this);
+                if (NettyFlushConsolidationHandler.isEnabled(getUrl())) {
+                    ch.pipeline().addLast("flush-consolidation", NettyFlushConsolidationHandler.create(getUrl()));
+                }
                 ch.pipeline()//.addLast("logging",new LoggingHandler(LogLevel.INFO))//for debug
                         .addLast("decoder", adapter.getDecoder())
                         .addLast("encoder", adapter.getEncoder())
@@ -16,45 +16,28 @@
  */
 package org.apache.dubbo.remoting.transport.netty4;
 
-import org.apache.dubbo.common.config.Configuration;
-import org.apache.dubbo.rpc.model.ApplicationModel;
-
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 
 import java.util.concurrent.ThreadFactory;
 
 public class NettyEventLoopFactory {
     public static EventLoopGroup eventLoopGroup(int threads, String threadFactoryName) {
+        return eventLoopGroup(NettyTransport.select(null), threads, threadFactoryName);
+    }
+
+    static EventLoopGroup eventLoopGroup(NettyTransport transport, int threads, String threadFactoryName) {
         ThreadFactory threadFactory = new DefaultThreadFactory(threadFactoryName, true);
-        return shouldEpoll() ? new EpollEventLoopGroup(threads, threadFactory) :
-                new NioEventLoopGroup(threads, threadFactory);
+        return transport.newEventLoopGroup(threads, threadFactory);
     }
 
     public static Class<? extends SocketChannel> socketChannelClass() {
-        return shouldEpoll() ? EpollSocketChannel.class : NioSocketChannel.class;
+        return NettyTransport.select(null).socketChannelClass();
     }
 
     public static Class<? extends ServerSocketChannel> serverSocketChannelClass() {
-        return shouldEpoll() ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
-    }
-
-    private static boolean shouldEpoll() {
-        Configuration configuration = ApplicationModel.getEnvironment().getConfiguration();
-        if (configuration.getBoolean("netty.epoll.enable", false)) {
-            String osName = configuration.getString("os.name");
-            return osName.toLowerCase().contains("linux") && Epoll.isAvailable();
-        }
-
-        return false;
+        return NettyTransport.select(null).serverSocketChannelClass();
     }
 }
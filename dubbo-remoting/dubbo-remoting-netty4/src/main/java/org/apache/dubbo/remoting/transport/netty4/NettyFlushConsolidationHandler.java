@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.remoting.Constants.DEFAULT_FLUSH_CONSOLIDATION_BYTES;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_FLUSH_CONSOLIDATION_DELAY;
+import static org.apache.dubbo.remoting.Constants.FLUSH_CONSOLIDATION_BYTES_KEY;
+import static org.apache.dubbo.remoting.Constants.FLUSH_CONSOLIDATION_DELAY_KEY;
+import static org.apache.dubbo.remoting.Constants.FLUSH_CONSOLIDATION_KEY;
+
+/**
+ * Coalesces the flushes issued by {@link NettyChannel#send(Object, boolean)}.
+ * <p>
+ * A requested flush is deferred until the end of the current read, or to a task on the event loop, so that
+ * writes issued within the same event loop tick leave with a single flush. With a positive delay, flushes are
+ * held for at most that many microseconds. A flush is always done once the pending bytes exceed the byte budget,
+ * and before the channel is closed or becomes unwritable.
+ */
+public class NettyFlushConsolidationHandler extends ChannelDuplexHandler {
+
+    private static final LongAdder FLUSHES_REQUESTED = new LongAdder();
+
+    private static final LongAdder FLUSHES_DONE = new LongAdder();
+
+    private final long maxDelayMicros;
+
+    private final int maxBytes;
+
+    private final Runnable flushTask = this::flushIfNeeded;
+
+    private ChannelHandlerContext ctx;
+
+    private Future<?> scheduledFlush;
+
+    private boolean readInProgress;
+
+    private int pendingFlushes;
+
+    private long pendingBytes;
+
+    public NettyFlushConsolidationHandler(long maxDelayMicros, int maxBytes) {
+        this.maxDelayMicros = maxDelayMicros;
+        this.maxBytes = maxBytes;
+    }
+
+    static boolean isEnabled(URL url) {
+        return url.getParameter(FLUSH_CONSOLIDATION_KEY, false);
+    }
+
+    static NettyFlushConsolidationHandler create(URL url) {
+        return new NettyFlushConsolidationHandler(
+                url.getParameter(FLUSH_CONSOLIDATION_DELAY_KEY, DEFAULT_FLUSH_CONSOLIDATION_DELAY),
+                url.getParameter(FLUSH_CONSOLIDATION_BYTES_KEY, DEFAULT_FLUSH_CONSOLIDATION_BYTES));
+    }
+
+    /**
+     * @return the number of flushes requested by senders on all consolidated channels
+     */
+    public static long getFlushesRequested() {
+        return FLUSHES_REQUESTED.sum();
+    }
+
+    /**
+     * @return the number of flushes saved by consolidation on all consolidated channels
+     */
+    public static long getFlushesSaved() {
+        return FLUSHES_REQUESTED.sum() - FLUSHES_DONE.sum();
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        flushIfNeeded();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf) {
+            pendingBytes += ((ByteBuf) msg).readableBytes();
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        FLUSHES_REQUESTED.increment();
+        pendingFlushes++;
+        if (pendingBytes >= maxBytes) {
+            flushNow();
+        } else if (!readInProgress) {
+            // if a read is in progress, the flush happens on channelReadComplete
+            scheduleFlush();
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        readInProgress = false;
+        flushIfNeeded();
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            // let the peer drain what we have instead of holding it back
+            flushIfNeeded();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        flushIfNeeded();
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded();
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded();
+        ctx.close(promise);
+    }
+
+    private void scheduleFlush() {
+        if (scheduledFlush != null) {
+            return;
+        }
+        if (maxDelayMicros > 0) {
+            scheduledFlush = ctx.executor().schedule(flushTask, maxDelayMicros, TimeUnit.MICROSECONDS);
+        } else {
+            scheduledFlush = ctx.executor().submit(flushTask);
+        }
+    }
+
+    private void flushIfNeeded() {
+        if (pendingFlushes > 0) {
+            flushNow();
+        } else {
+            cancelScheduledFlush();
+        }
+    }
+
+    private void flushNow() {
+        cancelScheduledFlush();
+        pendingFlushes = 0;
+        pendingBytes = 0;
+        FLUSHES_DONE.increment();
+        ctx.flush();
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
@@ -83,11 +83,13 @@ public class NettyServer extends AbstractServer implements RemotingServer {
      * @throws Throwable
      */
     @Override
+    @SuppressWarnings("unchecked")
     protected void doOpen() throws Throwable {
         bootstrap = new ServerBootstrap();
         //这里开始依赖netty，引入netty暴露服务
-        bossGroup = NettyEventLoopFactory.eventLoopGroup(1, "NettyServerBoss");
-        workerGroup = NettyEventLoopFactory.eventLoopGroup(
+        NettyTransport transport = NettyTransport.select(getUrl());
+        bossGroup = NettyEventLoopFactory.eventLoopGroup(transport, 1, "NettyServerBoss");
+        workerGroup = NettyEventLoopFactory.eventLoopGroup(transport,
                 getUrl().getPositiveParameter(IO_THREADS_KEY, Constants.DEFAULT_IO_THREADS),
                 "NettyServerWorker");
 
@@ -95,9 +97,8 @@ public class NettyServer extends AbstractServer implements RemotingServer {
         channels = nettyServerHandler.getChannels();
 
         bootstrap.group(bossGroup, workerGroup)
-                .channel(NettyEventLoopFactory.serverSocketChannelClass())
+                .channel(transport.serverSocketChannelClass())
                 .option(ChannelOption.SO_REUSEADDR, Boolean.TRUE)
-                .childOption(ChannelOption.TCP_NODELAY, Boolean.TRUE)
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
@@ -109,6 +110,9 @@ public class NettyServer extends AbstractServer implements RemotingServer {
                             ch.pipeline().addLast("negotiation",
                                     SslHandlerInitializer.sslServerHandler(getUrl(), nettyServerHandler));
                         }
+                        if (NettyFlushConsolidationHandler.isEnabled(getUrl())) {
+                            ch.pipeline().addLast("flush-consolidation", NettyFlushConsolidationHandler.create(getUrl()));
+                        }
                         ch.pipeline()
                                 .addLast("decoder", adapter.getDecoder())
                                 .addLast("encoder", adapter.getEncoder())
@@ -116,6 +120,9 @@ public class NettyServer extends AbstractServer implements RemotingServer {
                                 .addLast("handler", nettyServerHandler);
                     }
                 });
+        for (Map.Entry<ChannelOption<?>, Object> option : transport.socketOptions(getUrl()).entrySet()) {
+            bootstrap.childOption((ChannelOption<Object>) option.getKey(), option.getValue());
+        }
         // bind
         ChannelFuture channelFuture = bootstrap.bind(getBindAddress());
         channelFuture.syncUninterruptibly();
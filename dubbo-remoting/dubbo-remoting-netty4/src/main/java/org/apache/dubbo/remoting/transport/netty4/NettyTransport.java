@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.config.Configuration;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+import static org.apache.dubbo.remoting.Constants.BUSY_POLL_KEY;
+import static org.apache.dubbo.remoting.Constants.NETTY_TRANSPORT_KEY;
+import static org.apache.dubbo.remoting.Constants.RECEIVE_BUFFER_SIZE_KEY;
+import static org.apache.dubbo.remoting.Constants.SEND_BUFFER_SIZE_KEY;
+import static org.apache.dubbo.remoting.Constants.TCP_NO_DELAY_KEY;
+import static org.apache.dubbo.remoting.Constants.TCP_QUICK_ACK_KEY;
+
+/**
+ * The socket transports netty4 can run on.
+ * <p>
+ * Epoll needs linux and the native library of netty, io_uring needs in addition the netty incubator io_uring
+ * transport on the classpath, which is only looked up by name. A transport asked for but not available falls
+ * back to nio with a warning, so the same configuration works everywhere.
+ */
+enum NettyTransport {
+
+    NIO("nio") {
+        @Override
+        boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        Class<? extends SocketChannel> socketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    },
+
+    EPOLL("epoll") {
+        @Override
+        boolean isAvailable() {
+            return isLinux() && Epoll.isAvailable();
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        Class<? extends SocketChannel> socketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        void addNativeOptions(URL url, Map<ChannelOption<?>, Object> options) {
+            int busyPoll = url.getParameter(BUSY_POLL_KEY, 0);
+            if (busyPoll > 0) {
+                if (SO_BUSY_POLL != null) {
+                    options.put(SO_BUSY_POLL, busyPoll);
+                } else {
+                    logger.warn("Ignore " + BUSY_POLL_KEY + " of " + url.getAddress()
+                            + ", the netty epoll transport on the classpath does not support SO_BUSY_POLL.");
+                }
+            }
+            if (url.getParameter(TCP_QUICK_ACK_KEY, false)) {
+                options.put(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+            }
+        }
+    },
+
+    IO_URING("io_uring") {
+        @Override
+        boolean isAvailable() {
+            return isLinux() && IoUring.AVAILABLE;
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            try {
+                return (EventLoopGroup) IoUring.EVENT_LOOP_GROUP.getConstructor(int.class, ThreadFactory.class)
+                        .newInstance(threads, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create io_uring event loop group", e);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Class<? extends SocketChannel> socketChannelClass() {
+            return (Class<? extends SocketChannel>) IoUring.SOCKET_CHANNEL;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return (Class<? extends ServerSocketChannel>) IoUring.SERVER_SOCKET_CHANNEL;
+        }
+    };
+
+    private static final Logger logger = LoggerFactory.getLogger(NettyTransport.class);
+
+    private static final String NATIVE = "native";
+
+    private static final ChannelOption<Integer> SO_BUSY_POLL = busyPollOption();
+
+    private final String value;
+
+    NettyTransport(String value) {
+        this.value = value;
+    }
+
+    abstract boolean isAvailable();
+
+    abstract EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    abstract Class<? extends SocketChannel> socketChannelClass();
+
+    abstract Class<? extends ServerSocketChannel> serverSocketChannelClass();
+
+    void addNativeOptions(URL url, Map<ChannelOption<?>, Object> options) {
+    }
+
+    /**
+     * @return the options of the connections opened with this transport for the given url
+     */
+    Map<ChannelOption<?>, Object> socketOptions(URL url) {
+        Map<ChannelOption<?>, Object> options = new LinkedHashMap<>();
+        options.put(ChannelOption.TCP_NODELAY, url.getParameter(TCP_NO_DELAY_KEY, true));
+        int sendBufferSize = url.getParameter(SEND_BUFFER_SIZE_KEY, 0);
+        if (sendBufferSize > 0) {
+            options.put(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
+        int receiveBufferSize = url.getParameter(RECEIVE_BUFFER_SIZE_KEY, 0);
+        if (receiveBufferSize > 0) {
+            options.put(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        addNativeOptions(url, options);
+        return options;
+    }
+
+    /**
+     * The transport the given url asks for, or nio when it is not available. Without <code>netty.transport</code>
+     * the <code>netty.epoll.enable</code> system configuration still selects epoll.
+     */
+    static NettyTransport select(URL url) {
+        String name = url == null ? null : url.getParameter(NETTY_TRANSPORT_KEY);
+        if (StringUtils.isEmpty(name)) {
+            Configuration configuration = ApplicationModel.getEnvironment().getConfiguration();
+            return configuration.getBoolean("netty.epoll.enable", false) && EPOLL.isAvailable() ? EPOLL : NIO;
+        }
+        name = name.trim().toLowerCase(Locale.ROOT);
+        if (NATIVE.equals(name)) {
+            return IO_URING.isAvailable() ? IO_URING : EPOLL.isAvailable() ? EPOLL : NIO;
+        }
+        for (NettyTransport transport : values()) {
+            if (transport.value.equals(name)) {
+                if (transport.isAvailable()) {
+                    return transport;
+                }
+                logger.warn("The netty transport " + name + " asked by " + url.getAddress()
+                        + " is not available on this platform, fall back to nio.");
+                return NIO;
+            }
+        }
+        logger.warn("Unknown netty transport " + name + " asked by " + url.getAddress() + ", fall back to nio.");
+        return NIO;
+    }
+
+    private static boolean isLinux() {
+        String osName = ApplicationModel.getEnvironment().getConfiguration().getString("os.name");
+        return osName != null && osName.toLowerCase(Locale.ROOT).contains("linux");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChannelOption<Integer> busyPollOption() {
+        try {
+            return (ChannelOption<Integer>) EpollChannelOption.class.getField("SO_BUSY_POLL").get(null);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * The io_uring classes, loaded on first use of the io_uring transport.
+     */
+    private static final class IoUring {
+
+        private static final String PACKAGE = "io.netty.incubator.channel.uring.";
+
+        static final Class<?> EVENT_LOOP_GROUP = load("IOUringEventLoopGroup");
+
+        static final Class<?> SOCKET_CHANNEL = load("IOUringSocketChannel");
+
+        static final Class<?> SERVER_SOCKET_CHANNEL = load("IOUringServerSocketChannel");
+
+        static final boolean AVAILABLE = isAvailable();
+
+        private static Class<?> load(String name) {
+            try {
+                return Class.forName(PACKAGE + name, false, NettyTransport.class.getClassLoader());
+            } catch (Throwable t) {
+                return null;
+            }
+        }
+
+        private static boolean isAvailable() {
+            if (EVENT_LOOP_GROUP == null || SOCKET_CHANNEL == null || SERVER_SOCKET_CHANNEL == null) {
+                return false;
+            }
+            try {
+                return (Boolean) Class.forName(PACKAGE + "IOUring", true, NettyTransport.class.getClassLoader())
+                        .getMethod("isAvailable").invoke(null);
+            } catch (Throwable t) {
+                return false;
+            }
+        }
+    }
+}
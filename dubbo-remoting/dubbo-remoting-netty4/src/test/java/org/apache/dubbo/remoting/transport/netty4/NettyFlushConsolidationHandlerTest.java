@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.netty4;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NettyFlushConsolidationHandlerTest {
+
+    @Test
+    public void testFlushesInSameTickAreCoalesced() {
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes),
+                new NettyFlushConsolidationHandler(0, 1024));
+        long saved = NettyFlushConsolidationHandler.getFlushesSaved();
+
+        // EmbeddedChannel runs pending tasks on every write reaching the head, so write first and flush afterwards
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[8]));
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[8]));
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[8]));
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+        Assertions.assertEquals(0, flushes.get());
+        Assertions.assertNull(channel.readOutbound());
+
+        channel.runPendingTasks();
+        Assertions.assertEquals(1, flushes.get());
+        Assertions.assertEquals(3, channel.outboundMessages().size());
+        Assertions.assertTrue(NettyFlushConsolidationHandler.getFlushesSaved() - saved >= 2);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushWhenByteBudgetExceeded() {
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes),
+                new NettyFlushConsolidationHandler(1000000, 16));
+
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[8]));
+        Assertions.assertEquals(0, flushes.get());
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[8]));
+        Assertions.assertEquals(1, flushes.get());
+        Assertions.assertEquals(2, channel.outboundMessages().size());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushOnClose() {
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes),
+                new NettyFlushConsolidationHandler(1000000, 1024));
+
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[8]));
+        Assertions.assertEquals(0, flushes.get());
+        channel.close();
+        Assertions.assertEquals(1, flushes.get());
+        channel.finishAndReleaseAll();
+    }
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private final AtomicInteger flushes;
+
+        FlushCounter(AtomicInteger flushes) {
+            this.flushes = flushes;
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+            flushes.incrementAndGet();
+            super.flush(ctx);
+        }
+    }
+}
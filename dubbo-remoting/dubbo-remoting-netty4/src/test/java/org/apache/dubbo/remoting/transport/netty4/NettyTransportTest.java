@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.remoting.exchange.ExchangeChannel;
+import org.apache.dubbo.remoting.exchange.ExchangeServer;
+import org.apache.dubbo.remoting.exchange.Exchangers;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class NettyTransportTest {
+
+    @Test
+    public void testSelect() {
+        Assertions.assertEquals(NettyTransport.NIO, NettyTransport.select(URL.valueOf("dubbo://localhost:20880")));
+        Assertions.assertEquals(NettyTransport.NIO,
+                NettyTransport.select(URL.valueOf("dubbo://localhost:20880?netty.transport=nio")));
+        Assertions.assertEquals(NettyTransport.NIO,
+                NettyTransport.select(URL.valueOf("dubbo://localhost:20880?netty.transport=unknown")));
+        Assertions.assertEquals(NettyTransport.EPOLL.isAvailable() ? NettyTransport.EPOLL : NettyTransport.NIO,
+                NettyTransport.select(URL.valueOf("dubbo://localhost:20880?netty.transport=EPOLL")));
+        Assertions.assertEquals(NettyTransport.IO_URING.isAvailable() ? NettyTransport.IO_URING : NettyTransport.NIO,
+                NettyTransport.select(URL.valueOf("dubbo://localhost:20880?netty.transport=io_uring")));
+        Assertions.assertTrue(NettyTransport.select(URL.valueOf("dubbo://localhost:20880?netty.transport=native"))
+                .isAvailable());
+    }
+
+    @Test
+    public void testSocketOptions() {
+        URL url = URL.valueOf("dubbo://localhost:20880?tcp.no.delay=false&send.buffer.size=65536"
+                + "&receive.buffer.size=131072&tcp.quick.ack=true");
+
+        Map<ChannelOption<?>, Object> nio = NettyTransport.NIO.socketOptions(url);
+        Assertions.assertEquals(Boolean.FALSE, nio.get(ChannelOption.TCP_NODELAY));
+        Assertions.assertEquals(65536, nio.get(ChannelOption.SO_SNDBUF));
+        Assertions.assertEquals(131072, nio.get(ChannelOption.SO_RCVBUF));
+        Assertions.assertFalse(nio.containsKey(EpollChannelOption.TCP_QUICKACK));
+
+        Map<ChannelOption<?>, Object> epoll = NettyTransport.EPOLL.socketOptions(url);
+        Assertions.assertEquals(Boolean.TRUE, epoll.get(EpollChannelOption.TCP_QUICKACK));
+
+        Map<ChannelOption<?>, Object> defaults = NettyTransport.NIO.socketOptions(URL.valueOf("dubbo://localhost:20880"));
+        Assertions.assertEquals(Boolean.TRUE, defaults.get(ChannelOption.TCP_NODELAY));
+        Assertions.assertFalse(defaults.containsKey(ChannelOption.SO_SNDBUF));
+    }
+
+    /**
+     * Round trips over loopback on every transport available here, with the socket options applied.
+     */
+    @Test
+    public void testLoopbackOnAvailableTransports() throws Exception {
+        for (NettyTransport transport : NettyTransport.values()) {
+            if (!transport.isAvailable()) {
+                continue;
+            }
+            int port = NetUtils.getAvailablePort();
+            String options = "heartbeat=600000&netty.transport=" + transport.name().toLowerCase()
+                    + "&send.buffer.size=65536&receive.buffer.size=65536&tcp.quick.ack=true&busy.poll=50";
+            ExchangeServer server = Exchangers.bind(
+                    URL.valueOf("exchange://localhost:" + port + "?server=netty4&" + options), new WorldHandler());
+            ExchangeChannel client = Exchangers.connect(
+                    URL.valueOf("exchange://localhost:" + port + "?client=netty4&timeout=3000&" + options));
+            try {
+                List<CompletableFuture<Object>> futures = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(client.request(new World("world" + i)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    Hello hello = (Hello) futures.get(i).get(3, TimeUnit.SECONDS);
+                    Assertions.assertEquals("hello,world" + i, hello.getName(), transport.name());
+                }
+            } finally {
+                client.close();
+                server.close();
+            }
+        }
+    }
+}
@@ -49,6 +49,27 @@ public interface Constants {
 
     long DEFAULT_TPS_LIMIT_INTERVAL = 60 * 1000;
 
+    /**
+     * the name of the {@link org.apache.dubbo.rpc.filter.tps.TPSLimiter} extension the tps filter uses
+     */
+    String TPS_LIMITER_KEY = "tps.limiter";
+
+    String DEFAULT_TPS_LIMITER = "default";
+
+    /**
+     * the calls the token bucket limiter lets through at once, after it has been idle; the <b>tps</b> by default
+     */
+    String TPS_LIMIT_BURST_KEY = "tps.burst";
+
+    /**
+     * what the token bucket limiter limits the tps of besides the service, as in <code>method,application</code>
+     */
+    String TPS_LIMIT_DIMENSION_KEY = "tps.dimension";
+
+    String TPS_LIMIT_DIMENSION_METHOD = "method";
+
+    String TPS_LIMIT_DIMENSION_APPLICATION = "application";
+
     String AUTO_ATTACH_INVOCATIONID_KEY = "invocationid.autoattach";
 
     boolean DEFAULT_STUB_EVENT = false;
@@ -61,8 +82,46 @@ public interface Constants {
 
     String ACCESS_LOG_KEY = "accesslog";
 
+    /**
+     * <code>json</code> writes the access log entries as JSON objects, one per line
+     */
+    String ACCESS_LOG_FORMAT_KEY = "accesslog.format";
+
+    String ACCESS_LOG_FORMAT_JSON = "json";
+
+    /**
+     * the bytes of the access log entries waiting to be written, at most; the entries past it are dropped
+     */
+    String ACCESS_LOG_BUFFER_KEY = "accesslog.buffer";
+
+    int DEFAULT_ACCESS_LOG_BUFFER = 4 * 1024 * 1024;
+
     String ACTIVES_KEY = "actives";
 
+    /**
+     * the upper bound of the concurrency limit which the adaptive limit filter adapts from the latency,
+     * see {@link org.apache.dubbo.rpc.filter.AdaptiveLimitFilter}
+     */
+    String ADAPTIVE_LIMIT_KEY = "adaptive.limit";
+
+    String ADAPTIVE_LIMIT_INITIAL_KEY = "adaptive.limit.initial";
+
+    int DEFAULT_ADAPTIVE_LIMIT_INITIAL = 20;
+
+    /**
+     * how much longer than without queueing the latency may grow before the adaptive limit shrinks
+     */
+    String ADAPTIVE_LIMIT_TOLERANCE_KEY = "adaptive.limit.tolerance";
+
+    double DEFAULT_ADAPTIVE_LIMIT_TOLERANCE = 1.5;
+
+    /**
+     * the milliseconds of latency samples the adaptive limit is updated from at once
+     */
+    String ADAPTIVE_LIMIT_WINDOW_KEY = "adaptive.limit.window";
+
+    int DEFAULT_ADAPTIVE_LIMIT_WINDOW = 1000;
+
     String ID_KEY = "id";
 
     String ASYNC_KEY = "async";
@@ -84,6 +84,11 @@ public class RpcContext {
 
     private Object[] arguments;
 
+    /**
+     * the arguments are taken from the invocation on first access, so that they are not decoded for nothing.
+     */
+    private boolean argumentsFromInvocation;
+
     private InetSocketAddress localAddress;
 
     private InetSocketAddress remoteAddress;
@@ -315,10 +320,15 @@ public class RpcContext {
      * @return arguments.
      */
     public Object[] getArguments() {
+        if (argumentsFromInvocation) {
+            argumentsFromInvocation = false;
+            arguments = invocation.getArguments();
+        }
         return arguments;
     }
 
     public void setArguments(Object[] arguments) {
+        this.argumentsFromInvocation = false;
         this.arguments = arguments;
     }
 
@@ -706,7 +716,8 @@ public class RpcContext {
         if (invocation != null) {
             setMethodName(invocation.getMethodName());
             setParameterTypes(invocation.getParameterTypes());
-            setArguments(invocation.getArguments());
+            this.arguments = null;
+            this.argumentsFromInvocation = true;
         }
         return this;
     }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The load of an invoker: its calls in flight, and the moving average of the latency of its calls, whose samples
+ * weigh less exponentially with time so that it follows the recent calls rather than all of them. (API, ThreadSafe)
+ * <p>
+ * Unlike {@link RpcStatus}, it is held by the invoker itself rather than looked up by url.
+ *
+ * @see org.apache.dubbo.rpc.protocol.InvokerWrapper#getLoad()
+ * @see org.apache.dubbo.rpc.cluster.loadbalance.P2CLoadBalance
+ */
+public class RpcLoad {
+
+    /**
+     * the nanoseconds after which a latency sample weighs 1/e of what it weighed
+     */
+    private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * the bits of the average latency in nanoseconds, 0 until a call completes
+     */
+    private final AtomicLong latency = new AtomicLong();
+
+    private final AtomicLong lastUpdate = new AtomicLong(System.nanoTime());
+
+    /**
+     * Count a call starting.
+     *
+     * @return the start of the call in nanoseconds, to pass to {@link #end(long)}
+     */
+    public long begin() {
+        active.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Count a call completing, whether it succeeded or not, and sample its latency.
+     *
+     * @param start the start of the call {@link #begin()} returned
+     */
+    public void end(long start) {
+        long now = System.nanoTime();
+        active.decrementAndGet();
+        double elapsed = Math.max(now - start, 0L);
+        double weight = Math.exp(-(now - lastUpdate.getAndSet(now)) / DECAY_TIME);
+        long bits;
+        double average;
+        do {
+            bits = latency.get();
+            average = Double.longBitsToDouble(bits);
+            average = average == 0 ? elapsed : average * weight + elapsed * (1 - weight);
+        } while (!latency.compareAndSet(bits, Double.doubleToRawLongBits(average)));
+    }
+
+    /**
+     * @return the calls in flight
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * @return the average latency in nanoseconds, 0 until a call completes
+     */
+    public double getLatency() {
+        return Double.longBitsToDouble(latency.get());
+    }
+}
@@ -16,37 +16,29 @@
  */
 package org.apache.dubbo.rpc.filter;
 
+import org.apache.dubbo.common.URL;
 import org.apache.dubbo.common.extension.Activate;
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
-import org.apache.dubbo.common.utils.ConcurrentHashSet;
 import org.apache.dubbo.common.utils.ConfigUtils;
-import org.apache.dubbo.common.utils.NamedThreadFactory;
 import org.apache.dubbo.rpc.Filter;
 import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.Result;
 import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.filter.accesslog.AccessLogWriter;
 import org.apache.dubbo.rpc.support.AccessLogData;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER;
 import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+import static org.apache.dubbo.rpc.Constants.ACCESS_LOG_BUFFER_KEY;
+import static org.apache.dubbo.rpc.Constants.ACCESS_LOG_FORMAT_JSON;
+import static org.apache.dubbo.rpc.Constants.ACCESS_LOG_FORMAT_KEY;
 import static org.apache.dubbo.rpc.Constants.ACCESS_LOG_KEY;
+import static org.apache.dubbo.rpc.Constants.DEFAULT_ACCESS_LOG_BUFFER;
 
 /**
  * Record access log for the service.
@@ -61,35 +53,14 @@ import static org.apache.dubbo.rpc.Constants.ACCESS_LOG_KEY;
  *    &lt;appender-ref ref="foo" /&gt;
  * &lt;/logger&gt;
  * </pre></code>
+ * The entries are written in the background by an {@link AccessLogWriter}, which drops them once more than
+ * <b>accesslog.buffer</b> bytes of them wait. <b>accesslog.format</b>=<code>json</code> writes them as JSON lines.
  */
 @Activate(group = PROVIDER, value = ACCESS_LOG_KEY)
 public class AccessLogFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(AccessLogFilter.class);
 
-    private static final String LOG_KEY = "dubbo.accesslog";
-
-    private static final int LOG_MAX_BUFFER = 5000;
-
-    private static final long LOG_OUTPUT_INTERVAL = 5000;
-
-    private static final String FILE_DATE_FORMAT = "yyyyMMdd";
-
-    // It's safe to declare it as singleton since it runs on single thread only
-    private static final DateFormat FILE_NAME_FORMATTER = new SimpleDateFormat(FILE_DATE_FORMAT);
-
-    private static final Map<String, Set<AccessLogData>> LOG_ENTRIES = new ConcurrentHashMap<>();
-
-    private static final ScheduledExecutorService LOG_SCHEDULED = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("Dubbo-Access-Log", true));
-
-    /**
-     * Default constructor initialize demon thread for writing into access log file with names with access log key
-     * defined in url <b>accesslog</b>
-     */
-    public AccessLogFilter() {
-        LOG_SCHEDULED.scheduleWithFixedDelay(this::writeLogToFile, LOG_OUTPUT_INTERVAL, LOG_OUTPUT_INTERVAL, TimeUnit.MILLISECONDS);
-    }
-
     /**
      * This method logs the access log for service method invocation call.
      *
@@ -104,7 +75,7 @@ public class AccessLogFilter implements Filter {
             String accessLogKey = invoker.getUrl().getParameter(ACCESS_LOG_KEY);
             if (ConfigUtils.isNotEmpty(accessLogKey)) {
                 AccessLogData logData = buildAccessLogData(invoker, inv);
-                log(accessLogKey, logData);
+                log(invoker.getUrl(), accessLogKey, logData);
             }
         } catch (Throwable t) {
             logger.warn("Exception in AccessLogFilter of service(" + invoker + " -> " + inv + ")", t);
@@ -112,58 +83,13 @@ public class AccessLogFilter implements Filter {
         return invoker.invoke(inv);
     }
 
-    private void log(String accessLog, AccessLogData accessLogData) {
-        Set<AccessLogData> logSet = LOG_ENTRIES.computeIfAbsent(accessLog, k -> new ConcurrentHashSet<>());
-
-        if (logSet.size() < LOG_MAX_BUFFER) {
-            logSet.add(accessLogData);
-        } else {
-            logger.warn("AccessLog buffer is full. Do a force writing to file to clear buffer.");
-            //just write current logSet to file.
-            writeLogSetToFile(accessLog, logSet);
-            //after force writing, add accessLogData to current logSet
-            logSet.add(accessLogData);
-        }
-    }
-
-    private void writeLogSetToFile(String accessLog, Set<AccessLogData> logSet) {
-        try {
-            if (ConfigUtils.isDefault(accessLog)) {
-                processWithServiceLogger(logSet);
-            } else {
-                File file = new File(accessLog);
-                createIfLogDirAbsent(file);
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Append log to " + accessLog);
-                }
-                renameFile(file);
-                processWithAccessKeyLogger(logSet, file);
-            }
-        } catch (Exception e) {
-            logger.error(e.getMessage(), e);
-        }
-    }
-
-    private void writeLogToFile() {
-        if (!LOG_ENTRIES.isEmpty()) {
-            for (Map.Entry<String, Set<AccessLogData>> entry : LOG_ENTRIES.entrySet()) {
-                String accessLog = entry.getKey();
-                Set<AccessLogData> logSet = entry.getValue();
-                writeLogSetToFile(accessLog, logSet);
-            }
-        }
-    }
-
-    private void processWithAccessKeyLogger(Set<AccessLogData> logSet, File file) throws IOException {
-        try (FileWriter writer = new FileWriter(file, true)) {
-            for (Iterator<AccessLogData> iterator = logSet.iterator();
-                 iterator.hasNext();
-                 iterator.remove()) {
-                writer.write(iterator.next().getLogMessage());
-                writer.write(System.getProperty("line.separator"));
-            }
-            writer.flush();
-        }
+    private void log(URL url, String accessLog, AccessLogData accessLogData) {
+        AccessLogWriter writer = AccessLogWriter.getWriter(accessLog,
+                url.getParameter(ACCESS_LOG_BUFFER_KEY, DEFAULT_ACCESS_LOG_BUFFER));
+        // format the entry now, the arguments may change once the call runs
+        String message = ACCESS_LOG_FORMAT_JSON.equals(url.getParameter(ACCESS_LOG_FORMAT_KEY))
+                ? accessLogData.getLogJson() : accessLogData.getLogMessage();
+        writer.append(accessLogData.getServiceName(), message);
     }
 
     private AccessLogData buildAccessLogData(Invoker<?> invoker, Invocation inv) {
@@ -177,31 +103,4 @@ public class AccessLogFilter implements Filter {
         logData.setArguments(inv.getArguments());
         return logData;
     }
-
-    private void processWithServiceLogger(Set<AccessLogData> logSet) {
-        for (Iterator<AccessLogData> iterator = logSet.iterator();
-             iterator.hasNext();
-             iterator.remove()) {
-            AccessLogData logData = iterator.next();
-            LoggerFactory.getLogger(LOG_KEY + "." + logData.getServiceName()).info(logData.getLogMessage());
-        }
-    }
-
-    private void createIfLogDirAbsent(File file) {
-        File dir = file.getParentFile();
-        if (null != dir && !dir.exists()) {
-            dir.mkdirs();
-        }
-    }
-
-    private void renameFile(File file) {
-        if (file.exists()) {
-            String now = FILE_NAME_FORMATTER.format(new Date());
-            String last = FILE_NAME_FORMATTER.format(new Date(file.lastModified()));
-            if (!now.equals(last)) {
-                File archive = new File(file.getAbsolutePath() + "." + last);
-                file.renameTo(archive);
-            }
-        }
-    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcStatus;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER;
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER;
+import static org.apache.dubbo.rpc.Constants.ADAPTIVE_LIMIT_KEY;
+
+/**
+ * Limits the parallel calls per method per service like {@link ExecuteLimitFilter} and {@link ActiveLimitFilter} do,
+ * on either side, but adapts the limit from the latency, see {@link AdaptiveLimiter}. The limit is bounded by
+ * <b>adaptive.limit</b>. A call past the limit is rejected at once rather than queued, so that the calls let in
+ * keep their latency while the load is shed.
+ * <p>
+ * Counts the calls in {@link RpcStatus} like the other limit filters, so don't limit a method by more than one of
+ * them.
+ */
+@Activate(group = {PROVIDER, CONSUMER}, value = ADAPTIVE_LIMIT_KEY)
+public class AdaptiveLimitFilter implements Filter, Filter.Listener {
+
+    private static final String ADAPTIVE_LIMIT_FILTER_START_TIME = "adaptive_limit_filter_start_time";
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        URL url = invoker.getUrl();
+        String methodName = invocation.getMethodName();
+        // a retry brings the invocation of the former call along
+        invocation.put(ADAPTIVE_LIMIT_FILTER_START_TIME, null);
+        if (url.getMethodParameter(methodName, ADAPTIVE_LIMIT_KEY, 0) <= 0) {
+            return invoker.invoke(invocation);
+        }
+
+        AdaptiveLimiter limiter = AdaptiveLimiter.getLimiter(url, methodName);
+        int limit = limiter.getLimit();
+        if (!RpcStatus.beginCount(url, methodName, limit)) {
+            limiter.onRejected();
+            throw new RpcException(RpcException.LIMIT_EXCEEDED_EXCEPTION,
+                    "Failed to invoke method " + methodName + " of " + url + ", cause: The service has " + limit
+                            + " calls running, as many as its adaptive limit allows, see <dubbo:method adaptive.limit=\""
+                            + limiter.getMaxLimit() + "\" />.");
+        }
+
+        limiter.onStart(RpcStatus.getStatus(url, methodName).getActive());
+        invocation.put(ADAPTIVE_LIMIT_FILTER_START_TIME, System.nanoTime());
+        try {
+            return invoker.invoke(invocation);
+        } catch (Throwable t) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            } else {
+                throw new RpcException("unexpected exception when AdaptiveLimitFilter", t);
+            }
+        }
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        end(invoker, invocation, true, true);
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+        // a call rejected further on didn't take the time a call takes
+        boolean limitExceeded = t instanceof RpcException && ((RpcException) t).isLimitExceed();
+        end(invoker, invocation, false, !limitExceeded);
+    }
+
+    private void end(Invoker<?> invoker, Invocation invocation, boolean succeeded, boolean sample) {
+        Object startTime = invocation.get(ADAPTIVE_LIMIT_FILTER_START_TIME);
+        if (!(startTime instanceof Long)) {
+            return;
+        }
+        invocation.put(ADAPTIVE_LIMIT_FILTER_START_TIME, null);
+
+        URL url = invoker.getUrl();
+        String methodName = invocation.getMethodName();
+        long elapsed = System.nanoTime() - (Long) startTime;
+        RpcStatus.endCount(url, methodName, TimeUnit.NANOSECONDS.toMillis(elapsed), succeeded);
+        AdaptiveLimiter limiter = AdaptiveLimiter.lookupLimiter(url, methodName);
+        if (limiter != null && sample) {
+            limiter.onSample(elapsed);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.dubbo.common.constants.CommonConstants.DEADLINE_ATTACHMENT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.DUBBO_VERSION_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
@@ -72,6 +73,7 @@ public class ContextFilter implements Filter, Filter.Listener {
         UNLOADING_KEYS.add(TOKEN_KEY);
         UNLOADING_KEYS.add(TIMEOUT_KEY);
         UNLOADING_KEYS.add(TIMEOUT_ATTACHMENT_KEY);
+        UNLOADING_KEYS.add(DEADLINE_ATTACHMENT_KEY);
 
         // Remove async property to avoid being passed to the following invoke chain.
         UNLOADING_KEYS.add(ASYNC_KEY);
@@ -105,8 +107,10 @@ public class ContextFilter implements Filter, Filter.Listener {
             context.setRemoteApplicationName((String) context.getAttachment(REMOTE_APPLICATION_KEY));
         }
 
-        long timeout = RpcUtils.getTimeout(invocation, -1);
-        if (timeout != -1) {
+        // the deadline of the consumer counts the time the call spent on the wire and in the queue too
+        long deadline = RpcUtils.getDeadline(invocation);
+        long timeout = deadline > 0 ? deadline - System.currentTimeMillis() : RpcUtils.getTimeout(invocation, -1);
+        if (deadline > 0 || timeout != -1) {
             context.set(TIME_COUNTDOWN_KEY, TimeoutCountDown.newCountDown(timeout, TimeUnit.MILLISECONDS));
         }
 
@@ -19,6 +19,7 @@ package org.apache.dubbo.rpc.filter;
 
 import org.apache.dubbo.common.constants.CommonConstants;
 import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.common.extension.ExtensionLoader;
 import org.apache.dubbo.rpc.Filter;
 import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
@@ -27,6 +28,8 @@ import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.filter.tps.DefaultTPSLimiter;
 import org.apache.dubbo.rpc.filter.tps.TPSLimiter;
 
+import static org.apache.dubbo.rpc.Constants.DEFAULT_TPS_LIMITER;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMITER_KEY;
 import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_RATE_KEY;
 
 /**
@@ -34,15 +37,18 @@ import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_RATE_KEY;
  * Service or method url can define <b>tps</b> or <b>tps.interval</b> to control this control.It use {@link DefaultTPSLimiter}
  * as it limit checker. If a provider service method is configured with <b>tps</b>(optionally with <b>tps.interval</b>),then
  * if invocation count exceed the configured <b>tps</b> value (default is -1 which means unlimited) then invocation will get
- * RpcException.
+ * RpcException. <b>tps.limiter</b> picks another {@link TPSLimiter} extension, e.g. <code>tokenbucket</code>.
  * */
 @Activate(group = CommonConstants.PROVIDER, value = TPS_LIMIT_RATE_KEY)
 public class TpsLimitFilter implements Filter {
 
-    private final TPSLimiter tpsLimiter = new DefaultTPSLimiter();
+    private final TPSLimiter defaultTpsLimiter = new DefaultTPSLimiter();
 
     @Override
     public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        String limiterName = invoker.getUrl().getParameter(TPS_LIMITER_KEY, DEFAULT_TPS_LIMITER);
+        TPSLimiter tpsLimiter = DEFAULT_TPS_LIMITER.equals(limiterName) ? defaultTpsLimiter
+                : ExtensionLoader.getExtensionLoader(TPSLimiter.class).getExtension(limiterName);
 
         if (!tpsLimiter.isAllowable(invoker.getUrl(), invocation)) {
             throw new RpcException(
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded ring buffer which many threads offer to and a single thread polls from, in the order the offers claimed
+ * their slots. Offering never blocks: it fails once the buffer is full.
+ */
+class AccessLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+
+    private final int mask;
+
+    /**
+     * the sequence of the next slot to offer to
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * the sequence of the next slot to poll from, written by the polling thread only
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    AccessLogRingBuffer(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        for (; ; ) {
+            long t = tail.get();
+            if (t - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                slots.lazySet((int) t & mask, e);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Called by the polling thread only.
+     *
+     * @return the element of the oldest slot, or null if it's empty or its element is yet to be published
+     */
+    E poll() {
+        long h = head.get();
+        int index = (int) h & mask;
+        E e = slots.get(index);
+        if (e == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.lazySet(h + 1);
+        return e;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
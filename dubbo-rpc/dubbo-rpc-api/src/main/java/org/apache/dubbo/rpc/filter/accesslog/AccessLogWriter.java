@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.accesslog;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.ConfigUtils;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the entries of an access log, that is a file, or the <code><b>dubbo.accesslog</b></code> loggers for
+ * <code>true</code> and <code>default</code>.
+ * <p>
+ * The calls append their entries to a ring buffer without waiting, and a single thread writes them out in batches,
+ * in the order they came in, appending to a file channel it keeps open. The entries waiting take a bounded budget of
+ * memory; the ones past it are dropped and counted rather than make the calls wait for the disk.
+ */
+public class AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private static final String LOG_KEY = "dubbo.accesslog";
+
+    private static final int LOG_MAX_ENTRIES = 16 * 1024;
+
+    private static final int LOG_BATCH_BYTES = 64 * 1024;
+
+    private static final long LOG_OUTPUT_INTERVAL = 100;
+
+    /**
+     * the bytes an entry takes besides its message
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final byte[] LINE_SEPARATOR = System.getProperty("line.separator").getBytes(StandardCharsets.UTF_8);
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneId.systemDefault());
+
+    private static final ConcurrentMap<String, AccessLogWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService LOG_SCHEDULED =
+            Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("Dubbo-Access-Log", true));
+
+    static {
+        LOG_SCHEDULED.scheduleWithFixedDelay(AccessLogWriter::writeAll, LOG_OUTPUT_INTERVAL, LOG_OUTPUT_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private final String accessLog;
+
+    private final long maxBytes;
+
+    private final AccessLogRingBuffer<Entry> entries = new AccessLogRingBuffer<>(LOG_MAX_ENTRIES);
+
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    // the fields below are guarded by this
+
+    private long reportedDropped;
+
+    private FileChannel channel;
+
+    private String channelDay;
+
+    private ByteBuffer batch;
+
+    AccessLogWriter(String accessLog, long maxBytes) {
+        this.accessLog = accessLog;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param maxBytes the bytes of the entries waiting, at most, taken from the first call to the access log
+     * @return the writer of the access log
+     */
+    public static AccessLogWriter getWriter(String accessLog, long maxBytes) {
+        return WRITERS.computeIfAbsent(accessLog, k -> new AccessLogWriter(accessLog, maxBytes));
+    }
+
+    public static Collection<AccessLogWriter> getWriters() {
+        return Collections.unmodifiableCollection(WRITERS.values());
+    }
+
+    /**
+     * Appends an entry to be written, without waiting.
+     *
+     * @param service the service logging the entry, which names the logger of the entry
+     * @return false if the entry is dropped as too many wait already
+     */
+    public boolean append(String service, String message) {
+        int size = ENTRY_OVERHEAD + 2 * message.length();
+        if (pendingBytes.addAndGet(size) > maxBytes) {
+            pendingBytes.addAndGet(-size);
+            dropped.increment();
+            return false;
+        }
+        if (!entries.offer(new Entry(service, message, size))) {
+            pendingBytes.addAndGet(-size);
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeAll() {
+        for (AccessLogWriter writer : WRITERS.values()) {
+            writer.write();
+        }
+    }
+
+    /**
+     * Writes out the entries appended so far.
+     */
+    public synchronized void write() {
+        try {
+            Entry entry = entries.poll();
+            if (entry != null) {
+                if (ConfigUtils.isDefault(accessLog)) {
+                    writeToLoggers(entry);
+                } else {
+                    writeToFile(entry);
+                }
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            closeChannel();
+        }
+        reportDropped();
+    }
+
+    private void writeToLoggers(Entry entry) {
+        do {
+            release(entry);
+            LoggerFactory.getLogger(LOG_KEY + "." + entry.service).info(entry.message);
+        } while ((entry = entries.poll()) != null);
+    }
+
+    private void writeToFile(Entry entry) throws IOException {
+        FileChannel out = openChannel();
+        if (batch == null) {
+            batch = ByteBuffer.allocate(LOG_BATCH_BYTES);
+        }
+        do {
+            release(entry);
+            byte[] line = entry.message.getBytes(StandardCharsets.UTF_8);
+            if (batch.remaining() < line.length + LINE_SEPARATOR.length) {
+                flushBatch(out);
+                if (batch.remaining() < line.length + LINE_SEPARATOR.length) {
+                    writeFully(out, ByteBuffer.wrap(line));
+                    writeFully(out, ByteBuffer.wrap(LINE_SEPARATOR));
+                    continue;
+                }
+            }
+            batch.put(line).put(LINE_SEPARATOR);
+        } while ((entry = entries.poll()) != null);
+        flushBatch(out);
+    }
+
+    private void flushBatch(FileChannel out) throws IOException {
+        batch.flip();
+        try {
+            writeFully(out, batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Opens the file to append to, once a day, after archiving the file of the day before.
+     */
+    private FileChannel openChannel() throws IOException {
+        File file = new File(accessLog);
+        String today = FILE_NAME_FORMATTER.format(Instant.now());
+        if (channel != null && today.equals(channelDay) && file.exists()) {
+            return channel;
+        }
+        closeChannel();
+
+        File dir = file.getParentFile();
+        if (null != dir && !dir.exists()) {
+            dir.mkdirs();
+        }
+        if (file.exists()) {
+            String last = FILE_NAME_FORMATTER.format(Instant.ofEpochMilli(file.lastModified()));
+            if (!today.equals(last)) {
+                File archive = new File(file.getAbsolutePath() + "." + last);
+                file.renameTo(archive);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Append log to " + accessLog);
+        }
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        channelDay = today;
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close access log " + accessLog + ", cause: " + e.getMessage(), e);
+            }
+            channel = null;
+            channelDay = null;
+        }
+    }
+
+    private void release(Entry entry) {
+        pendingBytes.addAndGet(-entry.size);
+    }
+
+    private void reportDropped() {
+        long total = dropped.sum();
+        if (total > reportedDropped) {
+            logger.warn("Dropped " + (total - reportedDropped) + " entries of access log " + accessLog
+                    + " as more than " + maxBytes + " bytes of entries wait to be written, " + total
+                    + " dropped so far.");
+            reportedDropped = total;
+        }
+    }
+
+    public String getAccessLog() {
+        return accessLog;
+    }
+
+    /**
+     * @return the entries dropped as too many waited to be written
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the bytes of the entries waiting to be written
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    private static final class Entry {
+
+        private final String service;
+
+        private final String message;
+
+        private final int size;
+
+        private Entry(String service, String message, int size) {
+            this.service = service;
+            this.message = message;
+            this.size = size;
+        }
+    }
+}
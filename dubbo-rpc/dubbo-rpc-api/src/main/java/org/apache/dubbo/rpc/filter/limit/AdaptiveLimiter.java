@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.limit;
+
+import org.apache.dubbo.common.URL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER_SIDE;
+import static org.apache.dubbo.common.constants.CommonConstants.SIDE_KEY;
+import static org.apache.dubbo.rpc.Constants.ADAPTIVE_LIMIT_INITIAL_KEY;
+import static org.apache.dubbo.rpc.Constants.ADAPTIVE_LIMIT_KEY;
+import static org.apache.dubbo.rpc.Constants.ADAPTIVE_LIMIT_TOLERANCE_KEY;
+import static org.apache.dubbo.rpc.Constants.ADAPTIVE_LIMIT_WINDOW_KEY;
+import static org.apache.dubbo.rpc.Constants.DEFAULT_ADAPTIVE_LIMIT_INITIAL;
+import static org.apache.dubbo.rpc.Constants.DEFAULT_ADAPTIVE_LIMIT_TOLERANCE;
+import static org.apache.dubbo.rpc.Constants.DEFAULT_ADAPTIVE_LIMIT_WINDOW;
+
+/**
+ * The concurrency limit of a method, adapted from its latency in the manner of the gradient algorithm.
+ * <p>
+ * The latency of the calls is averaged over a window, and compared with its long term average, which stands for the
+ * latency without queueing. As long as the latency keeps close to it, the limit grows by its square root each window;
+ * once the latency grows past <code>adaptive.limit.tolerance</code> times of it, the calls queue up somewhere and the
+ * limit shrinks in proportion, by half at most. The limit doesn't grow while the calls don't use half of it.
+ */
+public class AdaptiveLimiter {
+
+    /**
+     * the limiters of the methods, by invoker, removed once the invoker is destroyed
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String, AdaptiveLimiter>> LIMITERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * the weight of the latest window in the long term latency
+     */
+    private static final double LONG_RTT_WEIGHT = 0.05;
+
+    /**
+     * the weight of the newly computed limit in the limit
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final URL url;
+
+    private final String methodName;
+
+    private final int maxLimit;
+
+    private final double tolerance;
+
+    private final long windowNanos;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    private final LongAdder windowRtt = new LongAdder();
+
+    private final LongAdder windowSamples = new LongAdder();
+
+    private final AtomicInteger windowMaxActive = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+
+    private volatile double shortRtt;
+
+    /**
+     * guarded by this
+     */
+    private double longRtt;
+
+    AdaptiveLimiter(URL url, String methodName) {
+        this.url = url;
+        this.methodName = methodName;
+        this.maxLimit = Math.max(1, url.getMethodParameter(methodName, ADAPTIVE_LIMIT_KEY, 0));
+        int initial = url.getMethodParameter(methodName, ADAPTIVE_LIMIT_INITIAL_KEY, DEFAULT_ADAPTIVE_LIMIT_INITIAL);
+        this.limit = Math.max(1, Math.min(maxLimit, initial));
+        this.tolerance = Math.max(1, url.getMethodParameter(methodName, ADAPTIVE_LIMIT_TOLERANCE_KEY,
+                DEFAULT_ADAPTIVE_LIMIT_TOLERANCE));
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, url.getMethodParameter(methodName,
+                ADAPTIVE_LIMIT_WINDOW_KEY, DEFAULT_ADAPTIVE_LIMIT_WINDOW)));
+    }
+
+    /**
+     * @return the limiter of the method, created from the parameters of the url the first time
+     */
+    public static AdaptiveLimiter getLimiter(URL url, String methodName) {
+        return LIMITERS.computeIfAbsent(toKey(url), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, k -> new AdaptiveLimiter(url, methodName));
+    }
+
+    /**
+     * @return the limiter of the method, or null if no call to it was limited yet
+     */
+    public static AdaptiveLimiter lookupLimiter(URL url, String methodName) {
+        Map<String, AdaptiveLimiter> limiters = LIMITERS.get(toKey(url));
+        return limiters == null ? null : limiters.get(methodName);
+    }
+
+    public static void removeLimiter(URL url, String methodName) {
+        Map<String, AdaptiveLimiter> limiters = LIMITERS.get(toKey(url));
+        if (limiters != null) {
+            limiters.remove(methodName);
+        }
+    }
+
+    /**
+     * Removes the limiters of all the methods of the invoker of the url, called once the invoker is destroyed.
+     */
+    public static void removeLimiters(URL url) {
+        LIMITERS.remove(toKey(url));
+    }
+
+    public static Collection<AdaptiveLimiter> getLimiters() {
+        List<AdaptiveLimiter> limiters = new ArrayList<>();
+        for (Map<String, AdaptiveLimiter> methods : LIMITERS.values()) {
+            limiters.addAll(methods.values());
+        }
+        return Collections.unmodifiableList(limiters);
+    }
+
+    private static String toKey(URL url) {
+        return url.getParameter(SIDE_KEY, PROVIDER_SIDE) + ":" + url.toIdentityString();
+    }
+
+    /**
+     * Called once a call is let in.
+     *
+     * @param active the number of the calls running, this one included
+     */
+    public void onStart(int active) {
+        windowMaxActive.accumulateAndGet(active, Math::max);
+    }
+
+    /**
+     * Called once a call let in completes.
+     *
+     * @param rttNanos the nanoseconds the call took
+     */
+    public void onSample(long rttNanos) {
+        windowRtt.add(Math.max(0, rttNanos));
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start < windowNanos || windowSamples.sum() < MIN_WINDOW_SAMPLES
+                || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        // the samples coming in meanwhile fall into either window, which hardly shifts the averages
+        long samples = windowSamples.sumThenReset();
+        long rtt = windowRtt.sumThenReset();
+        int maxActive = windowMaxActive.getAndSet(0);
+        if (samples > 0) {
+            update((double) rtt / samples, maxActive);
+        }
+    }
+
+    public void onRejected() {
+        rejected.increment();
+    }
+
+    private synchronized void update(double rtt, int maxActive) {
+        shortRtt = rtt;
+        if (longRtt <= 0) {
+            longRtt = rtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + rtt * LONG_RTT_WEIGHT;
+        }
+        // the latency dropped well below the long term one, say once a burst of queueing passed, let it follow faster
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, tolerance * longRtt / Math.max(rtt, 1)));
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        if (next > current && maxActive < current / 2) {
+            return;
+        }
+        limit = Math.max(1, Math.min(maxLimit, next));
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return the average latency of the latest window
+     */
+    public long getRtt(TimeUnit unit) {
+        return unit.convert((long) shortRtt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the long term average latency, which stands for the one without queueing
+     */
+    public synchronized long getNoLoadRtt(TimeUnit unit) {
+        return unit.convert((long) longRtt, TimeUnit.NANOSECONDS);
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.dubbo.rpc.filter.tps;
 
 import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.SPI;
 import org.apache.dubbo.rpc.Invocation;
 
 /**
@@ -26,7 +27,9 @@ import org.apache.dubbo.rpc.Invocation;
  *     e.g. if tps for a method m1 is 5 for a minute then if 6th call is made within the span of 1 minute then 6th
  *     should not be allowed <b>isAllowable</b> will return false.
  * </pre>
+ * The tps filter picks the implementation by <b>tps.limiter</b>.
  */
+@SPI("default")
 public interface TPSLimiter {
 
     /**
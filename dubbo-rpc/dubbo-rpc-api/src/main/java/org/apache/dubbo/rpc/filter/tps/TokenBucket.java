@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.tps;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket which refills <b>rate</b> tokens every <b>interval</b> and holds <b>burst</b> tokens at most.
+ * <p>
+ * Rather than counting the tokens, it keeps the time the bucket is full again, which moves by the time a token takes
+ * to refill with each call taken, so that a call takes a token with a single compare-and-set, and the tokens refill
+ * continuously rather than all at once at the end of a window.
+ */
+class TokenBucket {
+
+    private final int rate;
+
+    private final long interval;
+
+    private final int burst;
+
+    /**
+     * the nanoseconds a token takes to refill
+     */
+    private final long refillNanos;
+
+    /**
+     * the nanoseconds the bucket takes to fill up from one token
+     */
+    private final long toleranceNanos;
+
+    private final AtomicLong fullTime;
+
+    TokenBucket(int rate, long interval, int burst) {
+        this.rate = rate;
+        this.interval = interval;
+        this.burst = burst;
+        this.refillNanos = Math.max(1, TimeUnit.MILLISECONDS.toNanos(interval) / rate);
+        this.toleranceNanos = refillNanos * (Math.max(1, burst) - 1);
+        this.fullTime = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean isAllowable() {
+        long now = System.nanoTime();
+        for (; ; ) {
+            long full = fullTime.get();
+            // the bucket is full already, its tokens don't pile up further
+            long next = (full - now < 0 ? now : full) + refillNanos;
+            if (next - now > toleranceNanos + refillNanos) {
+                return false;
+            }
+            if (fullTime.compareAndSet(full, next)) {
+                return true;
+            }
+        }
+    }
+
+    boolean matches(int rate, long interval, int burst) {
+        return this.rate == rate && this.interval == interval && this.burst == burst;
+    }
+
+    /**
+     * @return the tokens in the bucket
+     */
+    long getTokens() {
+        long ahead = Math.max(0, fullTime.get() - System.nanoTime());
+        return Math.max(0, (toleranceNanos + refillNanos - ahead) / refillNanos);
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucket [rate=" + rate + ", interval=" + interval + ", burst=" + burst + "]";
+    }
+}
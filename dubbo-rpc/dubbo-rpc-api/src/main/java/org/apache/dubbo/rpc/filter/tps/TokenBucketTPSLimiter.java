@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.tps;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.rpc.Invocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apache.dubbo.common.constants.CommonConstants.REMOTE_APPLICATION_KEY;
+import static org.apache.dubbo.rpc.Constants.DEFAULT_TPS_LIMIT_INTERVAL;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_BURST_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_DIMENSION_APPLICATION;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_DIMENSION_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_DIMENSION_METHOD;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_INTERVAL_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_RATE_KEY;
+
+/**
+ * A {@link TPSLimiter} keeping a {@link TokenBucket} per service, which lets through <b>tps.burst</b> calls at once
+ * and <b>tps</b> calls per <b>tps.interval</b> on, so that no burst of twice the rate passes at the edge of a window as
+ * with {@link DefaultTPSLimiter}.
+ * <p>
+ * A method configuring its own <b>tps</b> has a bucket of its own. <b>tps.dimension</b> keeps a bucket per method
+ * with <code>method</code>, and per consumer application with <code>application</code>.
+ *
+ * @see org.apache.dubbo.rpc.filter.TpsLimitFilter
+ */
+public class TokenBucketTPSLimiter implements TPSLimiter {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isAllowable(URL url, Invocation invocation) {
+        String methodName = invocation.getMethodName();
+        String key = toKey(url, invocation);
+        int rate = url.getMethodParameter(methodName, TPS_LIMIT_RATE_KEY, -1);
+        if (rate <= 0) {
+            buckets.remove(key);
+            return true;
+        }
+
+        long interval = url.getMethodParameter(methodName, TPS_LIMIT_INTERVAL_KEY, DEFAULT_TPS_LIMIT_INTERVAL);
+        int burst = url.getMethodParameter(methodName, TPS_LIMIT_BURST_KEY, rate);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null || !bucket.matches(rate, interval, burst)) {
+            //rate, interval or burst has changed, rebuild
+            bucket = buckets.compute(key, (k, current) -> current != null && current.matches(rate, interval, burst)
+                    ? current : new TokenBucket(rate, interval, burst));
+        }
+        return bucket.isAllowable();
+    }
+
+    private static String toKey(URL url, Invocation invocation) {
+        String methodName = invocation.getMethodName();
+        String dimension = url.getParameter(TPS_LIMIT_DIMENSION_KEY);
+        boolean byMethod = hasOwnRate(url, methodName);
+        boolean byApplication = false;
+        if (StringUtils.isNotEmpty(dimension)) {
+            for (String d : dimension.split(",")) {
+                d = d.trim();
+                byMethod |= TPS_LIMIT_DIMENSION_METHOD.equals(d);
+                byApplication |= TPS_LIMIT_DIMENSION_APPLICATION.equals(d);
+            }
+        }
+
+        String serviceKey = url.getServiceKey();
+        if (!byMethod && !byApplication) {
+            return serviceKey;
+        }
+        StringBuilder key = new StringBuilder(serviceKey);
+        if (byMethod) {
+            key.append('#').append(methodName);
+        }
+        if (byApplication) {
+            String application = invocation.getAttachment(REMOTE_APPLICATION_KEY);
+            key.append('@').append(application == null ? "" : application);
+        }
+        return key.toString();
+    }
+
+    private static boolean hasOwnRate(URL url, String methodName) {
+        if (methodName == null) {
+            return false;
+        }
+        Map<String, String> parameters = url.getMethodParameters().get(methodName);
+        return parameters != null && parameters.containsKey(TPS_LIMIT_RATE_KEY);
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    TokenBucket getBucket(String key) {
+        return buckets.get(key);
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
 import org.apache.dubbo.rpc.Exporter;
 import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
 
 /**
  * AbstractExporter.
@@ -57,6 +58,7 @@ public abstract class AbstractExporter<T> implements Exporter<T> {
         }
         unexported = true;
         getInvoker().destroy();
+        AdaptiveLimiter.removeLimiters(getInvoker().getUrl());
     }
 
     @Override
@@ -34,6 +34,7 @@ import org.apache.dubbo.rpc.Result;
 import org.apache.dubbo.rpc.RpcContext;
 import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
 import org.apache.dubbo.rpc.protocol.dubbo.FutureAdapter;
 import org.apache.dubbo.rpc.support.RpcUtils;
 
@@ -120,6 +121,7 @@ public abstract class AbstractInvoker<T> implements Invoker<T> {
             return;
         }
         setAvailable(false);
+        AdaptiveLimiter.removeLimiters(getUrl());
     }
 
     public boolean isDestroyed() {
@@ -17,10 +17,12 @@
 package org.apache.dubbo.rpc.protocol;
 
 import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.AsyncRpcResult;
 import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.Result;
 import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcLoad;
 
 /**
  * InvokerWrapper
@@ -31,6 +33,9 @@ public class InvokerWrapper<T> implements Invoker<T> {
 
     private final URL url;
 
+    // tracked once asked for, by the load balances selecting by load
+    private volatile RpcLoad load;
+
     public InvokerWrapper(Invoker<T> invoker, URL url) {
         this.invoker = invoker;
         this.url = url;
@@ -53,7 +58,40 @@ public class InvokerWrapper<T> implements Invoker<T> {
 
     @Override
     public Result invoke(Invocation invocation) throws RpcException {
-        return invoker.invoke(invocation);
+        RpcLoad load = this.load;
+        if (load == null) {
+            return invoker.invoke(invocation);
+        }
+        long start = load.begin();
+        Result result;
+        try {
+            result = invoker.invoke(invocation);
+        } catch (RuntimeException e) {
+            load.end(start);
+            throw e;
+        }
+        if (result instanceof AsyncRpcResult) {
+            return result.whenCompleteWithContext((r, t) -> load.end(start));
+        }
+        load.end(start);
+        return result;
+    }
+
+    /**
+     * Get the load of the invoker, tracked from the calls after the first time it is asked for.
+     */
+    public RpcLoad getLoad() {
+        RpcLoad load = this.load;
+        if (load == null) {
+            synchronized (this) {
+                load = this.load;
+                if (load == null) {
+                    load = new RpcLoad();
+                    this.load = load;
+                }
+            }
+        }
+        return load;
     }
 
     @Override
@@ -21,24 +21,27 @@ import org.apache.dubbo.rpc.RpcContext;
 
 import com.alibaba.fastjson.JSON;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * AccessLogData is a container for log event data. In internally uses map and store each filed of log as value. It
  * does not generate any dynamic value e.g. time stamp, local jmv machine host address etc. It does not allow any null
  * or empty key.
- *
- * Note: since its date formatter is a singleton, make sure to run it in single thread only.
  */
 public final class AccessLogData {
 
     private static final String MESSAGE_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
-    private static final DateFormat MESSAGE_DATE_FORMATTER = new SimpleDateFormat(MESSAGE_DATE_FORMAT);
+    private static final DateTimeFormatter MESSAGE_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(MESSAGE_DATE_FORMAT).withZone(ZoneId.systemDefault());
+    private static final String JSON_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    private static final DateTimeFormatter JSON_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(JSON_DATE_FORMAT).withZone(ZoneId.systemDefault());
 
     private static final String VERSION = "version";
     private static final String GROUP = "group";
@@ -192,7 +195,7 @@ public final class AccessLogData {
         StringBuilder sn = new StringBuilder();
 
         sn.append("[")
-                .append(MESSAGE_DATE_FORMATTER.format(getInvocationTime()))
+                .append(MESSAGE_DATE_FORMATTER.format(getInvocationTime().toInstant()))
                 .append("] ")
                 .append(get(REMOTE_HOST))
                 .append(":")
@@ -240,6 +243,31 @@ public final class AccessLogData {
         return sn.toString();
     }
 
+    /**
+     * @return the log entry as a JSON object on a single line
+     */
+    public String getLogJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("time", JSON_DATE_FORMATTER.format(getInvocationTime().toInstant()));
+        json.put(REMOTE_HOST, get(REMOTE_HOST));
+        json.put(REMOTE_PORT, get(REMOTE_PORT));
+        json.put(LOCAL_HOST, get(LOCAL_HOST));
+        json.put(LOCAL_PORT, get(LOCAL_PORT));
+        json.put(GROUP, get(GROUP));
+        json.put(SERVICE, get(SERVICE));
+        json.put(VERSION, get(VERSION));
+        json.put(METHOD_NAME, get(METHOD_NAME));
+
+        Class<?>[] types = get(TYPES) != null ? (Class<?>[]) get(TYPES) : new Class[0];
+        String[] typeNames = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            typeNames[i] = types[i].getName();
+        }
+        json.put(TYPES, typeNames);
+        json.put(ARGUMENTS, get(ARGUMENTS));
+        return JSON.toJSONString(json);
+    }
+
     private Date getInvocationTime() {
         return (Date)get(INVOCATION_TIME);
     }
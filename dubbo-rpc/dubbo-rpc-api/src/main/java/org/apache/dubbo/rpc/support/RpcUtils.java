@@ -34,6 +34,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE;
 import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE_ASYNC;
+import static org.apache.dubbo.common.constants.CommonConstants.DEADLINE_ATTACHMENT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.GENERIC_PARAMETER_DESC;
 import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_ATTACHMENT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_KEY;
@@ -228,6 +229,14 @@ public class RpcUtils {
         return timeout;
     }
 
+    /**
+     * @return the absolute deadline the consumer passed, in milliseconds since the epoch, or 0 when it passed none
+     */
+    public static long getDeadline(Invocation invocation) {
+        Object deadline = invocation.getObjectAttachment(DEADLINE_ATTACHMENT_KEY);
+        return deadline == null ? 0 : convertToNumber(deadline, 0);
+    }
+
     public static long getTimeout(URL url, String methodName, RpcContext context, long defaultTimeout) {
         long timeout = defaultTimeout;
         Object genericTimeout = context.getObjectAttachment(TIMEOUT_KEY);
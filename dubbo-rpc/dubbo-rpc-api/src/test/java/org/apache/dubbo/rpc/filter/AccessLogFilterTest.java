@@ -21,18 +21,23 @@ import org.apache.dubbo.common.utils.LogUtil;
 import org.apache.dubbo.rpc.Filter;
 import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
-import org.apache.dubbo.rpc.support.AccessLogData;
+import org.apache.dubbo.rpc.filter.accesslog.AccessLogWriter;
 import org.apache.dubbo.rpc.support.MockInvocation;
 import org.apache.dubbo.rpc.support.MyInvoker;
 
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import java.lang.reflect.Field;
-import java.util.Map;
-import java.util.Set;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -53,33 +58,66 @@ public class AccessLogFilterTest {
         LogUtil.stop();
     }
 
-    // TODO how to assert thread action
     @Test
-    @SuppressWarnings("unchecked")
-    public void testDefault() throws NoSuchFieldException, IllegalAccessException {
+    public void testDefault() {
         URL url = URL.valueOf("test://test:11/test?accesslog=true&group=dubbo&version=1.1");
         Invoker<AccessLogFilterTest> invoker = new MyInvoker<AccessLogFilterTest>(url);
         Invocation invocation = new MockInvocation();
 
-        Field field = AccessLogFilter.class.getDeclaredField("LOG_ENTRIES");
-        field.setAccessible(true);
-        assertTrue(((Map) field.get(AccessLogFilter.class)).isEmpty());
+        LogUtil.start();
+        try {
+            accessLogFilter.invoke(invoker, invocation);
+            AccessLogWriter writer = findWriter("true");
+            assertNotNull(writer);
+            writer.write();
+            assertEquals(1, LogUtil.findName("dubbo.accesslog.org.apache.dubbo.rpc.support.DemoService"));
+            assertEquals(0, writer.getPendingBytes());
+        } finally {
+            LogUtil.stop();
+        }
+    }
 
+    @Test
+    public void testCustom(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "logs/custom-access.log");
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1").addParameter("accesslog", file.getPath());
+        Invoker<AccessLogFilterTest> invoker = new MyInvoker<AccessLogFilterTest>(url);
+        Invocation invocation = new MockInvocation();
+        accessLogFilter.invoke(invoker, invocation);
         accessLogFilter.invoke(invoker, invocation);
+        findWriter(file.getPath()).write();
 
-        Map<String, Set<AccessLogData>> logs = (Map<String, Set<AccessLogData>>) field.get(AccessLogFilter.class);
-        assertFalse(logs.isEmpty());
-        assertFalse(logs.get("true").isEmpty());
-        AccessLogData log = logs.get("true").iterator().next();
-        assertEquals("org.apache.dubbo.rpc.support.DemoService", log.getServiceName());
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("dubbo/org.apache.dubbo.rpc.support.DemoService:1.1 echo"), lines.get(0));
     }
 
     @Test
-    public void testCustom() {
-        URL url = URL.valueOf("test://test:11/test?accesslog=custom-access.log");
+    public void testJson(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "json-access.log");
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1&accesslog.format=json")
+                .addParameter("accesslog", file.getPath());
         Invoker<AccessLogFilterTest> invoker = new MyInvoker<AccessLogFilterTest>(url);
         Invocation invocation = new MockInvocation();
         accessLogFilter.invoke(invoker, invocation);
+        findWriter(file.getPath()).write();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        JSONObject entry = JSON.parseObject(lines.get(0));
+        assertEquals("org.apache.dubbo.rpc.support.DemoService", entry.getString("service"));
+        assertEquals("echo", entry.getString("method-name"));
+        assertEquals("dubbo", entry.getString("group"));
+        assertEquals("1.1", entry.getString("version"));
+        assertNotNull(entry.getString("time"));
     }
 
-}
\ No newline at end of file
+    private static AccessLogWriter findWriter(String accessLog) {
+        for (AccessLogWriter writer : AccessLogWriter.getWriters()) {
+            if (writer.getAccessLog().equals(accessLog)) {
+                return writer;
+            }
+        }
+        return null;
+    }
+}
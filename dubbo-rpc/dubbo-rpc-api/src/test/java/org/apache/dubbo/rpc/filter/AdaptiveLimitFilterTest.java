@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.RpcStatus;
+import org.apache.dubbo.rpc.filter.limit.AdaptiveLimiter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveLimitFilterTest {
+
+    private AdaptiveLimitFilter adaptiveLimitFilter = new AdaptiveLimitFilter();
+
+    @Test
+    public void testNoAdaptiveLimitInvoke() throws Exception {
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1");
+        Invoker invoker = mockInvoker(url);
+        Invocation invocation = invocation("testNoAdaptiveLimitInvoke");
+
+        Result result = adaptiveLimitFilter.invoke(invoker, invocation);
+        adaptiveLimitFilter.onResponse(result, invoker, invocation);
+        Assertions.assertEquals("result", result.getValue());
+        Assertions.assertEquals(0, RpcStatus.getStatus(url, "testNoAdaptiveLimitInvoke").getTotal());
+        Assertions.assertNull(AdaptiveLimiter.lookupLimiter(url, "testNoAdaptiveLimitInvoke"));
+    }
+
+    @Test
+    public void testAdaptiveLimitInvoke() throws Exception {
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1&adaptive.limit=100");
+        Invoker invoker = mockInvoker(url);
+        Invocation invocation = invocation("testAdaptiveLimitInvoke");
+
+        Result result = adaptiveLimitFilter.invoke(invoker, invocation);
+        Assertions.assertEquals(1, RpcStatus.getStatus(url, "testAdaptiveLimitInvoke").getActive());
+        adaptiveLimitFilter.onResponse(result, invoker, invocation);
+        Assertions.assertEquals("result", result.getValue());
+        Assertions.assertEquals(0, RpcStatus.getStatus(url, "testAdaptiveLimitInvoke").getActive());
+        Assertions.assertEquals(1, RpcStatus.getStatus(url, "testAdaptiveLimitInvoke").getTotal());
+        Assertions.assertEquals(20, AdaptiveLimiter.lookupLimiter(url, "testAdaptiveLimitInvoke").getLimit());
+    }
+
+    @Test
+    public void testAdaptiveLimitInvokeWithException() throws Exception {
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1&adaptive.limit=100");
+        Invoker invoker = mockInvoker(url);
+        doThrow(new RpcException()).when(invoker).invoke(any(Invocation.class));
+        Invocation invocation = invocation("testAdaptiveLimitInvokeWithException");
+
+        try {
+            adaptiveLimitFilter.invoke(invoker, invocation);
+            Assertions.fail();
+        } catch (RpcException e) {
+            adaptiveLimitFilter.onError(e, invoker, invocation);
+        }
+        Assertions.assertEquals(0, RpcStatus.getStatus(url, "testAdaptiveLimitInvokeWithException").getActive());
+        Assertions.assertEquals(1, RpcStatus.getStatus(url, "testAdaptiveLimitInvokeWithException").getFailed());
+    }
+
+    @Test
+    public void testMoreThanAdaptiveLimitInvoke() throws Exception {
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1&adaptive.limit=100&adaptive.limit.initial=2");
+        Invoker invoker = mockInvoker(url);
+        String methodName = "testMoreThanAdaptiveLimitInvoke";
+
+        Invocation first = invocation(methodName);
+        Invocation second = invocation(methodName);
+        adaptiveLimitFilter.invoke(invoker, first);
+        adaptiveLimitFilter.invoke(invoker, second);
+
+        Invocation third = invocation(methodName);
+        try {
+            adaptiveLimitFilter.invoke(invoker, third);
+            Assertions.fail();
+        } catch (RpcException e) {
+            Assertions.assertTrue(e.isLimitExceed());
+            adaptiveLimitFilter.onError(e, invoker, third);
+        }
+        Assertions.assertEquals(2, RpcStatus.getStatus(url, methodName).getActive());
+        Assertions.assertEquals(1, AdaptiveLimiter.lookupLimiter(url, methodName).getRejectedCount());
+
+        adaptiveLimitFilter.onResponse(new AppResponse("result"), invoker, first);
+        adaptiveLimitFilter.onResponse(new AppResponse("result"), invoker, second);
+        Assertions.assertEquals(0, RpcStatus.getStatus(url, methodName).getActive());
+        Assertions.assertEquals(2, RpcStatus.getStatus(url, methodName).getSucceeded());
+    }
+
+    private static Invoker mockInvoker(URL url) {
+        Invoker invoker = Mockito.mock(Invoker.class);
+        when(invoker.invoke(any(Invocation.class))).thenReturn(new AppResponse("result"));
+        when(invoker.getUrl()).thenReturn(url);
+        return invoker;
+    }
+
+    private static Invocation invocation(String methodName) {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName(methodName);
+        return invocation;
+    }
+}
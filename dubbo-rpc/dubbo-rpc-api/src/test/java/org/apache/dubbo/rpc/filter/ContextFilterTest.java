@@ -23,13 +23,21 @@ import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Invoker;
 import org.apache.dubbo.rpc.Result;
 import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.TimeoutCountDown;
 import org.apache.dubbo.rpc.support.DemoService;
 import org.apache.dubbo.rpc.support.MockInvocation;
 import org.apache.dubbo.rpc.support.MyInvoker;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DEADLINE_ATTACHMENT_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_ATTACHMENT_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.TIME_COUNTDOWN_KEY;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -73,4 +81,36 @@ public class ContextFilterTest {
         Result result = contextFilter.invoke(invoker, invocation);
         assertNull(RpcContext.getContext().getInvoker());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCountDownFromDeadline() {
+        URL url = URL.valueOf("test://test:11/test?group=dubbo&version=1.1");
+        Invoker<DemoService> invoker = new MyInvoker<DemoService>(url) {
+            @Override
+            public Result invoke(Invocation invocation) {
+                TimeoutCountDown countDown = (TimeoutCountDown) RpcContext.getContext().get(TIME_COUNTDOWN_KEY);
+                long remaining = countDown.timeRemaining(TimeUnit.MILLISECONDS);
+                // the deadline wins over the timeout, which doesn't count the time spent before the filter
+                assertTrue(remaining > 10000 && remaining <= 20000);
+                assertNull(RpcContext.getContext().getObjectAttachment(DEADLINE_ATTACHMENT_KEY));
+                return new AppResponse();
+            }
+        };
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setObjectAttachment(TIMEOUT_ATTACHMENT_KEY, 60000);
+        invocation.setObjectAttachment(DEADLINE_ATTACHMENT_KEY, System.currentTimeMillis() + 20000);
+        contextFilter.invoke(invoker, invocation);
+
+        Invoker<DemoService> late = new MyInvoker<DemoService>(url) {
+            @Override
+            public Result invoke(Invocation invocation) {
+                TimeoutCountDown countDown = (TimeoutCountDown) RpcContext.getContext().get(TIME_COUNTDOWN_KEY);
+                assertTrue(countDown.isExpired());
+                return new AppResponse();
+            }
+        };
+        invocation = new RpcInvocation();
+        invocation.setObjectAttachment(DEADLINE_ATTACHMENT_KEY, String.valueOf(System.currentTimeMillis() - 100));
+        contextFilter.invoke(late, invocation);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.accesslog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccessLogWriterTest {
+
+    @Test
+    public void testWriteInOrder(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "access.log");
+        AccessLogWriter writer = new AccessLogWriter(file.getPath(), 1024 * 1024);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(writer.append("DemoService", "entry-" + i));
+        }
+        writer.write();
+        assertTrue(writer.append("DemoService", "entry-1000"));
+        writer.write();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(1001, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals("entry-" + i, lines.get(i));
+        }
+        assertEquals(0, writer.getPendingBytes());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    public void testLongEntries(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "access.log");
+        AccessLogWriter writer = new AccessLogWriter(file.getPath(), 1024 * 1024);
+        StringBuilder longEntry = new StringBuilder();
+        for (int i = 0; i < 100 * 1024; i++) {
+            longEntry.append((char) ('a' + i % 26));
+        }
+        writer.append("DemoService", "short");
+        writer.append("DemoService", longEntry.toString());
+        writer.append("DemoService", "中文");
+        writer.write();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertEquals("short", lines.get(0));
+        assertEquals(longEntry.toString(), lines.get(1));
+        assertEquals("中文", lines.get(2));
+    }
+
+    @Test
+    public void testDropPastTheBudget(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "access.log");
+        AccessLogWriter writer = new AccessLogWriter(file.getPath(), 1000);
+        int appended = 0;
+        for (int i = 0; i < 100; i++) {
+            if (writer.append("DemoService", "entry-" + i)) {
+                appended++;
+            }
+        }
+        assertTrue(appended > 0 && appended < 100);
+        assertEquals(100 - appended, writer.getDroppedCount());
+        assertTrue(writer.getPendingBytes() <= 1000);
+
+        writer.write();
+        assertEquals(0, writer.getPendingBytes());
+        assertTrue(writer.append("DemoService", "entry-100"));
+        writer.write();
+        assertEquals(appended + 1, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void testConcurrentAppends(@TempDir Path dir) throws Exception {
+        File file = new File(dir.toFile(), "access.log");
+        AccessLogWriter writer = new AccessLogWriter(file.getPath(), 64 * 1024 * 1024);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String name = "thread-" + t;
+            Thread thread = new Thread(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 2000; i++) {
+                    while (!writer.append("DemoService", name + " " + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        latch.countDown();
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            writer.write();
+        }
+        writer.write();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(8000, lines.size());
+        // the entries of a thread keep their order
+        int[] next = new int[4];
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            int t = parts[0].charAt(parts[0].length() - 1) - '0';
+            assertEquals(next[t]++, Integer.parseInt(parts[1]));
+        }
+        assertFalse(writer.getPendingBytes() > 0);
+    }
+}
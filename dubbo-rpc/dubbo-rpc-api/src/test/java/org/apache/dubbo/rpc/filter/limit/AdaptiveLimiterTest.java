@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.limit;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.protocol.AbstractExporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class AdaptiveLimiterTest {
+
+    private static final URL URL = org.apache.dubbo.common.URL.valueOf(
+            "test://test:11/test?adaptive.limit=100&adaptive.limit.initial=20&adaptive.limit.window=1");
+
+    @Test
+    public void testLimitGrowsAndShrinksWithLatency() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(URL, "test");
+        assertEquals(20, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            window(limiter, limiter.getLimit(), TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20, "limit " + grown);
+        assertEquals(10, limiter.getNoLoadRtt(TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < 10; i++) {
+            window(limiter, limiter.getLimit(), TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        assertTrue(limiter.getLimit() < grown, "limit " + limiter.getLimit());
+        assertEquals(50, limiter.getRtt(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testLimitStaysWhenNotUsed() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(URL, "test");
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 2, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    public void testLimitIsBounded() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(URL.addParameter("adaptive.limit", 25), "test");
+        for (int i = 0; i < 20; i++) {
+            window(limiter, limiter.getLimit(), TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(25, limiter.getLimit());
+
+        // the limit shrinks gradually, and keeps room for a few calls queueing
+        for (int i = 0; i < 15; i++) {
+            window(limiter, limiter.getLimit(), TimeUnit.SECONDS.toNanos(10));
+        }
+        assertTrue(limiter.getLimit() >= 1 && limiter.getLimit() < 20, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    public void testRegistry() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.getLimiter(URL, "testRegistry");
+        assertSame(limiter, AdaptiveLimiter.getLimiter(URL, "testRegistry"));
+        assertSame(limiter, AdaptiveLimiter.lookupLimiter(URL, "testRegistry"));
+        assertTrue(AdaptiveLimiter.getLimiters().contains(limiter));
+        AdaptiveLimiter.removeLimiter(URL, "testRegistry");
+        assertEquals(null, AdaptiveLimiter.lookupLimiter(URL, "testRegistry"));
+    }
+
+    @Test
+    public void testRemovedOnUnexport() {
+        AdaptiveLimiter.getLimiter(URL, "first");
+        AdaptiveLimiter.getLimiter(URL, "second");
+        Invoker<?> invoker = mock(Invoker.class);
+        given(invoker.getInterface()).willReturn((Class) AdaptiveLimiterTest.class);
+        given(invoker.getUrl()).willReturn(URL);
+
+        new AbstractExporter(invoker) {
+        }.unexport();
+        assertNull(AdaptiveLimiter.lookupLimiter(URL, "first"));
+        assertNull(AdaptiveLimiter.lookupLimiter(URL, "second"));
+    }
+
+    private static void window(AdaptiveLimiter limiter, int active, long rttNanos) throws InterruptedException {
+        Thread.sleep(2);
+        limiter.onStart(active);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.filter.tps;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.REMOTE_APPLICATION_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_BURST_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_DIMENSION_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_INTERVAL_KEY;
+import static org.apache.dubbo.rpc.Constants.TPS_LIMIT_RATE_KEY;
+
+public class TokenBucketTPSLimiterTest {
+
+    private TokenBucketTPSLimiter tokenBucketTPSLimiter = new TokenBucketTPSLimiter();
+
+    @Test
+    public void testIsNotAllowable() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 5);
+        Invocation invocation = invocation("sayHello", null);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        }
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Assertions.assertEquals(0, tokenBucketTPSLimiter.getBucket(url.getServiceKey()).getTokens());
+    }
+
+    @Test
+    public void testRefill() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 10)
+                .addParameter(TPS_LIMIT_INTERVAL_KEY, 100)
+                .addParameter(TPS_LIMIT_BURST_KEY, 1);
+        Invocation invocation = invocation("sayHello", null);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Thread.sleep(30);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        // the bucket holds a single token however long it is idle
+        Thread.sleep(50);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation));
+    }
+
+    @Test
+    public void testConcurrentCalls() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 100);
+        Invocation invocation = invocation("sayHello", null);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < 100; j++) {
+                    if (tokenBucketTPSLimiter.isAllowable(url, invocation)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        latch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(100, allowed.get());
+    }
+
+    @Test
+    public void testDimensions() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 1).addParameter(TPS_LIMIT_DIMENSION_KEY, "method, application");
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", "app-a")));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", "app-a")));
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", "app-b")));
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayBye", "app-a")));
+        Assertions.assertEquals(3, tokenBucketTPSLimiter.getBucketCount());
+    }
+
+    @Test
+    public void testMethodRate() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 1).addParameter("sayHello." + TPS_LIMIT_RATE_KEY, 2);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", null)));
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", null)));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation("sayHello", null)));
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation("sayBye", null)));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation("sayAgain", null)));
+    }
+
+    @Test
+    public void testConfigChange() throws Exception {
+        URL url = url().addParameter(TPS_LIMIT_RATE_KEY, 1);
+        Invocation invocation = invocation("sayHello", null);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Assertions.assertFalse(tokenBucketTPSLimiter.isAllowable(url, invocation));
+
+        url = url.addParameter(TPS_LIMIT_RATE_KEY, 2000);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        }
+
+        url = url.removeParameter(TPS_LIMIT_RATE_KEY);
+        Assertions.assertTrue(tokenBucketTPSLimiter.isAllowable(url, invocation));
+        Assertions.assertEquals(0, tokenBucketTPSLimiter.getBucketCount());
+    }
+
+    private static URL url() {
+        return URL.valueOf("test://test").addParameter(INTERFACE_KEY, "org.apache.dubbo.rpc.file.TpsService");
+    }
+
+    private static Invocation invocation(String methodName, String application) {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName(methodName);
+        if (application != null) {
+            invocation.setAttachment(REMOTE_APPLICATION_KEY, application);
+        }
+        return invocation;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo;
+
+import org.apache.dubbo.common.io.UnsafeByteArrayOutputStream;
+import org.apache.dubbo.remoting.Channel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The string attachments of a request, written as a plain byte block instead of through the serialization,
+ * see {@link DubboCodec#REQUEST_COMPACT_ATTACHMENTS}.
+ * <p>
+ * The block is preceded by its length as a 4 bytes int, and is a varint entry count followed by the entries. A key is either a varint <code>index &lt;&lt; 1 | 1</code>
+ * into the key dictionary of the connection, or a varint <code>length &lt;&lt; 1</code> followed by the UTF-8
+ * bytes of a key seen for the first time, which both sides then append to their dictionary while it has room.
+ * A value is a varint length followed by its UTF-8 bytes. Attachments whose value is not a string are left to
+ * the serialization. The block precedes the serialization streams of the body, for the provider to read it on the
+ * io thread without any serialization input.
+ * <p>
+ * Like {@link MethodIdTable}, an instance is kept as an attribute of the connection and only touched from its
+ * io thread, so consumers do not use it over the transports that encode on the calling threads.
+ */
+final class CompactAttachments {
+
+    static final int MAX_KEYS = 256;
+
+    private static final String ATTRIBUTE_KEY = CompactAttachments.class.getName();
+
+    private final List<String> keys = new ArrayList<>();
+
+    /**
+     * consumer side, the dictionary index of the keys
+     */
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * consumer side, the size of the dictionary the peer is known to have
+     */
+    private int committed;
+
+    private final UnsafeByteArrayOutputStream buffer = new UnsafeByteArrayOutputStream(256);
+
+    static CompactAttachments get(Channel channel) {
+        CompactAttachments table = find(channel);
+        if (table == null) {
+            table = new CompactAttachments();
+            channel.setAttribute(ATTRIBUTE_KEY, table);
+        }
+        return table;
+    }
+
+    static CompactAttachments find(Channel channel) {
+        return (CompactAttachments) channel.getAttribute(ATTRIBUTE_KEY);
+    }
+
+    /**
+     * @return the attachments left to the serialization, those whose value is not a string
+     */
+    static Map<String, Object> others(Map<String, Object> attachments) {
+        Map<String, Object> others = null;
+        for (Map.Entry<String, Object> entry : attachments.entrySet()) {
+            if (!(entry.getValue() instanceof String)) {
+                if (others == null) {
+                    others = new HashMap<>();
+                }
+                others.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return others == null ? Collections.emptyMap() : others;
+    }
+
+    void write(OutputStream out, Map<String, Object> attachments) throws IOException {
+        buffer.reset();
+        int count = 0;
+        for (Object value : attachments.values()) {
+            if (value instanceof String) {
+                count++;
+            }
+        }
+        writeVarint(count);
+        for (Map.Entry<String, Object> entry : attachments.entrySet()) {
+            if (!(entry.getValue() instanceof String)) {
+                continue;
+            }
+            String key = entry.getKey();
+            Integer index = indexes.get(key);
+            if (index != null) {
+                writeVarint(index << 1 | 1);
+            } else {
+                byte[] bytes = key.getBytes(UTF_8);
+                writeVarint(bytes.length << 1);
+                buffer.write(bytes, 0, bytes.length);
+                if (keys.size() < MAX_KEYS) {
+                    indexes.put(key, keys.size());
+                    keys.add(key);
+                }
+            }
+            byte[] bytes = ((String) entry.getValue()).getBytes(UTF_8);
+            writeVarint(bytes.length);
+            buffer.write(bytes, 0, bytes.length);
+        }
+        ByteBuffer block = buffer.toByteBuffer();
+        DubboCodec.writeInt(out, block.limit());
+        out.write(block.array(), 0, block.limit());
+    }
+
+    /**
+     * Called once the request is encoded, or failed to encode. Keys only count as known to the peer once their
+     * frame is complete, otherwise they are dropped from the dictionary and sent again by the next request.
+     */
+    void release(boolean encoded) {
+        if (encoded) {
+            committed = keys.size();
+            return;
+        }
+        while (keys.size() > committed) {
+            indexes.remove(keys.remove(keys.size() - 1));
+        }
+    }
+
+    Map<String, Object> read(InputStream in) throws IOException {
+        return read(DubboCodec.readBytes(in, DubboCodec.readInt(in)));
+    }
+
+    private Map<String, Object> read(byte[] block) throws IOException {
+        int[] position = new int[1];
+        int count = readVarint(block, position);
+        Map<String, Object> attachments = new HashMap<>(Math.max(16, count * 2));
+        for (int i = 0; i < count; i++) {
+            int ref = readVarint(block, position);
+            String key;
+            if ((ref & 1) != 0) {
+                int index = ref >>> 1;
+                if (index >= keys.size()) {
+                    throw new IOException("Unknown attachment key index " + index);
+                }
+                key = keys.get(index);
+            } else {
+                key = readString(block, position, ref >>> 1);
+                if (keys.size() < MAX_KEYS) {
+                    keys.add(key);
+                }
+            }
+            attachments.put(key, readString(block, position, readVarint(block, position)));
+        }
+        return attachments;
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer.write(value);
+    }
+
+    private static int readVarint(byte[] block, int[] position) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= block.length) {
+                throw new IOException("Truncated compact attachments");
+            }
+            byte b = block[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in compact attachments");
+    }
+
+    private static String readString(byte[] block, int[] position, int length) throws IOException {
+        if (length < 0 || length > block.length - position[0]) {
+            throw new IOException("Truncated compact attachments");
+        }
+        String value = new String(block, position[0], length, UTF_8);
+        position[0] += length;
+        return value;
+    }
+}
@@ -30,10 +30,54 @@ public interface Constants {
      */
     String DEFAULT_SHARE_CONNECTIONS = "1";
 
+    /**
+     * The max connections of an invoker to its provider. When set, the invoker gets its own connections,
+     * which grow and shrink with its load, instead of using shared ones.
+     */
+    String CONNECTIONS_MAX_KEY = "connections.max";
+
+    /**
+     * The connections an adaptive connection pool never shrinks below.
+     */
+    String CONNECTIONS_MIN_KEY = "connections.min";
+
+    int DEFAULT_CONNECTIONS_MIN = 1;
+
+    /**
+     * The requests in flight on a connection above which an adaptive connection pool opens one more.
+     */
+    String CONNECTIONS_INFLIGHT_KEY = "connections.inflight";
+
+    int DEFAULT_CONNECTIONS_INFLIGHT = 32;
+
     String DECODE_IN_IO_THREAD_KEY = "decode.in.io";
 
     boolean DEFAULT_DECODE_IN_IO_THREAD = false;
 
+    /**
+     * Provider side switch. Consumers of such a provider send the attachments ahead of the arguments,
+     * and the provider only decodes the arguments on first access, so calls rejected by filters skip it.
+     */
+    String LAZY_DECODE_KEY = "decode.lazy";
+
+    boolean DEFAULT_LAZY_DECODE = false;
+
+    /**
+     * Provider side switch. Consumers of such a provider describe a method once per connection,
+     * and refer to it by a numeric id in the following requests.
+     */
+    String METHOD_ID_KEY = "method.id";
+
+    boolean DEFAULT_METHOD_ID = false;
+
+    /**
+     * Provider side switch. Consumers of such a provider write string attachments as a compact block,
+     * with the keys replaced by a per connection dictionary index once sent.
+     */
+    String COMPACT_ATTACHMENTS_KEY = "attachments.compact";
+
+    boolean DEFAULT_COMPACT_ATTACHMENTS = false;
+
     /**
      * callback inst id
      */
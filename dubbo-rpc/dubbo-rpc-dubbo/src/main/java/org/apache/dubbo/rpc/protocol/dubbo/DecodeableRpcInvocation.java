@@ -17,21 +17,30 @@
 package org.apache.dubbo.rpc.protocol.dubbo;
 
 
+import org.apache.dubbo.common.io.StreamUtils;
+import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
 import org.apache.dubbo.common.serialize.Cleanable;
 import org.apache.dubbo.common.serialize.ObjectInput;
+import org.apache.dubbo.common.threadpool.Prioritized;
 import org.apache.dubbo.common.utils.Assert;
 import org.apache.dubbo.common.utils.ReflectUtils;
 import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.config.MethodConfig;
+import org.apache.dubbo.config.ServiceConfigBase;
 import org.apache.dubbo.remoting.Channel;
 import org.apache.dubbo.remoting.Codec;
+import org.apache.dubbo.remoting.DeadlineAware;
 import org.apache.dubbo.remoting.Decodeable;
+import org.apache.dubbo.remoting.ServicePathAware;
 import org.apache.dubbo.remoting.exchange.Request;
 import org.apache.dubbo.remoting.transport.CodecSupport;
+import org.apache.dubbo.rpc.RpcException;
 import org.apache.dubbo.rpc.RpcInvocation;
 import org.apache.dubbo.rpc.model.ApplicationModel;
 import org.apache.dubbo.rpc.model.MethodDescriptor;
+import org.apache.dubbo.rpc.model.ProviderModel;
 import org.apache.dubbo.rpc.model.ServiceDescriptor;
 import org.apache.dubbo.rpc.model.ServiceRepository;
 import org.apache.dubbo.rpc.support.RpcUtils;
@@ -40,19 +49,43 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.apache.dubbo.common.URL.buildKey;
+import static org.apache.dubbo.common.constants.CommonConstants.CALL_PRIORITY_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.DEADLINE_ATTACHMENT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.DUBBO_VERSION_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.PATH_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_ATTACHMENT_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+import static org.apache.dubbo.rpc.Constants.$ECHO;
 import static org.apache.dubbo.rpc.protocol.dubbo.CallbackServiceCodec.decodeInvocationArgument;
+import static org.apache.dubbo.rpc.protocol.dubbo.DubboCodec.REQUEST_COMPACT_ATTACHMENTS;
+import static org.apache.dubbo.rpc.protocol.dubbo.DubboCodec.REQUEST_METHOD_DEFINE;
+import static org.apache.dubbo.rpc.protocol.dubbo.DubboCodec.REQUEST_METHOD_REF;
 
-public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Decodeable {
+public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Decodeable, ServicePathAware, Prioritized,
+        DeadlineAware {
 
     private static final Logger log = LoggerFactory.getLogger(DecodeableRpcInvocation.class);
 
+    /**
+     * parameter types of generic and echo calls, which only name jdk types, by their desc
+     */
+    private static final ConcurrentMap<String, Class<?>[]> BUILTIN_PARAMETER_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * the priority of the echo calls, which serve as health checks
+     */
+    static final int ECHO_PRIORITY = Integer.MAX_VALUE;
+
+    private static final String DEFAULT_VERSION = "0.0.0";
+
     private Channel channel;
 
     private byte serializationType;
@@ -63,7 +96,44 @@ public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Dec
 
     private volatile boolean hasDecoded;
 
+    /**
+     * the attachments precede the arguments in the body, see {@link DubboCodec#REQUEST_ATTACHMENTS_FIRST}
+     */
+    private final boolean attachmentsFirst;
+
+    /**
+     * leave the arguments undecoded until {@link #getArguments()} is called
+     */
+    private final boolean lazyArguments;
+
+    /**
+     * the bytes of the arguments while they are not decoded yet, a serialization stream of their own, see
+     * {@link DubboCodec#encodeRequestBody}
+     */
+    private volatile byte[] argumentsBytes;
+
+    /**
+     * the method referred to by id, see {@link DubboCodec#REQUEST_METHOD_REF}
+     */
+    private MethodIdTable.Method method;
+
+    /**
+     * the strings naming the method, read ahead of {@link #decode()} by {@link #readHead()} when the body starts
+     * with them
+     */
+    private MethodIdTable.Method head;
+
+    /**
+     * the string attachments sent ahead of the body, see {@link DubboCodec#REQUEST_COMPACT_ATTACHMENTS}
+     */
+    private Map<String, Object> compactAttachments;
+
     public DecodeableRpcInvocation(Channel channel, Request request, InputStream is, byte id) {
+        this(channel, request, is, id, false, false);
+    }
+
+    public DecodeableRpcInvocation(Channel channel, Request request, InputStream is, byte id,
+                                   boolean attachmentsFirst, boolean lazyArguments) {
         Assert.notNull(channel, "channel == null");
         Assert.notNull(request, "request == null");
         Assert.notNull(is, "inputStream == null");
@@ -71,6 +141,8 @@ public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Dec
         this.request = request;
         this.inputStream = is;
         this.serializationType = id;
+        this.attachmentsFirst = attachmentsFirst;
+        this.lazyArguments = attachmentsFirst && lazyArguments;
     }
 
     @Override
@@ -95,77 +167,256 @@ public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Dec
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Reads the compact attachments and the method id the body starts with, if any, which may define entries of
+     * the dictionaries of the connection. Must be called on the io thread, in the order the requests arrive. Both
+     * are plain bytes, read without any serialization input.
+     */
+    void decodeHead(byte layout) throws IOException {
+        if ((layout & (REQUEST_COMPACT_ATTACHMENTS | REQUEST_METHOD_DEFINE | REQUEST_METHOD_REF)) == 0) {
+            return;
+        }
+        if ((layout & REQUEST_COMPACT_ATTACHMENTS) != 0) {
+            compactAttachments = CompactAttachments.get(channel).read(inputStream);
+        }
+        if ((layout & (REQUEST_METHOD_DEFINE | REQUEST_METHOD_REF)) != 0) {
+            method = MethodIdTable.get(channel).read(inputStream, layout);
+        }
+    }
+
+    @Override
+    public String getServicePath() {
+        if (hasDecoded) {
+            return (String) getAttachment(PATH_KEY);
+        }
+        MethodIdTable.Method head = readHead();
+        return head != null ? head.path : null;
+    }
+
+    @Override
+    public String getServiceMethodName() {
+        if (hasDecoded) {
+            return getMethodName();
+        }
+        MethodIdTable.Method head = readHead();
+        return head != null ? head.methodName : null;
+    }
+
+    @Override
+    public String getServiceParameterTypesDesc() {
+        if (hasDecoded) {
+            return getParameterTypesDesc();
+        }
+        MethodIdTable.Method head = readHead();
+        return head != null ? head.desc : null;
+    }
+
+    /**
+     * Called on the io thread, when the request is queued. Only reads the compact attachments and the method read
+     * ahead, see {@link #readHead()}, so that no serialization input is left for the thread decoding the request.
+     *
+     * @return the priority the call tells in its attachments, if they are at hand, else the one the provider
+     * configures for the method
+     */
+    @Override
+    public int getPriority() {
+        Object priority = peekAttachment(CALL_PRIORITY_KEY);
+        if (priority != null) {
+            return toInt(priority);
+        }
+        String methodName = getServiceMethodName();
+        if ($ECHO.equals(methodName)) {
+            return ECHO_PRIORITY;
+        }
+        MethodConfig config = lookupMethodConfig(lookupServiceConfig(), methodName);
+        return config != null && config.getPriority() != null ? config.getPriority() : DEFAULT_PRIORITY;
+    }
+
+    /**
+     * Called on the io thread, when the request is queued, and reads the request like {@link #getPriority()}.
+     *
+     * @return the timeout the call tells in its attachments, if they are at hand, else the one the provider
+     * configures explicitly, which its consumers inherit unless they configure their own
+     */
+    @Override
+    public int getTimeout() {
+        long deadline = toLong(peekAttachment(DEADLINE_ATTACHMENT_KEY));
+        if (deadline > 0) {
+            return (int) Math.max(1, deadline - System.currentTimeMillis());
+        }
+        Object timeout = peekAttachment(TIMEOUT_ATTACHMENT_KEY);
+        if (timeout == null) {
+            timeout = peekAttachment(TIMEOUT_KEY);
+        }
+        if (timeout != null) {
+            return toInt(timeout);
+        }
+        ServiceConfigBase<?> service = lookupServiceConfig();
+        if (service == null) {
+            return 0;
+        }
+        MethodConfig config = lookupMethodConfig(service, getServiceMethodName());
+        if (config != null && config.getTimeout() != null) {
+            return config.getTimeout();
+        }
+        if (service.getTimeout() != null) {
+            return service.getTimeout();
+        }
+        return service.getProvider() != null && service.getProvider().getTimeout() != null
+                ? service.getProvider().getTimeout() : 0;
+    }
+
+    /**
+     * Decodes the invocation if it's not decoded yet.
+     *
+     * @return the deadline the consumer passed, see {@link org.apache.dubbo.common.constants.CommonConstants#DEADLINE_ATTACHMENT_KEY}
+     */
+    @Override
+    public long getDeadline() {
+        try {
+            decode();
+        } catch (Exception e) {
+            // decode() marks the request broken rather than throw
+            return 0;
+        }
+        return request.isBroken() ? 0 : toLong(getObjectAttachment(DEADLINE_ATTACHMENT_KEY));
+    }
+
+    /**
+     * @return the attachment if the attachments are decoded, or sent ahead of the body
+     */
+    private Object peekAttachment(String key) {
+        if (hasDecoded) {
+            return getObjectAttachment(key);
+        }
+        return compactAttachments == null ? null : compactAttachments.get(key);
+    }
+
+    private ServiceConfigBase<?> lookupServiceConfig() {
+        String path = getServicePath();
+        if (path == null) {
+            return null;
+        }
+        String version = hasDecoded ? getAttachment(VERSION_KEY) : readHead().version;
+        ServiceRepository repository = ApplicationModel.getServiceRepository();
+        ProviderModel provider = repository.lookupExportedServiceWithoutGroup(path + ":" + version);
+        if (provider == null && (StringUtils.isEmpty(version) || DEFAULT_VERSION.equals(version))) {
+            // the services exported without version are keyed by a null one
+            provider = repository.lookupExportedServiceWithoutGroup(path + ":null");
+        }
+        return provider == null ? null : provider.getServiceConfig();
+    }
+
+    private static MethodConfig lookupMethodConfig(ServiceConfigBase<?> service, String methodName) {
+        List<MethodConfig> methods = service == null ? null : service.getMethods();
+        if (methods == null || methodName == null) {
+            return null;
+        }
+        for (MethodConfig config : methods) {
+            if (methodName.equals(config.getName())) {
+                return config;
+            }
+        }
+        return null;
+    }
+
+    private static int toInt(Object value) {
+        return (int) toLong(value);
+    }
+
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the strings naming the method ahead of {@link #decode()} when they are not known yet, through an input of
+     * its own which is cleaned up once they are read, and puts the stream back to where it was for {@link #decode()}
+     * to read them again. Must be called on the io thread, before the request is dispatched.
+     *
+     * @return the method, or null if the request is broken
+     */
+    private MethodIdTable.Method readHead() {
+        if (method != null) {
+            return method;
+        }
+        if (head != null) {
+            return head;
+        }
+        try {
+            if (!inputStream.markSupported()) {
+                inputStream = new UnsafeByteArrayInputStream(DubboCodec.readBytes(inputStream, inputStream.available()));
+            }
+            inputStream.mark(Integer.MAX_VALUE);
+            ObjectInput in = null;
+            try {
+                in = deserialize(openHeadStream(inputStream));
+                MethodIdTable.Method read = new MethodIdTable.Method();
+                read.set(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+                head = read;
+            } finally {
+                cleanup(in);
+                inputStream.reset();
+            }
+            return head;
+        } catch (Throwable e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Decode rpc invocation failed: " + e.getMessage(), e);
+            }
+            request.setBroken(true);
+            request.setData(e);
+            hasDecoded = true;
+            return null;
+        }
+    }
+
     @Override
     public Object decode(Channel channel, InputStream input) throws IOException {
-        ObjectInput in = CodecSupport.getSerialization(channel.getUrl(), serializationType)
-                .deserialize(channel.getUrl(), input);
+        InputStream headStream = openHeadStream(input);
+        ObjectInput in = deserialize(headStream);
 
-        String dubboVersion = in.readUTF();
+        String dubboVersion = method != null ? method.dubboVersion : in.readUTF();
         request.setVersion(dubboVersion);
         setAttachment(DUBBO_VERSION_KEY, dubboVersion);
 
-        String path = in.readUTF();
+        String path = method != null ? method.path : in.readUTF();
         setAttachment(PATH_KEY, path);
-        setAttachment(VERSION_KEY, in.readUTF());
+        setAttachment(VERSION_KEY, method != null ? method.version : in.readUTF());
 
-        setMethodName(in.readUTF());
+        setMethodName(method != null ? method.methodName : in.readUTF());
 
-        String desc = in.readUTF();
+        String desc = method != null ? method.desc : in.readUTF();
         setParameterTypesDesc(desc);
 
         try {
-            Object[] args = DubboCodec.EMPTY_OBJECT_ARRAY;
-            Class<?>[] pts = DubboCodec.EMPTY_CLASS_ARRAY;
-            if (desc.length() > 0) {
-//                if (RpcUtils.isGenericCall(path, getMethodName()) || RpcUtils.isEcho(path, getMethodName())) {
-//                    pts = ReflectUtils.desc2classArray(desc);
-//                } else {
-                ServiceRepository repository = ApplicationModel.getServiceRepository();
-                ServiceDescriptor serviceDescriptor = repository.lookupService(path);
-                if (serviceDescriptor != null) {
-                    MethodDescriptor methodDescriptor = serviceDescriptor.getMethod(getMethodName(), desc);
-                    if (methodDescriptor != null) {
-                        pts = methodDescriptor.getParameterClasses();
-                        this.setReturnTypes(methodDescriptor.getReturnTypes());
-                    }
-                }
-                if (pts == DubboCodec.EMPTY_CLASS_ARRAY) {
-                    if (!RpcUtils.isGenericCall(desc, getMethodName()) && !RpcUtils.isEcho(desc, getMethodName())) {
-                        throw new IllegalArgumentException("Service not found:" + path + ", " + getMethodName());
-                    }
-                    pts = ReflectUtils.desc2classArray(desc);
-                }
-//                }
-
-                args = new Object[pts.length];
-                for (int i = 0; i < args.length; i++) {
-                    try {
-                        args[i] = in.readObject(pts[i]);
-                    } catch (Exception e) {
-                        if (log.isWarnEnabled()) {
-                            log.warn("Decode argument failed: " + e.getMessage(), e);
-                        }
-                    }
-                }
-            }
+            Class<?>[] pts = method != null ? resolveParameterTypes(method) : resolveParameterTypes(path, desc);
             setParameterTypes(pts);
 
-            Map<String, Object> map = in.readAttachments();
-            if (map != null && map.size() > 0) {
-                Map<String, Object> attachment = getObjectAttachments();
-                if (attachment == null) {
-                    attachment = new HashMap<>();
+            if (!attachmentsFirst) {
+                Object[] args = readArguments(in, pts);
+                readAttachments(in);
+                decodeArguments(args, pts);
+            } else {
+                readAttachments(in);
+                cleanup(in);
+                in = null;
+                StreamUtils.skipUnusedStream(headStream);
+                if (lazyArguments && pts.length > 0) {
+                    argumentsBytes = DubboCodec.readBytes(input, input.available());
+                } else {
+                    decodeArguments(readArguments(input, pts), pts);
                 }
-                attachment.putAll(map);
-                setObjectAttachments(attachment);
             }
 
-            //decode argument ,may be callback
-            for (int i = 0; i < args.length; i++) {
-                args[i] = decodeInvocationArgument(channel, this, pts, i, args[i]);
-            }
-
-            setArguments(args);
             String targetServiceName = buildKey((String) getAttachment(PATH_KEY),
                     getAttachment(GROUP_KEY),
                     getAttachment(VERSION_KEY));
@@ -173,11 +424,164 @@ public class DecodeableRpcInvocation extends RpcInvocation implements Codec, Dec
         } catch (ClassNotFoundException e) {
             throw new IOException(StringUtils.toString("Read invocation data failed.", e));
         } finally {
-            if (in instanceof Cleanable) {
-                ((Cleanable) in).cleanup();
-            }
+            cleanup(in);
         }
         return this;
     }
 
+    @Override
+    public Object[] getArguments() {
+        if (argumentsBytes != null) {
+            decodeDeferredArguments();
+        }
+        return super.getArguments();
+    }
+
+    @Override
+    public void setArguments(Object[] arguments) {
+        // arguments set explicitly win over the ones still on the wire
+        discardDeferredArguments();
+        super.setArguments(arguments);
+    }
+
+    private synchronized void decodeDeferredArguments() {
+        byte[] bytes = argumentsBytes;
+        if (bytes == null) {
+            return;
+        }
+        try {
+            Class<?>[] pts = getParameterTypes();
+            decodeArguments(readArguments(new UnsafeByteArrayInputStream(bytes), pts), pts);
+        } catch (IOException e) {
+            throw new RpcException("Decode arguments of " + getTargetServiceUniqueName() + "." + getMethodName()
+                    + " failed: " + e.getMessage(), e);
+        } finally {
+            argumentsBytes = null;
+        }
+    }
+
+    private synchronized void discardDeferredArguments() {
+        argumentsBytes = null;
+    }
+
+    /**
+     * @return the stream of the method and the attachments, bounded by the length that precedes it with
+     * {@link #attachmentsFirst}, for the serialization not to read ahead into the arguments
+     */
+    private InputStream openHeadStream(InputStream input) throws IOException {
+        return attachmentsFirst ? StreamUtils.limitedInputStream(input, DubboCodec.readInt(input)) : input;
+    }
+
+    private ObjectInput deserialize(InputStream input) throws IOException {
+        return CodecSupport.getSerialization(channel.getUrl(), serializationType).deserialize(channel.getUrl(), input);
+    }
+
+    private static void cleanup(ObjectInput in) {
+        if (in instanceof Cleanable) {
+            ((Cleanable) in).cleanup();
+        }
+    }
+
+    /**
+     * Resolves the parameter types of a method referred to by id once, and reuses them as long as the service
+     * stays registered.
+     */
+    private Class<?>[] resolveParameterTypes(MethodIdTable.Method method) throws ClassNotFoundException {
+        ServiceDescriptor service = ApplicationModel.getServiceRepository().lookupService(method.path);
+        MethodIdTable.Resolution resolution = method.resolution;
+        if (resolution != null && resolution.service == service) {
+            setReturnTypes(resolution.returnTypes);
+            return resolution.parameterTypes;
+        }
+        Class<?>[] pts = resolveParameterTypes(method.path, method.desc);
+        method.resolution = new MethodIdTable.Resolution(service, pts, getReturnTypes());
+        return pts;
+    }
+
+    private Class<?>[] resolveParameterTypes(String path, String desc) throws ClassNotFoundException {
+        if (desc.length() == 0) {
+            return DubboCodec.EMPTY_CLASS_ARRAY;
+        }
+        Class<?>[] pts = DubboCodec.EMPTY_CLASS_ARRAY;
+        ServiceRepository repository = ApplicationModel.getServiceRepository();
+        ServiceDescriptor serviceDescriptor = repository.lookupService(path);
+        if (serviceDescriptor != null) {
+            MethodDescriptor methodDescriptor = serviceDescriptor.getMethod(getMethodName(), desc);
+            if (methodDescriptor != null) {
+                pts = methodDescriptor.getParameterClasses();
+                this.setReturnTypes(methodDescriptor.getReturnTypes());
+            }
+        }
+        if (pts == DubboCodec.EMPTY_CLASS_ARRAY) {
+            if (!RpcUtils.isGenericCall(desc, getMethodName()) && !RpcUtils.isEcho(desc, getMethodName())) {
+                throw new IllegalArgumentException("Service not found:" + path + ", " + getMethodName());
+            }
+            pts = BUILTIN_PARAMETER_TYPES.get(desc);
+            if (pts == null) {
+                pts = ReflectUtils.desc2classArray(desc);
+                BUILTIN_PARAMETER_TYPES.putIfAbsent(desc, pts);
+            }
+        }
+        return pts;
+    }
+
+    /**
+     * Reads the arguments of their own serialization stream, see {@link DubboCodec#encodeRequestBody}.
+     */
+    private Object[] readArguments(InputStream input, Class<?>[] pts) throws IOException {
+        if (pts.length == 0) {
+            return DubboCodec.EMPTY_OBJECT_ARRAY;
+        }
+        ObjectInput in = deserialize(input);
+        try {
+            return readArguments(in, pts);
+        } finally {
+            cleanup(in);
+        }
+    }
+
+    private Object[] readArguments(ObjectInput in, Class<?>[] pts) {
+        if (pts.length == 0) {
+            return DubboCodec.EMPTY_OBJECT_ARRAY;
+        }
+        Object[] args = new Object[pts.length];
+        for (int i = 0; i < args.length; i++) {
+            try {
+                args[i] = in.readObject(pts[i]);
+            } catch (Exception e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Decode argument failed: " + e.getMessage(), e);
+                }
+            }
+        }
+        return args;
+    }
+
+    private void readAttachments(ObjectInput in) throws IOException, ClassNotFoundException {
+        Map<String, Object> map = in.readAttachments();
+        if (compactAttachments != null) {
+            if (map != null) {
+                compactAttachments.putAll(map);
+            }
+            map = compactAttachments;
+            compactAttachments = null;
+        }
+        if (map != null && map.size() > 0) {
+            Map<String, Object> attachment = getObjectAttachments();
+            if (attachment == null) {
+                attachment = new HashMap<>();
+            }
+            attachment.putAll(map);
+            setObjectAttachments(attachment);
+        }
+    }
+
+    private void decodeArguments(Object[] args, Class<?>[] pts) throws IOException {
+        //decode argument ,may be callback
+        for (int i = 0; i < args.length; i++) {
+            args[i] = decodeInvocationArgument(channel, this, pts, i, args[i]);
+        }
+        super.setArguments(args);
+    }
+
 }
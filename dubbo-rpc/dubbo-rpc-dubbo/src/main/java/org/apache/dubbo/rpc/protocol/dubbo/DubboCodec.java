@@ -16,15 +16,20 @@
  */
 package org.apache.dubbo.rpc.protocol.dubbo;
 
+import org.apache.dubbo.common.URL;
 import org.apache.dubbo.common.Version;
 import org.apache.dubbo.common.io.Bytes;
 import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
 import org.apache.dubbo.common.logger.Logger;
 import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.serialize.Cleanable;
 import org.apache.dubbo.common.serialize.ObjectInput;
 import org.apache.dubbo.common.serialize.ObjectOutput;
+import org.apache.dubbo.common.serialize.Serialization;
 import org.apache.dubbo.common.utils.StringUtils;
 import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.buffer.ChannelBuffer;
+import org.apache.dubbo.remoting.buffer.ChannelBufferOutputStream;
 import org.apache.dubbo.remoting.exchange.Request;
 import org.apache.dubbo.remoting.exchange.Response;
 import org.apache.dubbo.remoting.exchange.codec.ExchangeCodec;
@@ -33,16 +38,30 @@ import org.apache.dubbo.rpc.Invocation;
 import org.apache.dubbo.rpc.Result;
 import org.apache.dubbo.rpc.RpcInvocation;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
 
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER_SIDE;
 import static org.apache.dubbo.common.constants.CommonConstants.DUBBO_VERSION_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.PATH_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.SIDE_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+import static org.apache.dubbo.remoting.Constants.CLIENT_KEY;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_REMOTING_CLIENT;
+import static org.apache.dubbo.remoting.Constants.SERVER_KEY;
 import static org.apache.dubbo.rpc.protocol.dubbo.CallbackServiceCodec.encodeInvocationArgument;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.COMPACT_ATTACHMENTS_KEY;
 import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DECODE_IN_IO_THREAD_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_COMPACT_ATTACHMENTS;
 import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_DECODE_IN_IO_THREAD;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_LAZY_DECODE;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_METHOD_ID;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.LAZY_DECODE_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.METHOD_ID_KEY;
 
 /**
  * Dubbo codec.
@@ -57,8 +76,29 @@ public class DubboCodec extends ExchangeCodec {
     public static final byte RESPONSE_WITH_EXCEPTION_WITH_ATTACHMENTS = 3;
     public static final byte RESPONSE_VALUE_WITH_ATTACHMENTS = 4;
     public static final byte RESPONSE_NULL_VALUE_WITH_ATTACHMENTS = 5;
+    /**
+     * request layout flag, the attachments are written ahead of the arguments, which are a serialization stream of
+     * their own, see {@link #encodeRequestBody}.
+     */
+    public static final byte REQUEST_ATTACHMENTS_FIRST = 0x01;
+    /**
+     * request layout flag, the body starts with a method id followed by the method description it stands for, in the
+     * format of {@link MethodIdTable} ahead of any serialization stream.
+     */
+    public static final byte REQUEST_METHOD_DEFINE = 0x02;
+    /**
+     * request layout flag, the body starts with a method id defined by an earlier request on the connection,
+     * in place of the method description, in the format of {@link MethodIdTable} ahead of any serialization stream.
+     */
+    public static final byte REQUEST_METHOD_REF = 0x04;
+    /**
+     * request layout flag, the body starts with the string attachments in the format of {@link CompactAttachments},
+     * ahead of any serialization stream.
+     */
+    public static final byte REQUEST_COMPACT_ATTACHMENTS = 0x08;
     public static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
     public static final Class<?>[] EMPTY_CLASS_ARRAY = new Class<?>[0];
+    private static final byte[] EMPTY_LENGTH = new byte[4];
     private static final Logger log = LoggerFactory.getLogger(DubboCodec.class);
 
     @Override
@@ -79,6 +119,9 @@ public class DubboCodec extends ExchangeCodec {
                 if (status == Response.OK) {
                     Object data;
                     if (res.isEvent()) {
+                        if (isHeartbeatBody(is, proto)) {
+                            return res;
+                        }
                         ObjectInput in = CodecSupport.deserialize(channel.getUrl(), is, proto);
                         data = decodeEventData(channel, in);
                     } else {
@@ -118,16 +161,25 @@ public class DubboCodec extends ExchangeCodec {
             try {
                 Object data;
                 if (req.isEvent()) {
+                    if (isHeartbeatBody(is, proto)) {
+                        return req;
+                    }
                     ObjectInput in = CodecSupport.deserialize(channel.getUrl(), is, proto);
                     data = decodeEventData(channel, in);
                 } else {
                     DecodeableRpcInvocation inv;
+                    byte layout = header[3];
+                    boolean attachmentsFirst = (layout & REQUEST_ATTACHMENTS_FIRST) != 0;
                     if (channel.getUrl().getParameter(DECODE_IN_IO_THREAD_KEY, DEFAULT_DECODE_IN_IO_THREAD)) {
-                        inv = new DecodeableRpcInvocation(channel, req, is, proto);
+                        // the input is backed by the io buffer, so the arguments can not be left for later
+                        inv = new DecodeableRpcInvocation(channel, req, is, proto, attachmentsFirst, false);
+                        inv.decodeHead(layout);
                         inv.decode();
                     } else {
                         inv = new DecodeableRpcInvocation(channel, req,
-                                new UnsafeByteArrayInputStream(readMessageData(is)), proto);
+                                new UnsafeByteArrayInputStream(readMessageData(is)), proto, attachmentsFirst, attachmentsFirst);
+                        // method ids and attachment keys are defined in wire order, so they are read on the io thread
+                        inv.decodeHead(layout);
                     }
                     data = inv;
                 }
@@ -154,6 +206,59 @@ public class DubboCodec extends ExchangeCodec {
         return new byte[]{};
     }
 
+    /**
+     * Only consumers use a layout other than the default one, and only the parts the provider asks for,
+     * so providers and consumers that do not know the layout keep talking the old one.
+     */
+    @Override
+    protected byte getRequestLayout(Channel channel, Request req) {
+        URL url = channel.getUrl();
+        if (req.isEvent() || !CONSUMER_SIDE.equals(url.getParameter(SIDE_KEY))) {
+            return 0;
+        }
+        byte layout = 0;
+        if (url.getParameter(LAZY_DECODE_KEY, DEFAULT_LAZY_DECODE)) {
+            layout |= REQUEST_ATTACHMENTS_FIRST;
+        }
+        if (url.getParameter(METHOD_ID_KEY, DEFAULT_METHOD_ID) && isEncodedOnIoThread(url)) {
+            RpcInvocation inv = (RpcInvocation) req.getData();
+            layout |= MethodIdTable.get(channel).reserve(req.getVersion(), getServiceName(inv),
+                    inv.getAttachment(VERSION_KEY), inv.getMethodName(), inv.getParameterTypesDesc());
+        }
+        if (url.getParameter(COMPACT_ATTACHMENTS_KEY, DEFAULT_COMPACT_ATTACHMENTS) && isEncodedOnIoThread(url)) {
+            layout |= REQUEST_COMPACT_ATTACHMENTS;
+        }
+        return layout;
+    }
+
+    /**
+     * Method ids and attachment keys are defined by the first request on the wire, so they are only used by the
+     * transports that encode on the io thread of the connection, in the order the requests are written. The others
+     * encode on the calling threads, where a request referring to an id may overtake the one defining it.
+     */
+    private static boolean isEncodedOnIoThread(URL url) {
+        String client = url.getParameter(CLIENT_KEY, url.getParameter(SERVER_KEY, DEFAULT_REMOTING_CLIENT));
+        return "netty".equals(client) || "netty4".equals(client);
+    }
+
+    @Override
+    protected void encodeRequest(Channel channel, ChannelBuffer buffer, Request req) throws IOException {
+        boolean encoded = false;
+        try {
+            super.encodeRequest(channel, buffer, req);
+            encoded = true;
+        } finally {
+            MethodIdTable table = MethodIdTable.find(channel);
+            if (table != null) {
+                table.release(encoded);
+            }
+            CompactAttachments attachments = CompactAttachments.find(channel);
+            if (attachments != null) {
+                attachments.release(encoded);
+            }
+        }
+    }
+
     @Override
     protected void encodeRequestData(Channel channel, ObjectOutput out, Object data) throws IOException {
         encodeRequestData(channel, out, data, DUBBO_VERSION);
@@ -168,24 +273,139 @@ public class DubboCodec extends ExchangeCodec {
     protected void encodeRequestData(Channel channel, ObjectOutput out, Object data, String version) throws IOException {
         RpcInvocation inv = (RpcInvocation) data;
 
+        encodeMethod(out, inv, version);
+        Object[] args = inv.getArguments();
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                out.writeObject(encodeInvocationArgument(channel, inv, i));
+            }
+        }
+        out.writeAttachments(inv.getObjectAttachments());
+    }
+
+    /**
+     * Writes the body of the layouts other than the default one. What the provider reads on the io thread, the
+     * compact attachments and the method id, precedes the serialization streams as plain bytes. With {@link #REQUEST_ATTACHMENTS_FIRST},
+     * the arguments are a serialization stream of their own, which follows the stream of the method and the
+     * attachments, itself preceded by its length as a 4 bytes int. The provider then keeps the bytes of the
+     * arguments for later, rather than an input positioned at them.
+     */
+    @Override
+    protected void encodeRequestBody(Channel channel, Serialization serialization, ChannelBufferOutputStream bos,
+                                     Request req, byte layout) throws IOException {
+        if (layout == 0 || req.isEvent()) {
+            super.encodeRequestBody(channel, serialization, bos, req, layout);
+            return;
+        }
+        RpcInvocation inv = (RpcInvocation) req.getData();
+        // encoding a callback argument may add attachments, so arguments are prepared before any attachment is written
+        Object[] args = encodeInvocationArguments(channel, inv);
+        Map<String, Object> attachments = inv.getObjectAttachments();
+        if ((layout & REQUEST_COMPACT_ATTACHMENTS) != 0) {
+            CompactAttachments.get(channel).write(bos, attachments);
+            attachments = CompactAttachments.others(attachments);
+        }
+
+        boolean methodId = (layout & (REQUEST_METHOD_DEFINE | REQUEST_METHOD_REF)) != 0;
+        if (methodId) {
+            MethodIdTable.get(channel).writePending(bos, layout);
+        }
+
+        boolean attachmentsFirst = (layout & REQUEST_ATTACHMENTS_FIRST) != 0;
+        ChannelBuffer buffer = bos.buffer();
+        int lengthIndex = buffer.writerIndex();
+        if (attachmentsFirst) {
+            bos.write(EMPTY_LENGTH);
+        }
+        ObjectOutput out = serialization.serialize(channel.getUrl(), bos);
+        if (!methodId) {
+            encodeMethod(out, inv, req.getVersion());
+        }
+        if (attachmentsFirst) {
+            out.writeAttachments(attachments);
+            flush(out);
+            buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - EMPTY_LENGTH.length);
+            out = serialization.serialize(channel.getUrl(), bos);
+        }
+        for (Object arg : args) {
+            out.writeObject(arg);
+        }
+        if (!attachmentsFirst) {
+            out.writeAttachments(attachments);
+        }
+        flush(out);
+    }
+
+    private static void encodeMethod(ObjectOutput out, RpcInvocation inv, String version) throws IOException {
         out.writeUTF(version);
+        out.writeUTF(getServiceName(inv));
+        out.writeUTF(inv.getAttachment(VERSION_KEY));
+
+        out.writeUTF(inv.getMethodName());
+        out.writeUTF(inv.getParameterTypesDesc());
+    }
+
+    private static void flush(ObjectOutput out) throws IOException {
+        out.flushBuffer();
+        if (out instanceof Cleanable) {
+            ((Cleanable) out).cleanup();
+        }
+    }
+
+    static void writeInt(OutputStream out, int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    static int readInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value = value << 8 | b;
+        }
+        return value;
+    }
+
+    static byte[] readBytes(InputStream in, int length) throws IOException {
+        if (length < 0 || length > in.available()) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = in.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    private static String getServiceName(RpcInvocation inv) {
         // https://github.com/apache/dubbo/issues/6138
         String serviceName = inv.getAttachment(INTERFACE_KEY);
         if (serviceName == null) {
             serviceName = inv.getAttachment(PATH_KEY);
         }
-        out.writeUTF(serviceName);
-        out.writeUTF(inv.getAttachment(VERSION_KEY));
+        return serviceName;
+    }
 
-        out.writeUTF(inv.getMethodName());
-        out.writeUTF(inv.getParameterTypesDesc());
+    private Object[] encodeInvocationArguments(Channel channel, RpcInvocation inv) throws IOException {
         Object[] args = inv.getArguments();
-        if (args != null) {
-            for (int i = 0; i < args.length; i++) {
-                out.writeObject(encodeInvocationArgument(channel, inv, i));
-            }
+        if (args == null || args.length == 0) {
+            return EMPTY_OBJECT_ARRAY;
         }
-        out.writeAttachments(inv.getObjectAttachments());
+        Object[] encoded = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            encoded[i] = encodeInvocationArgument(channel, inv, i);
+        }
+        return encoded;
     }
 
     @Override
@@ -42,6 +42,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.apache.dubbo.common.constants.CommonConstants.DEADLINE_ATTACHMENT_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_TIMEOUT;
 import static org.apache.dubbo.common.constants.CommonConstants.ENABLE_TIMEOUT_COUNTDOWN_KEY;
 import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
@@ -59,6 +60,11 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
 
     private final ExchangeClient[] clients;
 
+    /**
+     * the adaptive connections, used instead of {@link #clients} when set
+     */
+    private final ExchangeClientPool pool;
+
     private final AtomicPositiveInteger index = new AtomicPositiveInteger();
 
     private final String version;
@@ -72,8 +78,18 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
     }
 
     public DubboInvoker(Class<T> serviceType, URL url, ExchangeClient[] clients, Set<Invoker<?>> invokers) {
+        this(serviceType, url, clients, null, invokers);
+    }
+
+    DubboInvoker(Class<T> serviceType, URL url, ExchangeClientPool pool, Set<Invoker<?>> invokers) {
+        this(serviceType, url, new ExchangeClient[0], pool, invokers);
+    }
+
+    private DubboInvoker(Class<T> serviceType, URL url, ExchangeClient[] clients, ExchangeClientPool pool,
+                         Set<Invoker<?>> invokers) {
         super(serviceType, url, new String[]{INTERFACE_KEY, GROUP_KEY, TOKEN_KEY});
         this.clients = clients;
+        this.pool = pool;
         // get version.
         this.version = url.getParameter(VERSION_KEY, "0.0.0");
         this.invokers = invokers;
@@ -86,8 +102,12 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
         inv.setAttachment(PATH_KEY, getUrl().getPath());
         inv.setAttachment(VERSION_KEY, version);
 
+        ExchangeClientPool.PooledClient pooledClient = null;
         ExchangeClient currentClient;
-        if (clients.length == 1) {
+        if (pool != null) {
+            pooledClient = pool.select();
+            currentClient = pooledClient.client;
+        } else if (clients.length == 1) {
             currentClient = clients[0];
         } else {
             currentClient = clients[index.getAndIncrement() % clients.length];
@@ -101,8 +121,11 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
                 return AsyncRpcResult.newDefaultAsyncResult(invocation);
             } else {
                 ExecutorService executor = getCallbackExecutor(getUrl(), inv);
-                CompletableFuture<AppResponse> appResponseFuture =
-                        currentClient.request(inv, timeout, executor).thenApply(obj -> (AppResponse) obj);
+                CompletableFuture<Object> responseFuture = currentClient.request(inv, timeout, executor);
+                if (pooledClient != null) {
+                    pool.track(pooledClient, responseFuture);
+                }
+                CompletableFuture<AppResponse> appResponseFuture = responseFuture.thenApply(obj -> (AppResponse) obj);
                 // save for 2.6.x compatibility, for example, TraceFilter in Zipkin uses com.alibaba.xxx.FutureAdapter
                 FutureContext.getContext().setCompatibleFuture(appResponseFuture);
                 AsyncRpcResult result = new AsyncRpcResult(appResponseFuture, inv);
@@ -121,6 +144,9 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
         if (!super.isAvailable()) {
             return false;
         }
+        if (pool != null) {
+            return pool.isAvailable();
+        }
         for (ExchangeClient client : clients) {
             if (client.isConnected() && !client.hasAttribute(Constants.CHANNEL_ATTRIBUTE_READONLY_KEY)) {
                 //cannot write == not Available ?
@@ -148,6 +174,9 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
                 if (invokers != null) {
                     invokers.remove(this);
                 }
+                if (pool != null) {
+                    pool.destroy(ConfigurationUtils.getServerShutdownTimeout());
+                }
                 for (ExchangeClient client : clients) {
                     try {
                         client.close(ConfigurationUtils.getServerShutdownTimeout());
@@ -169,11 +198,14 @@ public class DubboInvoker<T> extends AbstractInvoker<T> {
             timeout = (int) RpcUtils.getTimeout(getUrl(), methodName, RpcContext.getContext(), DEFAULT_TIMEOUT);
             if (getUrl().getParameter(ENABLE_TIMEOUT_COUNTDOWN_KEY, false)) {
                 invocation.setObjectAttachment(TIMEOUT_ATTACHMENT_KEY, timeout); // pass timeout to remote server
+                invocation.setObjectAttachment(DEADLINE_ATTACHMENT_KEY, System.currentTimeMillis() + timeout);
             }
         } else {
             TimeoutCountDown timeoutCountDown = (TimeoutCountDown) countdown;
             timeout = (int) timeoutCountDown.timeRemaining(TimeUnit.MILLISECONDS);
             invocation.setObjectAttachment(TIMEOUT_ATTACHMENT_KEY, timeout);// pass timeout to remote server
+            // the deadline cascades to the calls made while serving a call
+            invocation.setObjectAttachment(DEADLINE_ATTACHMENT_KEY, System.currentTimeMillis() + timeout);
         }
         return timeout;
     }
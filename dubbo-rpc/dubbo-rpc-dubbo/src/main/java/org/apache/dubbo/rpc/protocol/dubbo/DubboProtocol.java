@@ -419,7 +419,9 @@ public class DubboProtocol extends AbstractProtocol {
         optimizeSerialization(url);
 
         // create rpc invoker.
-        DubboInvoker<T> invoker = new DubboInvoker<T>(serviceType, url, getClients(url), invokers);
+        DubboInvoker<T> invoker = ExchangeClientPool.isEnabled(url)
+                ? new DubboInvoker<T>(serviceType, url, new ExchangeClientPool(url, () -> initClient(url)), invokers)
+                : new DubboInvoker<T>(serviceType, url, getClients(url), invokers);
         invokers.add(invoker);
 
         return invoker;
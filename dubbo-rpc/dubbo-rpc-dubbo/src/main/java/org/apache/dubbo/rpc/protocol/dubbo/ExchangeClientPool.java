@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.config.ConfigurationUtils;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.remoting.Constants;
+import org.apache.dubbo.remoting.exchange.ExchangeClient;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.CONNECTIONS_INFLIGHT_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.CONNECTIONS_MAX_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.CONNECTIONS_MIN_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_CONNECTIONS_INFLIGHT;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_CONNECTIONS_MIN;
+
+/**
+ * The connections of an invoker when <code>connections.max</code> is set.
+ * <p>
+ * Each request goes to the writable connection with the fewest requests in flight. One more connection is
+ * opened, in the background, once a request finds more than <code>connections.inflight</code> requests on the
+ * connection it was given, or no writable connection at all. Every check period, one connection is retired if
+ * the peak of requests in flight since the last check would have fit into the remaining ones at half load.
+ */
+final class ExchangeClientPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeClientPool.class);
+
+    private static final long DEFAULT_CHECK_PERIOD = 5000;
+
+    /**
+     * times the checks and the retirements only, connections are opened and closed on {@link #CONNECTOR}
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new NamedThreadFactory("DubboClientPool", true));
+
+    private static final ExecutorService CONNECTOR = Executors.newCachedThreadPool(
+            new NamedThreadFactory("DubboClientPoolConnector", true));
+
+    private final Supplier<ExchangeClient> factory;
+
+    private final int min;
+
+    private final int max;
+
+    private final int maxInflight;
+
+    private final long checkPeriod;
+
+    private volatile PooledClient[] clients;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final AtomicInteger peakInflight = new AtomicInteger();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicBoolean growing = new AtomicBoolean();
+
+    private final ScheduledFuture<?> checkTask;
+
+    private volatile boolean destroyed;
+
+    ExchangeClientPool(URL url, Supplier<ExchangeClient> factory) {
+        this(url, factory, DEFAULT_CHECK_PERIOD);
+    }
+
+    ExchangeClientPool(URL url, Supplier<ExchangeClient> factory, long checkPeriod) {
+        this.factory = factory;
+        this.max = url.getParameter(CONNECTIONS_MAX_KEY, 1);
+        this.min = Math.max(1, Math.min(max, url.getParameter(CONNECTIONS_MIN_KEY, DEFAULT_CONNECTIONS_MIN)));
+        this.maxInflight = Math.max(1, url.getParameter(CONNECTIONS_INFLIGHT_KEY, DEFAULT_CONNECTIONS_INFLIGHT));
+        this.checkPeriod = checkPeriod;
+        PooledClient[] initial = new PooledClient[min];
+        for (int i = 0; i < min; i++) {
+            initial[i] = new PooledClient(factory.get());
+        }
+        this.clients = initial;
+        this.checkTask = SCHEDULER.scheduleWithFixedDelay(this::check, checkPeriod, checkPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    static boolean isEnabled(URL url) {
+        return url.getParameter(CONNECTIONS_MAX_KEY, 0) > 0;
+    }
+
+    PooledClient select() {
+        PooledClient[] current = clients;
+        if (current.length == 1) {
+            PooledClient only = current[0];
+            if (!only.client.isWritable() && only.client.isConnected()) {
+                grow();
+            }
+            return only;
+        }
+        // start from a different connection each time, so that ties do not all land on the first one
+        int start = (next.getAndIncrement() & Integer.MAX_VALUE) % current.length;
+        PooledClient best = null;
+        boolean bestWritable = false;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < current.length; i++) {
+            PooledClient candidate = current[(start + i) % current.length];
+            boolean writable = candidate.client.isWritable();
+            int load = candidate.inflight.get();
+            if (best == null || (writable && !bestWritable) || (writable == bestWritable && load < bestLoad)) {
+                best = candidate;
+                bestWritable = writable;
+                bestLoad = load;
+            }
+        }
+        if (!bestWritable && best.client.isConnected()) {
+            grow();
+        }
+        return best;
+    }
+
+    /**
+     * Counts the request sent through the given connection as in flight until its future completes.
+     */
+    void track(PooledClient pooled, CompletableFuture<?> future) {
+        int load = pooled.inflight.incrementAndGet();
+        peakInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+        future.whenComplete((result, t) -> {
+            pooled.inflight.decrementAndGet();
+            inflight.decrementAndGet();
+        });
+        if (load > maxInflight) {
+            grow();
+        }
+    }
+
+    boolean isAvailable() {
+        for (PooledClient pooled : clients) {
+            if (pooled.client.isConnected() && !pooled.client.hasAttribute(Constants.CHANNEL_ATTRIBUTE_READONLY_KEY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return clients.length;
+    }
+
+    void destroy(int timeout) {
+        PooledClient[] current;
+        synchronized (this) {
+            destroyed = true;
+            current = clients;
+        }
+        checkTask.cancel(false);
+        for (PooledClient pooled : current) {
+            close(pooled.client, timeout);
+        }
+    }
+
+    private void grow() {
+        if (destroyed || clients.length >= max || !growing.compareAndSet(false, true)) {
+            return;
+        }
+        CONNECTOR.execute(() -> {
+            try {
+                if (destroyed || clients.length >= max) {
+                    return;
+                }
+                ExchangeClient client = factory.get();
+                synchronized (this) {
+                    if (!destroyed) {
+                        PooledClient[] current = clients;
+                        PooledClient[] grown = Arrays.copyOf(current, current.length + 1);
+                        grown[current.length] = new PooledClient(client);
+                        clients = grown;
+                        return;
+                    }
+                }
+                close(client, 0);
+            } catch (Throwable t) {
+                logger.warn("Failed to open one more connection: " + t.getMessage(), t);
+            } finally {
+                growing.set(false);
+            }
+        });
+    }
+
+    private void check() {
+        int peak = peakInflight.getAndSet(inflight.get());
+        PooledClient retired = null;
+        synchronized (this) {
+            PooledClient[] current = clients;
+            if (!destroyed && current.length > min && peak <= (current.length - 1) * maxInflight / 2) {
+                retired = current[current.length - 1];
+                clients = Arrays.copyOf(current, current.length - 1);
+            }
+        }
+        if (retired != null) {
+            // a request may just have picked the connection, so it is closed one period later
+            ExchangeClient client = retired.client;
+            SCHEDULER.schedule(() -> CONNECTOR.execute(() -> close(client, ConfigurationUtils.getServerShutdownTimeout())),
+                    checkPeriod, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void close(ExchangeClient client, int timeout) {
+        try {
+            client.close(timeout);
+        } catch (Throwable t) {
+            logger.warn(t.getMessage(), t);
+        }
+    }
+
+    static final class PooledClient {
+
+        final ExchangeClient client;
+
+        final AtomicInteger inflight = new AtomicInteger();
+
+        PooledClient(ExchangeClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -156,6 +156,11 @@ final class LazyConnectExchangeClient implements ExchangeClient {
         }
     }
 
+    @Override
+    public boolean isWritable() {
+        return client == null || client.isWritable();
+    }
+
     @Override
     public InetSocketAddress getLocalAddress() {
         if (client == null) {
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo;
+
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.rpc.model.ServiceDescriptor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.dubbo.rpc.protocol.dubbo.DubboCodec.REQUEST_METHOD_DEFINE;
+import static org.apache.dubbo.rpc.protocol.dubbo.DubboCodec.REQUEST_METHOD_REF;
+
+/**
+ * The methods invoked over one connection, numbered so that a request can refer to its method by id.
+ * <p>
+ * The consumer hands out the ids. The first request of a method carries the id along with the full method
+ * description ({@link DubboCodec#REQUEST_METHOD_DEFINE}), the following ones only carry the id
+ * ({@link DubboCodec#REQUEST_METHOD_REF}). Both sides keep the table as an attribute of the connection, so it
+ * starts over with every new connection.
+ * <p>
+ * The id and the description precede the serialization streams of the body as plain bytes, for the provider to
+ * read them on the io thread without any serialization input: the id is a 4 bytes int, and each string of the
+ * description a 4 bytes length, -1 for null, followed by its UTF-8 bytes.
+ * <p>
+ * The codec touches the table from the io thread of the connection only, where requests are encoded and
+ * decoded in the order they are on the wire. Consumers do not use method ids over the transports that encode
+ * on the calling threads.
+ */
+final class MethodIdTable {
+
+    static final int MAX_METHODS = 1024;
+
+    private static final String ATTRIBUTE_KEY = MethodIdTable.class.getName();
+
+    /**
+     * consumer side, the methods by their description
+     */
+    private final Map<Method, Method> ids = new HashMap<>();
+
+    private final Method probe = new Method();
+
+    /**
+     * consumer side, the method of the request being encoded
+     */
+    private Method pending;
+
+    /**
+     * provider side, the methods by their id
+     */
+    private Method[] methods = new Method[16];
+
+    static MethodIdTable get(Channel channel) {
+        MethodIdTable table = find(channel);
+        if (table == null) {
+            table = new MethodIdTable();
+            channel.setAttribute(ATTRIBUTE_KEY, table);
+        }
+        return table;
+    }
+
+    static MethodIdTable find(Channel channel) {
+        return (MethodIdTable) channel.getAttribute(ATTRIBUTE_KEY);
+    }
+
+    /**
+     * Picks the id of the method of the request about to be encoded.
+     *
+     * @return {@link DubboCodec#REQUEST_METHOD_REF} if the peer knows the method already,
+     * {@link DubboCodec#REQUEST_METHOD_DEFINE} if the request has to define it, or 0 if the table is full
+     */
+    byte reserve(String dubboVersion, String path, String version, String methodName, String desc) {
+        probe.set(dubboVersion, path, version, methodName, desc);
+        Method method = ids.get(probe);
+        if (method == null) {
+            if (ids.size() >= MAX_METHODS) {
+                return 0;
+            }
+            method = new Method();
+            method.set(dubboVersion, path, version, methodName, desc);
+            method.id = ids.size();
+            ids.put(method, method);
+        }
+        pending = method;
+        return method.defined ? REQUEST_METHOD_REF : REQUEST_METHOD_DEFINE;
+    }
+
+    /**
+     * Called once the request of the reserved method is encoded, or failed to encode. A definition only counts
+     * once its frame is complete, otherwise the method is defined again by the next request.
+     */
+    void release(boolean encoded) {
+        if (pending != null) {
+            if (encoded) {
+                pending.defined = true;
+            }
+            pending = null;
+        }
+    }
+
+    /**
+     * Writes the id of the reserved method, followed by its description if the request defines it.
+     */
+    void writePending(OutputStream out, byte layout) throws IOException {
+        DubboCodec.writeInt(out, pending.id);
+        if ((layout & REQUEST_METHOD_DEFINE) != 0) {
+            writeString(out, pending.dubboVersion);
+            writeString(out, pending.path);
+            writeString(out, pending.version);
+            writeString(out, pending.methodName);
+            writeString(out, pending.desc);
+        }
+    }
+
+    /**
+     * Reads what {@link #writePending} wrote, and defines the method if the request does.
+     */
+    Method read(InputStream in, byte layout) throws IOException {
+        int id = DubboCodec.readInt(in);
+        if ((layout & REQUEST_METHOD_DEFINE) != 0) {
+            Method method = new Method();
+            method.set(readString(in), readString(in), readString(in), readString(in), readString(in));
+            define(id, method);
+            return method;
+        }
+        Method method = lookup(id);
+        if (method == null) {
+            throw new IOException("Unknown method id " + id);
+        }
+        return method;
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            DubboCodec.writeInt(out, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        DubboCodec.writeInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = DubboCodec.readInt(in);
+        return length < 0 ? null : new String(DubboCodec.readBytes(in, length), UTF_8);
+    }
+
+    void define(int id, Method method) {
+        if (id < 0 || id >= MAX_METHODS) {
+            throw new IllegalArgumentException("Method id " + id + " out of range");
+        }
+        if (id >= methods.length) {
+            methods = Arrays.copyOf(methods, Math.min(MAX_METHODS, Math.max(methods.length << 1, id + 1)));
+        }
+        method.id = id;
+        methods[id] = method;
+    }
+
+    Method lookup(int id) {
+        return id >= 0 && id < methods.length ? methods[id] : null;
+    }
+
+    static final class Method {
+
+        String dubboVersion;
+
+        String path;
+
+        String version;
+
+        String methodName;
+
+        String desc;
+
+        int id;
+
+        /**
+         * consumer side, whether the peer has been sent the definition
+         */
+        boolean defined;
+
+        /**
+         * provider side, the parameter types of the method as resolved by the first request using it
+         */
+        volatile Resolution resolution;
+
+        void set(String dubboVersion, String path, String version, String methodName, String desc) {
+            this.dubboVersion = dubboVersion;
+            this.path = path;
+            this.version = version;
+            this.methodName = methodName;
+            this.desc = desc;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Method)) {
+                return false;
+            }
+            Method that = (Method) o;
+            return Objects.equals(methodName, that.methodName)
+                    && Objects.equals(desc, that.desc)
+                    && Objects.equals(path, that.path)
+                    && Objects.equals(version, that.version)
+                    && Objects.equals(dubboVersion, that.dubboVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Objects.hashCode(path);
+            h = 31 * h + Objects.hashCode(methodName);
+            h = 31 * h + Objects.hashCode(desc);
+            h = 31 * h + Objects.hashCode(version);
+            return 31 * h + Objects.hashCode(dubboVersion);
+        }
+    }
+
+    static final class Resolution {
+
+        /**
+         * the service the types were resolved against, they are stale once it is replaced
+         */
+        final ServiceDescriptor service;
+
+        final Class<?>[] parameterTypes;
+
+        final Type[] returnTypes;
+
+        Resolution(ServiceDescriptor service, Class<?>[] parameterTypes, Type[] returnTypes) {
+            this.service = service;
+            this.parameterTypes = parameterTypes;
+            this.returnTypes = returnTypes;
+        }
+    }
+}
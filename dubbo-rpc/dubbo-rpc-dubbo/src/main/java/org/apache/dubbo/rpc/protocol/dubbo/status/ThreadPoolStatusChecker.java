@@ -22,6 +22,7 @@ import org.apache.dubbo.common.extension.ExtensionLoader;
 import org.apache.dubbo.common.status.Status;
 import org.apache.dubbo.common.status.StatusChecker;
 import org.apache.dubbo.common.store.DataStore;
+import org.apache.dubbo.common.threadpool.support.virtual.VirtualThreadExecutor;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +60,23 @@ public class ThreadPoolStatusChecker implements StatusChecker {
                 msg.append("Pool status:").append(lvl).append(", max:").append(tp.getMaximumPoolSize()).append(", core:")
                         .append(tp.getCorePoolSize()).append(", largest:").append(tp.getLargestPoolSize()).append(", active:")
                         .append(tp.getActiveCount()).append(", task:").append(tp.getTaskCount()).append(", service port: ").append(port);
+            } else if (executor instanceof VirtualThreadExecutor) {
+                VirtualThreadExecutor vt = (VirtualThreadExecutor) executor;
+                boolean ok = vt.getActiveCount() < vt.getMaximumConcurrency() - 1;
+                Status.Level lvl = Status.Level.OK;
+                if (!ok) {
+                    level = Status.Level.WARN;
+                    lvl = Status.Level.WARN;
+                }
+
+                if (msg.length() > 0) {
+                    msg.append(";");
+                }
+                msg.append("Pool status:").append(lvl).append(", max:").append(vt.getMaximumConcurrency())
+                        .append(", largest:").append(vt.getLargestActiveCount()).append(", active:")
+                        .append(vt.getActiveCount()).append(", task:").append(vt.getTaskCount()).append(", rejected:")
+                        .append(vt.getRejectedCount()).append(", virtual:").append(vt.isVirtual())
+                        .append(", service port: ").append(port);
             }
         }
         return msg.length() == 0 ? new Status(Status.Level.UNKNOWN) : new Status(level, msg.toString());
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.exchange.ExchangeClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ExchangeClientPoolTest {
+
+    private final List<ExchangeClient> opened = new ArrayList<>();
+
+    private ExchangeClientPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.destroy(0);
+        }
+    }
+
+    @Test
+    public void testSelectLeastLoaded() {
+        pool = newPool("dubbo://localhost:20880?connections.max=3&connections.min=3", 60000);
+        Assertions.assertEquals(3, pool.size());
+
+        ExchangeClientPool.PooledClient first = pool.select();
+        pool.track(first, new CompletableFuture<>());
+        ExchangeClientPool.PooledClient second = pool.select();
+        Assertions.assertNotSame(first, second);
+        pool.track(second, new CompletableFuture<>());
+        ExchangeClientPool.PooledClient third = pool.select();
+        Assertions.assertNotSame(first, third);
+        Assertions.assertNotSame(second, third);
+    }
+
+    @Test
+    public void testSelectAvoidsUnwritable() {
+        pool = newPool("dubbo://localhost:20880?connections.max=2&connections.min=2", 60000);
+        when(opened.get(0).isWritable()).thenReturn(false);
+        pool.track(pool.select(), new CompletableFuture<>());
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertSame(opened.get(1), pool.select().client);
+        }
+    }
+
+    @Test
+    public void testGrowAndShrink() throws Exception {
+        pool = newPool("dubbo://localhost:20880?connections.max=2&connections.inflight=1", 100);
+        Assertions.assertEquals(1, pool.size());
+
+        CompletableFuture<Object> a = new CompletableFuture<>();
+        CompletableFuture<Object> b = new CompletableFuture<>();
+        pool.track(pool.select(), a);
+        pool.track(pool.select(), b);
+        await(() -> pool.size() == 2);
+        Assertions.assertEquals(2, opened.size());
+
+        a.complete(null);
+        b.complete(null);
+        await(() -> pool.size() == 1);
+        verify(opened.get(1), timeout(5000)).close(anyInt());
+    }
+
+    @Test
+    public void testEnabledByMaxConnections() {
+        Assertions.assertTrue(ExchangeClientPool.isEnabled(URL.valueOf("dubbo://localhost:20880?connections.max=4")));
+        Assertions.assertFalse(ExchangeClientPool.isEnabled(URL.valueOf("dubbo://localhost:20880?connections=4")));
+    }
+
+    private ExchangeClientPool newPool(String url, long checkPeriod) {
+        return new ExchangeClientPool(URL.valueOf(url), () -> {
+            ExchangeClient client = mock(ExchangeClient.class);
+            when(client.isConnected()).thenReturn(true);
+            when(client.isWritable()).thenReturn(true);
+            synchronized (opened) {
+                opened.add(client);
+            }
+            return client;
+        }, checkPeriod);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo.decode;
+
+import org.apache.dubbo.common.utils.ReflectUtils;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.buffer.ChannelBuffer;
+import org.apache.dubbo.remoting.buffer.ChannelBuffers;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboCodec;
+import org.apache.dubbo.rpc.protocol.dubbo.support.DemoService;
+
+import java.io.IOException;
+
+/**
+ * The {@link DemoService#getSize(String[])} requests the decode tests run through the codec.
+ */
+final class DemoRequests {
+
+    private DemoRequests() {
+    }
+
+    /**
+     * @return an invocation of the arguments, tagged <code>tag-</code> followed by the first one
+     */
+    static RpcInvocation getSize(String... args) {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName("getSize");
+        invocation.setParameterTypes(new Class[]{String[].class});
+        invocation.setParameterTypesDesc(ReflectUtils.getDesc(new Class[]{String[].class}));
+        invocation.setArguments(new Object[]{args});
+        invocation.setAttachment("path", DemoService.class.getName());
+        invocation.setAttachment("interface", DemoService.class.getName());
+        invocation.setAttachment("version", "0.0.0");
+        invocation.setAttachment("tag", "tag-" + args[0]);
+        return invocation;
+    }
+
+    static byte[] encode(Channel channel, RpcInvocation invocation) throws IOException {
+        Request request = new Request();
+        request.setVersion("2.0.2");
+        request.setData(invocation);
+
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer(1024);
+        new DubboCodec().encode(channel, buffer, request);
+        byte[] frame = new byte[buffer.readableBytes()];
+        buffer.readBytes(frame);
+        return frame;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo.decode;
+
+import org.apache.dubbo.remoting.buffer.ChannelBuffers;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.protocol.dubbo.DecodeableRpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboCodec;
+import org.apache.dubbo.rpc.protocol.dubbo.support.DemoService;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class DubboCompactAttachmentsTest {
+
+    private static final String CONSUMER_URL = "dubbo://localhost:20880?side=consumer&attachments.compact=true";
+
+    private static final String PROVIDER_URL = "dubbo://localhost:20880?side=provider&attachments.compact=true";
+
+    private final DubboCodec codec = new DubboCodec();
+
+    @BeforeAll
+    public static void setup() {
+        ApplicationModel.getServiceRepository().registerService(DemoService.class);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testKeysAreSentOncePerConnection() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        AttributeChannel provider = new AttributeChannel(PROVIDER_URL);
+
+        byte[] first = encode(consumer, "a");
+        byte[] second = encode(consumer, "b");
+        Assertions.assertEquals(DubboCodec.REQUEST_COMPACT_ATTACHMENTS, first[3]);
+        Assertions.assertEquals(DubboCodec.REQUEST_COMPACT_ATTACHMENTS, second[3]);
+        Assertions.assertTrue(second.length < first.length);
+
+        assertDecoded(decode(provider, first), "a");
+        assertDecoded(decode(provider, second), "b");
+    }
+
+    @Test
+    public void testCombinedWithOtherLayouts() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL + "&method.id=true&decode.lazy=true");
+        AttributeChannel provider = new AttributeChannel(PROVIDER_URL + "&decode.in.io=true");
+
+        byte[] first = encode(consumer, "a");
+        byte[] second = encode(consumer, "b");
+        Assertions.assertEquals(DubboCodec.REQUEST_COMPACT_ATTACHMENTS | DubboCodec.REQUEST_METHOD_DEFINE
+                | DubboCodec.REQUEST_ATTACHMENTS_FIRST, first[3]);
+        Assertions.assertEquals(DubboCodec.REQUEST_COMPACT_ATTACHMENTS | DubboCodec.REQUEST_METHOD_REF
+                | DubboCodec.REQUEST_ATTACHMENTS_FIRST, second[3]);
+
+        assertDecoded(decode(provider, first), "a");
+        assertDecoded(decode(provider, second), "b");
+    }
+
+    @Test
+    public void testInterleavedFramesKeepTheirAttachments() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        AttributeChannel provider = new AttributeChannel(PROVIDER_URL);
+
+        // the io thread reads the heads of both frames before a worker decodes the rest, the second one first
+        Request first = decode(provider, encode(consumer, "a"));
+        Request second = decode(provider, encode(consumer, "b"));
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> {
+                assertDecoded(second, "b");
+                return null;
+            }).get();
+            worker.submit(() -> {
+                assertDecoded(first, "a");
+                return null;
+            }).get();
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnknownKeyBreaksRequest() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        encode(consumer, "a");
+        byte[] frame = encode(consumer, "b");
+
+        Request request = decode(new AttributeChannel(PROVIDER_URL), frame);
+        Assertions.assertTrue(request.isBroken());
+    }
+
+    @Test
+    public void testKeysAreSentAgainAfterFailedEncode() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL + "&payload=16");
+        Assertions.assertThrows(IOException.class, () -> encode(consumer, "a"));
+
+        consumer.url = consumer.url.removeParameter("payload");
+        assertDecoded(decode(new AttributeChannel(PROVIDER_URL), encode(consumer, "b")), "b");
+    }
+
+    @Test
+    public void testLegacyLayoutOverTransportEncodingOnCallingThreads() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL + "&client=netty3");
+        encode(consumer, "a");
+        byte[] frame = encode(consumer, "b");
+        Assertions.assertEquals(0, frame[3]);
+        assertDecoded(decode(new AttributeChannel(PROVIDER_URL), frame), "b");
+    }
+
+    private static void assertDecoded(Request request, String arg) throws Exception {
+        Assertions.assertFalse(request.isBroken());
+        DecodeableRpcInvocation inv = (DecodeableRpcInvocation) request.getData();
+        inv.decode();
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals(DemoService.class.getName(), inv.getAttachment("path"));
+        Assertions.assertEquals("0.0.0", inv.getAttachment("version"));
+        Assertions.assertEquals("tag-" + arg, inv.getAttachment("tag"));
+        Assertions.assertEquals("中文-" + arg, inv.getAttachment("text"));
+        Assertions.assertEquals(3, inv.getObjectAttachment("count"));
+        Assertions.assertArrayEquals(new Object[]{new String[]{arg}}, inv.getArguments());
+    }
+
+    private Request decode(AttributeChannel channel, byte[] frame) throws IOException {
+        return (Request) codec.decode(channel, ChannelBuffers.wrappedBuffer(frame));
+    }
+
+    private static byte[] encode(AttributeChannel channel, String arg) throws IOException {
+        RpcInvocation invocation = DemoRequests.getSize(arg);
+        invocation.setAttachment("text", "中文-" + arg);
+        invocation.setObjectAttachment("count", 3);
+        return DemoRequests.encode(channel, invocation);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo.decode;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.protocol.dubbo.DecodeableRpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboCodec;
+import org.apache.dubbo.rpc.protocol.dubbo.support.DemoService;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class DubboLazyDecodeTest {
+
+    private static final int HEADER_LENGTH = 16;
+
+    @BeforeAll
+    public static void setup() {
+        ApplicationModel.getServiceRepository().registerService(DemoService.class);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testAttachmentsFirstLayout() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=consumer&decode.lazy=true"));
+        Assertions.assertEquals(DubboCodec.REQUEST_ATTACHMENTS_FIRST, frame[3]);
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = decodeBody(frame, frame.length, request);
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals("tag-a", inv.getAttachment("tag"));
+        Assertions.assertEquals(DemoService.class.getName() + ":0.0.0", inv.getTargetServiceUniqueName());
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, inv.getArguments());
+    }
+
+    @Test
+    public void testArgumentsAreNotDecodedBeforeAccess() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=consumer&decode.lazy=true"));
+
+        // cut the arguments, which are at the end of the body, off the frame
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = decodeBody(frame, frame.length - 4, request);
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals("tag-a", inv.getAttachment("tag"));
+    }
+
+    @Test
+    public void testDeferredArgumentsOutliveOtherDecodes() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=consumer&decode.lazy=true"));
+        byte[] other = DemoRequests.encode(urlChannel("dubbo://localhost:20880?side=consumer&decode.lazy=true"),
+                DemoRequests.getSize("c"));
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = decodeBody(frame, frame.length, request);
+        // the same thread decodes another request before the arguments of the first are accessed
+        DecodeableRpcInvocation otherInv = decodeBody(other, other.length, new Request(2));
+        Assertions.assertArrayEquals(new Object[]{new String[]{"c"}}, otherInv.getArguments());
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, inv.getArguments());
+    }
+
+    @Test
+    public void testProviderSideKeepsLegacyLayout() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=provider&decode.lazy=true"));
+        Assertions.assertEquals(0, frame[3]);
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), request,
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length)), (byte) (frame[2] & 0x1f));
+        inv.decode();
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals("tag-a", inv.getAttachment("tag"));
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, inv.getArguments());
+    }
+
+    @Test
+    public void testServicePathIsReadAhead() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=provider"));
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), request,
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length)), (byte) (frame[2] & 0x1f));
+        Assertions.assertEquals(DemoService.class.getName(), inv.getServicePath());
+        Assertions.assertEquals("getSize", inv.getServiceMethodName());
+        inv.decode();
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals("getSize", inv.getMethodName());
+        Assertions.assertEquals("tag-a", inv.getAttachment("tag"));
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, inv.getArguments());
+        Assertions.assertEquals(DemoService.class.getName(), inv.getServicePath());
+        Assertions.assertEquals("getSize", inv.getServiceMethodName());
+    }
+
+    @Test
+    public void testServicePathsReadAheadOfInterleavedDecodes() throws Exception {
+        Channel channel = urlChannel("dubbo://localhost:20880?side=provider");
+        DecodeableRpcInvocation first = readAhead(DemoRequests.encode(channel, DemoRequests.getSize("a")));
+        DecodeableRpcInvocation second = readAhead(DemoRequests.encode(channel, DemoRequests.getSize("b")));
+
+        // the io thread reads the heads of both before a worker decodes the rest, the second one first
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> {
+                second.decode();
+                return null;
+            }).get();
+            worker.submit(() -> {
+                first.decode();
+                return null;
+            }).get();
+        } finally {
+            worker.shutdown();
+        }
+        Assertions.assertEquals("tag-a", first.getAttachment("tag"));
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a"}}, first.getArguments());
+        Assertions.assertEquals("tag-b", second.getAttachment("tag"));
+        Assertions.assertArrayEquals(new Object[]{new String[]{"b"}}, second.getArguments());
+    }
+
+    @Test
+    public void testPriorityAndTimeoutFromAttachments() throws Exception {
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=provider"), "7", "3000");
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), request,
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length)), (byte) (frame[2] & 0x1f));
+        // the attachments follow the arguments, and no provider configures the method
+        Assertions.assertEquals(0, inv.getPriority());
+        Assertions.assertEquals(0, inv.getTimeout());
+        inv.decode();
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals(7, inv.getPriority());
+        Assertions.assertEquals(3000, inv.getTimeout());
+    }
+
+    @Test
+    public void testPriorityReadAheadOfInterleavedDecodes() throws Exception {
+        Channel channel = urlChannel("dubbo://localhost:20880?side=provider");
+        byte[] firstFrame = encode(channel, "7", "3000");
+        byte[] secondFrame = encode(channel, "8", "4000");
+        DecodeableRpcInvocation first = new DecodeableRpcInvocation(new MockChannel(), new Request(1),
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(firstFrame, HEADER_LENGTH, firstFrame.length)),
+                (byte) (firstFrame[2] & 0x1f));
+        DecodeableRpcInvocation second = new DecodeableRpcInvocation(new MockChannel(), new Request(2),
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(secondFrame, HEADER_LENGTH, secondFrame.length)),
+                (byte) (secondFrame[2] & 0x1f));
+
+        // both are queued before a worker decodes them, the second one first
+        Assertions.assertEquals(0, first.getPriority());
+        Assertions.assertEquals(0, first.getTimeout());
+        Assertions.assertEquals(0, second.getPriority());
+        Assertions.assertEquals(0, second.getTimeout());
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> {
+                second.decode();
+                return null;
+            }).get();
+            worker.submit(() -> {
+                first.decode();
+                return null;
+            }).get();
+        } finally {
+            worker.shutdown();
+        }
+        Assertions.assertEquals(7, first.getPriority());
+        Assertions.assertEquals(3000, first.getTimeout());
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, first.getArguments());
+        Assertions.assertEquals(8, second.getPriority());
+        Assertions.assertEquals(4000, second.getTimeout());
+        Assertions.assertArrayEquals(new Object[]{new String[]{"a", "b"}}, second.getArguments());
+    }
+
+    @Test
+    public void testDeadlineDecodesTheInvocation() throws Exception {
+        long deadline = System.currentTimeMillis() + 60000;
+        byte[] frame = encode(urlChannel("dubbo://localhost:20880?side=provider"), null, null, deadline);
+
+        Request request = new Request(1);
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), request,
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length)), (byte) (frame[2] & 0x1f));
+        Assertions.assertEquals(deadline, inv.getDeadline());
+        Assertions.assertEquals("tag-a", inv.getAttachment("tag"));
+        int timeout = inv.getTimeout();
+        Assertions.assertTrue(timeout > 50000 && timeout <= 60000);
+    }
+
+    private static DecodeableRpcInvocation readAhead(byte[] frame) {
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), new Request(1),
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length)), (byte) (frame[2] & 0x1f));
+        Assertions.assertEquals(DemoService.class.getName(), inv.getServicePath());
+        Assertions.assertEquals("getSize", inv.getServiceMethodName());
+        return inv;
+    }
+
+    private static DecodeableRpcInvocation decodeBody(byte[] frame, int end, Request request) throws Exception {
+        DecodeableRpcInvocation inv = new DecodeableRpcInvocation(new MockChannel(), request,
+                new UnsafeByteArrayInputStream(Arrays.copyOfRange(frame, HEADER_LENGTH, end)),
+                (byte) (frame[2] & 0x1f), true, true);
+        inv.decode();
+        return inv;
+    }
+
+    private static byte[] encode(Channel channel) throws Exception {
+        return encode(channel, null, null, 0);
+    }
+
+    private static byte[] encode(Channel channel, String priority, String timeout) throws Exception {
+        return encode(channel, priority, timeout, 0);
+    }
+
+    private static byte[] encode(Channel channel, String priority, String timeout, long deadline) throws Exception {
+        RpcInvocation invocation = DemoRequests.getSize("a", "b");
+        if (priority != null) {
+            invocation.setAttachment("priority", priority);
+            invocation.setAttachment("timeout", timeout);
+        }
+        if (deadline > 0) {
+            invocation.setObjectAttachment("_DL", deadline);
+        }
+        return DemoRequests.encode(channel, invocation);
+    }
+
+    private static Channel urlChannel(String url) {
+        return new MockChannel() {
+            @Override
+            public URL getUrl() {
+                return URL.valueOf(url);
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo.decode;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.buffer.ChannelBuffers;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.protocol.dubbo.DecodeableRpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboCodec;
+import org.apache.dubbo.rpc.protocol.dubbo.support.DemoService;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class DubboMethodIdTest {
+
+    private static final String CONSUMER_URL = "dubbo://localhost:20880?side=consumer&method.id=true";
+
+    private static final String PROVIDER_URL = "dubbo://localhost:20880?side=provider&method.id=true";
+
+    private final DubboCodec codec = new DubboCodec();
+
+    @BeforeAll
+    public static void setup() {
+        ApplicationModel.getServiceRepository().registerService(DemoService.class);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testMethodIsDescribedOncePerConnection() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        AttributeChannel provider = new AttributeChannel(PROVIDER_URL);
+
+        byte[] first = encode(consumer, "a");
+        byte[] second = encode(consumer, "b");
+        Assertions.assertEquals(DubboCodec.REQUEST_METHOD_DEFINE, first[3]);
+        Assertions.assertEquals(DubboCodec.REQUEST_METHOD_REF, second[3]);
+        Assertions.assertTrue(second.length < first.length);
+
+        assertDecoded(decode(provider, first), "a");
+        assertDecoded(decode(provider, second), "b");
+    }
+
+    @Test
+    public void testInterleavedFramesKeepTheirArguments() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        AttributeChannel provider = new AttributeChannel(PROVIDER_URL);
+
+        // the io thread reads the heads of both frames before a worker decodes the rest, the second one first
+        Request first = decode(provider, encode(consumer, "a"));
+        Request second = decode(provider, encode(consumer, "b"));
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> {
+                assertDecoded(second, "b");
+                return null;
+            }).get();
+            worker.submit(() -> {
+                assertDecoded(first, "a");
+                return null;
+            }).get();
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnknownMethodIdBreaksRequest() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL);
+        encode(consumer, "a");
+        byte[] reference = encode(consumer, "b");
+
+        Request request = decode(new AttributeChannel(PROVIDER_URL), reference);
+        Assertions.assertTrue(request.isBroken());
+    }
+
+    @Test
+    public void testMethodIsDefinedAgainAfterFailedEncode() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL + "&payload=16");
+        Assertions.assertThrows(IOException.class, () -> encode(consumer, "a"));
+
+        consumer.url = URL.valueOf(CONSUMER_URL);
+        byte[] frame = encode(consumer, "b");
+        Assertions.assertEquals(DubboCodec.REQUEST_METHOD_DEFINE, frame[3]);
+        assertDecoded(decode(new AttributeChannel(PROVIDER_URL), frame), "b");
+    }
+
+    @Test
+    public void testLegacyLayoutWithoutProviderSwitch() throws Exception {
+        AttributeChannel consumer = new AttributeChannel("dubbo://localhost:20880?side=consumer");
+        encode(consumer, "a");
+        byte[] frame = encode(consumer, "b");
+        Assertions.assertEquals(0, frame[3]);
+        assertDecoded(decode(new AttributeChannel("dubbo://localhost:20880?side=provider"), frame), "b");
+    }
+
+    @Test
+    public void testLegacyLayoutOverTransportEncodingOnCallingThreads() throws Exception {
+        AttributeChannel consumer = new AttributeChannel(CONSUMER_URL + "&client=netty3");
+        encode(consumer, "a");
+        byte[] frame = encode(consumer, "b");
+        Assertions.assertEquals(0, frame[3]);
+        assertDecoded(decode(new AttributeChannel(PROVIDER_URL), frame), "b");
+    }
+
+    private static void assertDecoded(Request request, String arg) throws Exception {
+        Assertions.assertFalse(request.isBroken());
+        DecodeableRpcInvocation inv = (DecodeableRpcInvocation) request.getData();
+        inv.decode();
+        Assertions.assertFalse(request.isBroken());
+        Assertions.assertEquals("getSize", inv.getMethodName());
+        Assertions.assertEquals(DemoService.class.getName(), inv.getAttachment("path"));
+        Assertions.assertEquals("tag-" + arg, inv.getAttachment("tag"));
+        Assertions.assertArrayEquals(new Class<?>[]{String[].class}, inv.getParameterTypes());
+        Assertions.assertArrayEquals(new Object[]{new String[]{arg}}, inv.getArguments());
+    }
+
+    private Request decode(AttributeChannel channel, byte[] frame) throws IOException {
+        return (Request) codec.decode(channel, ChannelBuffers.wrappedBuffer(frame));
+    }
+
+    private static byte[] encode(AttributeChannel channel, String arg) throws IOException {
+        return DemoRequests.encode(channel, DemoRequests.getSize(arg));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.rpc.protocol.dubbo.decode;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.buffer.ChannelBuffers;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.ChannelHandlerAdapter;
+import org.apache.dubbo.remoting.transport.dispatcher.smart.SmartChannelHandler;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.protocol.dubbo.DecodeableRpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboCodec;
+import org.apache.dubbo.rpc.protocol.dubbo.support.DemoService;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The requests {@link SmartChannelHandler} dispatches to the thread pool, whose method it reads on the io thread.
+ */
+public class DubboSmartDispatchTest {
+
+    private final DubboCodec codec = new DubboCodec();
+
+    private final BlockingQueue<DecodeableRpcInvocation> decoded = new LinkedBlockingQueue<>();
+
+    @BeforeAll
+    public static void setup() {
+        ApplicationModel.getServiceRepository().registerService(DemoService.class);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        ApplicationModel.getServiceRepository().destroy();
+    }
+
+    @Test
+    public void testPooledRequestsBackToBack() throws Exception {
+        AttributeChannel consumer = new AttributeChannel("dubbo://localhost:20880?side=consumer");
+        AttributeChannel provider = new AttributeChannel("dubbo://localhost:20880?side=provider");
+        SmartChannelHandler handler = new SmartChannelHandler(new ChannelHandlerAdapter() {
+            @Override
+            public void received(Channel channel, Object message) {
+                DecodeableRpcInvocation inv = (DecodeableRpcInvocation) ((Request) message).getData();
+                try {
+                    inv.decode();
+                } catch (Exception e) {
+                    // decode() marks the request broken rather than throw
+                }
+                decoded.add(inv);
+            }
+        }, URL.valueOf("test://127.0.0.1:20890"));
+
+        handler.received(provider, decode(provider, DemoRequests.encode(consumer, DemoRequests.getSize("a"))));
+        handler.received(provider, decode(provider, DemoRequests.encode(consumer, DemoRequests.getSize("b"))));
+
+        Set<String> args = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            DecodeableRpcInvocation inv = decoded.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(inv);
+            String arg = ((String[]) inv.getArguments()[0])[0];
+            Assertions.assertEquals("tag-" + arg, inv.getAttachment("tag"));
+            args.add(arg);
+        }
+        Assertions.assertEquals(2, args.size());
+    }
+
+    private Request decode(AttributeChannel channel, byte[] frame) throws Exception {
+        return (Request) codec.decode(channel, ChannelBuffers.wrappedBuffer(frame));
+    }
+}